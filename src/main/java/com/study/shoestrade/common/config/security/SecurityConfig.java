@@ -72,6 +72,8 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                 // ProductController
                 .antMatchers(HttpMethod.GET, "/products").permitAll()
                 .antMatchers(HttpMethod.GET, "/products/*").permitAll()
+                .antMatchers(HttpMethod.GET, "/products/*/chart").permitAll()
+                .antMatchers(HttpMethod.GET, "/products/*/ticker").permitAll()
                 .antMatchers(HttpMethod.POST, "/products").hasRole("ADMIN")
                 .antMatchers(HttpMethod.DELETE, "/products/*").hasRole("ADMIN")
                 .antMatchers(HttpMethod.POST, "/products/*").hasRole("ADMIN")
@@ -1,6 +1,5 @@
 package com.study.shoestrade.controller;
 
-import com.siot.IamportRestClient.exception.IamportResponseException;
 import com.study.shoestrade.common.response.ResponseService;
 import com.study.shoestrade.common.result.Result;
 import com.study.shoestrade.common.result.SingleResult;
@@ -8,23 +7,32 @@ import com.study.shoestrade.domain.trade.TradeState;
 import com.study.shoestrade.dto.address.response.AddressListResponseDto;
 import com.study.shoestrade.dto.interest.response.MyInterest;
 import com.study.shoestrade.dto.member.response.MemberDetailDto;
+import com.study.shoestrade.dto.product.response.ProductDetailCacheStatsDto;
+import com.study.shoestrade.dto.product.response.ProductImportStatusDto;
 import com.study.shoestrade.dto.admin.PageMemberDto;
 import com.study.shoestrade.dto.trade.response.TradeBreakdownCountDto;
+import com.study.shoestrade.dto.trade.response.TradeCommandQueueStatsDto;
 import com.study.shoestrade.dto.trade.response.TradeLoadDto;
 import com.study.shoestrade.service.admin.AdminService;
 import com.study.shoestrade.service.interest.InterestService;
 import com.study.shoestrade.service.member.MemberService;
+import com.study.shoestrade.service.product.cache.ProductDetailCache;
+import com.study.shoestrade.service.product.importer.ProductImportService;
 import com.study.shoestrade.service.trade.TradeService;
+import com.study.shoestrade.service.trade.command.TradeCommandQueue;
 import io.swagger.annotations.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.lang.Nullable;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RequiredArgsConstructor
 @RestController
@@ -37,6 +45,9 @@ public class AdminController {
     private final InterestService interestService;
     private final TradeService tradeService;
     private final ResponseService responseService;
+    private final TradeCommandQueue tradeCommandQueue;
+    private final ProductDetailCache productDetailCache;
+    private final ProductImportService productImportService;
 
     @ApiOperation(value = "회원 리스트 조회", notes = "회원의 전체 목록이 조회합니다.")
     @ApiResponses({
@@ -168,8 +179,56 @@ public class AdminController {
     })
     @PostMapping("/trades/{tradeId}")
     @ResponseStatus(HttpStatus.OK)
-    public Result changeTradeState(@PathVariable("tradeId") Long tradeId, @RequestBody TradeState tradeState) throws IamportResponseException, IOException {
-        adminService.changeTradeState(tradeId, tradeState);
-        return responseService.getSuccessResult();
+    public CompletableFuture<Result> changeTradeState(@PathVariable("tradeId") Long tradeId, @RequestBody TradeState tradeState) {
+        return tradeCommandQueue.submitByTrade(tradeId, () -> {
+            adminService.changeTradeState(tradeId, tradeState);
+            return responseService.getSuccessResult();
+        });
+    }
+
+    @ApiOperation(value = "거래 명령 대기열 조회", notes = "상품별 거래 명령 대기열의 파티션별 대기 명령 수와 처리 시간을 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "거래 명령 대기열 조회 정상 처리")
+    })
+    @GetMapping("/trades/queue")
+    @ResponseStatus(HttpStatus.OK)
+    public SingleResult<List<TradeCommandQueueStatsDto>> getTradeCommandQueueStats() {
+        return responseService.getSingleResult(tradeCommandQueue.findStats());
+    }
+
+    @ApiOperation(value = "상품 상세 캐시 조회", notes = "상품 상세 캐시의 적중, 누락, 제거 수와 크기를 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "상품 상세 캐시 조회 정상 처리")
+    })
+    @GetMapping("/products/cache")
+    @ResponseStatus(HttpStatus.OK)
+    public SingleResult<ProductDetailCacheStatsDto> getProductDetailCacheStats() {
+        return responseService.getSingleResult(productDetailCache.stats());
+    }
+
+    @ApiOperation(value = "상품 일괄 등록", notes = "JSON, CSV 파일의 상품을 일괄 등록합니다. 작업 id 로 진행 상황을 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(code = 202, message = "상품 일괄 등록 시작")
+    })
+    @ApiImplicitParams({
+            @ApiImplicitParam(name = "file", value = "상품 파일 (json : 상품 배열, csv : korName, engName, code, color, releasePrice, brandId, imageList 헤더)", dataTypeClass = MultipartFile.class)
+    })
+    @PostMapping(value = "/products/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public SingleResult<ProductImportStatusDto> importProducts(@RequestPart MultipartFile file) {
+        return responseService.getSingleResult(productImportService.startImport(file));
+    }
+
+    @ApiOperation(value = "상품 일괄 등록 조회", notes = "상품 일괄 등록 작업의 진행 상황과 실패한 상품을 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "상품 일괄 등록 조회 정상 처리")
+    })
+    @ApiImplicitParams({
+            @ApiImplicitParam(name = "jobId", value = "일괄 등록 작업 id", dataTypeClass = String.class)
+    })
+    @GetMapping("/products/import/{jobId}")
+    @ResponseStatus(HttpStatus.OK)
+    public SingleResult<ProductImportStatusDto> getProductImport(@PathVariable String jobId) {
+        return responseService.getSingleResult(productImportService.findImport(jobId));
     }
 }
@@ -8,6 +8,8 @@ import com.study.shoestrade.dto.brand.BrandDto;
 import com.study.shoestrade.dto.interest.request.InterestProductRequestDto;
 import com.study.shoestrade.dto.interest.response.InterestProductResponseDto;
 import com.study.shoestrade.dto.interest.response.MyInterest;
+import com.study.shoestrade.dto.interest.response.MyInterestSliceDto;
+import com.study.shoestrade.dto.interest.response.PriceAlertDto;
 import com.study.shoestrade.service.interest.InterestService;
 import io.swagger.annotations.*;
 import lombok.RequiredArgsConstructor;
@@ -70,6 +72,24 @@ public class InterestController {
         return responseService.getSingleResult(responseDto);
     }
 
+    @ApiOperation(value = "마이페이지에서 관심 상품 커서 조회", notes = "마이페이지에서 등록된 관심 상품 목록을 최근 등록 순으로 커서 단위로 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "마이페이지에서 관심 상품 커서 조회 정상 처리")
+    })
+    @ApiImplicitParams({
+            @ApiImplicitParam(name = "email", value = "로그인된 사용자 이메일", dataTypeClass = String.class, paramType = "header"),
+            @ApiImplicitParam(name = "cursor", value = "이전 응답의 nextCursor (첫 페이지면 생략)", dataTypeClass = Long.class),
+            @ApiImplicitParam(name = "size", value = "페이지 크기", dataTypeClass = Integer.class)
+    })
+    @GetMapping("/member/interests/cursor")
+    @ResponseStatus(HttpStatus.OK)
+    public SingleResult<MyInterestSliceDto> getMyWishListByCursor(@LoginMember String email,
+                                                                  @RequestParam(value = "cursor", required = false) Long cursor,
+                                                                  @RequestParam(value = "size", defaultValue = "10") int size){
+        MyInterestSliceDto responseDto = interestService.getMyWishList(email, cursor, Math.max(1, Math.min(size, 100)));
+        return responseService.getSingleResult(responseDto);
+    }
+
     @ApiOperation(value = "마이페이지에서 관심 상품 삭제", notes = "마이페이지에서 등록된 관심 상품 삭제합니다.")
     @ApiResponses({
             @ApiResponse(code = 200, message = "마이페이지에서 관심 상품 삭제 정상 처리")
@@ -85,4 +105,18 @@ public class InterestController {
         return responseService.getSuccessResult();
     }
 
+    @ApiOperation(value = "마이페이지에서 가격 하락 알림 보기", notes = "관심 상품 사이즈의 즉시 구매가가 낮아졌을 때 받은 알림을 최신순으로 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "마이페이지에서 가격 하락 알림 보기 정상 처리")
+    })
+    @ApiImplicitParams({
+            @ApiImplicitParam(name = "email", value = "로그인된 사용자 이메일", dataTypeClass = String.class, paramType = "header")
+    })
+    @GetMapping("/member/alerts")
+    @ResponseStatus(HttpStatus.OK)
+    public SingleResult<Page<PriceAlertDto>> getMyPriceAlerts(@LoginMember String email, @PageableDefault(size = 10) Pageable pageable){
+        Page<PriceAlertDto> responseDto = interestService.getMyPriceAlerts(email, pageable);
+        return responseService.getSingleResult(responseDto);
+    }
+
 }
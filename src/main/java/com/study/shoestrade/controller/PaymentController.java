@@ -8,12 +8,14 @@ import com.study.shoestrade.common.result.SingleResult;
 import com.study.shoestrade.dto.payment.request.PaymentRequestDto;
 import com.study.shoestrade.dto.payment.request.PaymentVerifyRequestDto;
 import com.study.shoestrade.service.payment.PaymentService;
+import com.study.shoestrade.service.trade.command.TradeCommandQueue;
 import io.swagger.annotations.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/payments")
@@ -23,6 +25,7 @@ public class PaymentController {
 
     private final ResponseService responseService;
     private final PaymentService paymentService;
+    private final TradeCommandQueue tradeCommandQueue;
 
     @ApiOperation(value = "결제 정보 생성", notes = "결제 정보를 생성합니다.")
     @ApiResponses({
@@ -34,9 +37,11 @@ public class PaymentController {
     })
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public SingleResult<String> createPayment(@LoginMember String email, @RequestBody PaymentRequestDto requestDto){
-        String orderId = paymentService.createPayment(email, requestDto);
-        return responseService.getSingleResult(orderId);
+    public CompletableFuture<SingleResult<String>> createPayment(@LoginMember String email, @RequestBody PaymentRequestDto requestDto){
+        return tradeCommandQueue.submitByTrade(requestDto.getTradeId(), () -> {
+            String orderId = paymentService.createPayment(email, requestDto);
+            return responseService.getSingleResult(orderId);
+        });
     }
 
     @ApiOperation(value = "결제 정보 검증", notes = "결제 정보를 검증합니다.")
@@ -5,21 +5,33 @@ import com.study.shoestrade.common.result.Result;
 import com.study.shoestrade.common.result.SingleResult;
 import com.study.shoestrade.dto.product.request.ProductSaveDto;
 import com.study.shoestrade.dto.product.ProductImageAddDto;
+import com.study.shoestrade.dto.product.request.ProductFacetSearchDto;
 import com.study.shoestrade.dto.product.request.ProductSearchDto;
 import com.study.shoestrade.dto.product.response.ProductDetailDto;
+import com.study.shoestrade.dto.product.response.ProductFacetResultDto;
 import com.study.shoestrade.dto.product.response.ProductLoadDto;
+import com.study.shoestrade.dto.product.response.TypeaheadDto;
+import com.study.shoestrade.dto.trade.response.PriceCandleDto;
 import com.study.shoestrade.dto.trade.response.TradeDoneDto;
+import com.study.shoestrade.dto.trade.response.TradeDoneSliceDto;
 import com.study.shoestrade.dto.trade.response.TradeLoadDto;
 import com.study.shoestrade.dto.trade.response.TradeTransactionDto;
 import com.study.shoestrade.service.product.ProductService;
+import com.study.shoestrade.service.trade.PriceChartService;
 import com.study.shoestrade.service.trade.TradeService;
+import com.study.shoestrade.service.trade.ticker.TickerService;
 import io.swagger.annotations.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -31,6 +43,8 @@ public class ProductController {
     private final ResponseService responseService;
     private final ProductService productService;
     private final TradeService tradeService;
+    private final PriceChartService priceChartService;
+    private final TickerService tickerService;
 
     @ApiOperation(value = "상품 등록", notes = "상품을 등록합니다.")
     @ApiResponses({
@@ -73,6 +87,33 @@ public class ProductController {
         return responseService.getSingleResult(productService.findProductByNameInBrand(productSearchDto, pageable));
     }
 
+    @ApiOperation(value = "상품 필터 검색", notes = "브랜드, 판매 입찰이 있는 사이즈, 즉시 구매가, 발매가로 상품을 검색하고 필터별 상품 수를 함께 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "상품 필터 검색 정상 처리")
+    })
+    @ApiImplicitParams({
+            @ApiImplicitParam(name = "productFacetSearchDto", value = "검색할 상품 정보 (상품이름, 브랜드 id, 사이즈 리스트, 즉시 구매가, 발매가 범위)", dataTypeClass = ProductFacetSearchDto.class)
+    })
+    @GetMapping("/facets")
+    @ResponseStatus(HttpStatus.OK)
+    public SingleResult<ProductFacetResultDto> findProductByFacet(@RequestBody ProductFacetSearchDto productFacetSearchDto, Pageable pageable) {
+        return responseService.getSingleResult(productService.findProductByFacet(productFacetSearchDto, pageable));
+    }
+
+    @ApiOperation(value = "상품 자동완성", notes = "입력 중인 검색어(한글, 초성, 영어)로 시작하는 상품, 브랜드를 인기순으로 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "상품 자동완성 정상 처리")
+    })
+    @ApiImplicitParams({
+            @ApiImplicitParam(name = "keyword", value = "입력 중인 검색어", dataTypeClass = String.class),
+            @ApiImplicitParam(name = "size", value = "결과 수 (최대 10)", dataTypeClass = Integer.class)
+    })
+    @GetMapping("/autocomplete")
+    @ResponseStatus(HttpStatus.OK)
+    public SingleResult<List<TypeaheadDto>> autocomplete(@RequestParam String keyword, @RequestParam(defaultValue = "10") int size) {
+        return responseService.getSingleResult(productService.autocomplete(keyword, size));
+    }
+
     @ApiOperation(value = "상품 정보 수정", notes = "상품 정보를 수정합니다.")
     @ApiResponses({
             @ApiResponse(code = 200, message = "상품 정보 수정 정상 처리")
@@ -157,6 +198,58 @@ public class ProductController {
         return responseService.getSingleResult(tradeService.findDoneTrade(productId, pageable));
     }
 
+    @ApiOperation(value = "상품의 체결 거래 내역 커서 조회", notes = "상품의 체결 거래 내역을 최근 순으로 커서 단위로 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "상품의 체결 거래 내역 커서 조회 정상 처리")
+    })
+    @ApiImplicitParams({
+            @ApiImplicitParam(name = "productId", value = "상품 id", dataTypeClass = Long.class),
+            @ApiImplicitParam(name = "cursor", value = "이전 응답의 nextCursor (첫 페이지면 생략)", dataTypeClass = String.class),
+            @ApiImplicitParam(name = "size", value = "페이지 크기", dataTypeClass = Integer.class),
+            @ApiImplicitParam(name = "count", value = "전체 체결 수 조회 여부", dataTypeClass = Boolean.class),
+    })
+    @GetMapping("/{productId}/trades/done/cursor")
+    @ResponseStatus(HttpStatus.OK)
+    public SingleResult<TradeDoneSliceDto> findDoneTradeByCursor(@PathVariable("productId") Long productId,
+                                                                 @RequestParam(value = "cursor", required = false) @Nullable String cursor,
+                                                                 @RequestParam(value = "size", defaultValue = "20") int size,
+                                                                 @RequestParam(value = "count", defaultValue = "false") boolean count) {
+        return responseService.getSingleResult(tradeService.findDoneTrade(productId, cursor, Math.max(1, Math.min(size, 100)), count));
+    }
+
+    @ApiOperation(value = "상품의 시세 차트 조회", notes = "상품(또는 사이즈)의 기간별 시가, 고가, 저가, 종가, 거래량을 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "상품의 시세 차트 조회 정상 처리")
+    })
+    @ApiImplicitParams({
+            @ApiImplicitParam(name = "productId", value = "상품 id", dataTypeClass = Long.class),
+            @ApiImplicitParam(name = "resolution", value = "봉 단위(1h, 1d, 1w)", dataTypeClass = String.class),
+            @ApiImplicitParam(name = "productSizeId", value = "상품 사이즈 id (생략하면 전체 사이즈)", dataTypeClass = Long.class),
+            @ApiImplicitParam(name = "from", value = "시작 시각 (생략하면 최근 200개 봉)", dataTypeClass = String.class),
+            @ApiImplicitParam(name = "to", value = "끝 시각 (생략하면 현재)", dataTypeClass = String.class),
+    })
+    @GetMapping("/{productId}/chart")
+    @ResponseStatus(HttpStatus.OK)
+    public SingleResult<List<PriceCandleDto>> findChart(@PathVariable("productId") Long productId,
+                                                        @RequestParam(value = "resolution", defaultValue = "1d") String resolution,
+                                                        @RequestParam(value = "productSizeId", required = false) @Nullable Long productSizeId,
+                                                        @RequestParam(value = "from", required = false) @Nullable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                        @RequestParam(value = "to", required = false) @Nullable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return responseService.getSingleResult(priceChartService.findChart(productId, productSizeId, resolution, from, to));
+    }
+
+    @ApiOperation(value = "상품의 실시간 시세 구독", notes = "상품의 즉시 구매가, 즉시 판매가, 최근 체결가, 가격별 입찰 수량 변경을 SSE로 전송합니다.")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "상품의 실시간 시세 구독 정상 처리")
+    })
+    @ApiImplicitParams({
+            @ApiImplicitParam(name = "productId", value = "상품 id", dataTypeClass = Long.class),
+    })
+    @GetMapping(value = "/{productId}/ticker", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeTicker(@PathVariable("productId") Long productId) {
+        return tickerService.subscribe(productId);
+    }
+
     @ApiOperation(value = "상품의 입찰 내역 조회", notes = "상품의 입찰(판매, 구매) 내역을 조회합니다.")
     @ApiResponses({
             @ApiResponse(code = 200, message = "상품의 입찰 내역 조회 정상 처리")
@@ -164,11 +257,16 @@ public class ProductController {
     @ApiImplicitParams({
             @ApiImplicitParam(name = "productId", value = "상품 id", dataTypeClass = Long.class),
             @ApiImplicitParam(name = "tradeState", value = "입찰 타입(sell, purchase)", dataTypeClass = String.class),
+            @ApiImplicitParam(name = "afterSize", value = "이전 페이지 마지막 사이즈 (다음 페이지 조회 시)", dataTypeClass = Integer.class),
+            @ApiImplicitParam(name = "afterPrice", value = "이전 페이지 마지막 가격 (다음 페이지 조회 시)", dataTypeClass = Integer.class),
     })
     @GetMapping("/{productId}/trades/{tradeState}")
     @ResponseStatus(HttpStatus.OK)
-    public SingleResult<Page<TradeTransactionDto>> findTransactionTrade(@PathVariable("productId") Long productId, @PathVariable("tradeState") String tradeState, Pageable pageable) {
-        return responseService.getSingleResult(tradeService.findTransactionTrade(productId, tradeState, pageable));
+    public SingleResult<Page<TradeTransactionDto>> findTransactionTrade(@PathVariable("productId") Long productId, @PathVariable("tradeState") String tradeState,
+                                                                        @RequestParam(value = "afterSize", required = false) Integer afterSize,
+                                                                        @RequestParam(value = "afterPrice", required = false) Integer afterPrice,
+                                                                        Pageable pageable) {
+        return responseService.getSingleResult(tradeService.findTransactionTrade(productId, tradeState, afterSize, afterPrice, pageable));
     }
 
     @ApiOperation(value = "상품의 즉시 거래가 조회", notes = "상품의 즉시 거래가를 조회합니다.")
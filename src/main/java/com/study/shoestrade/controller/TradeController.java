@@ -4,11 +4,14 @@ import com.study.shoestrade.common.annotation.LoginMember;
 import com.study.shoestrade.common.response.ResponseService;
 import com.study.shoestrade.common.result.Result;
 import com.study.shoestrade.common.result.SingleResult;
+import com.study.shoestrade.dto.trade.request.TradeBatchDto;
 import com.study.shoestrade.dto.trade.request.TradeDto;
+import com.study.shoestrade.dto.trade.response.TradeBatchResultDto;
 import com.study.shoestrade.dto.trade.response.TradeBreakdownCountDto;
 import com.study.shoestrade.dto.trade.response.TradeLoadDto;
 import com.study.shoestrade.service.member.MailService;
 import com.study.shoestrade.service.trade.TradeService;
+import com.study.shoestrade.service.trade.command.TradeCommandQueue;
 import io.swagger.annotations.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -16,6 +19,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 
 @RestController
 @RequestMapping("/trades")
@@ -27,6 +33,8 @@ public class TradeController {
 
     private final TradeService tradeService;
 
+    private final TradeCommandQueue tradeCommandQueue;
+
     @ApiOperation(value = "(구매, 판매)입찰 등록", notes = "입찰을 등록합니다.")
     @ApiResponses({
             @ApiResponse(code = 201, message = "입찰 등록 정상 처리")
@@ -37,9 +45,26 @@ public class TradeController {
     })
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public Result salesTradeSave(@LoginMember String email, @RequestBody TradeDto tradeDto) {
-        tradeService.TradeSave(email, tradeDto);
-        return responseService.getSuccessResult();
+    public CompletableFuture<Result> salesTradeSave(@LoginMember String email, @RequestBody TradeDto tradeDto) {
+        return tradeCommandQueue.submitByProductSize(tradeDto.getProductSizeId(), () -> {
+            tradeService.TradeSave(email, tradeDto);
+            return responseService.getSuccessResult();
+        });
+    }
+
+    @ApiOperation(value = "(구매, 판매)입찰 일괄 등록", notes = "여러 사이즈의 입찰을 한 번에 등록하고 입찰별 결과를 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(code = 201, message = "입찰 일괄 등록 정상 처리"),
+            @ApiResponse(code = 400, message = "입찰 목록이 비었거나 한 번에 등록할 수 있는 개수(100개)를 넘음")
+    })
+    @ApiImplicitParams({
+            @ApiImplicitParam(name = "email", value = "로그인된 사용자 이메일", dataTypeClass = String.class, paramType = "header"),
+            @ApiImplicitParam(name = "tradeBatchDto", value = "등록할 입찰 목록", dataTypeClass = TradeBatchDto.class),
+    })
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    public SingleResult<List<TradeBatchResultDto>> saveTrades(@LoginMember String email, @RequestBody TradeBatchDto tradeBatchDto) {
+        return responseService.getSingleResult(tradeService.saveTrades(email, tradeBatchDto));
     }
 
     @ApiOperation(value = "회원의 전체 거래 내역 수 조회", notes = "회원 본인이 등록한 전체 거래 내역 수를 조회합니다.")
@@ -82,9 +107,11 @@ public class TradeController {
     })
     @PostMapping("/{tradeId}/price")
     @ResponseStatus(HttpStatus.OK)
-    public Result updateTrade(@LoginMember String email, @PathVariable("tradeId") Long tradeId, @RequestBody TradeDto tradeDto) {
-        tradeService.updateTrade(email, tradeId, tradeDto);
-        return responseService.getSuccessResult();
+    public CompletableFuture<Result> updateTrade(@LoginMember String email, @PathVariable("tradeId") Long tradeId, @RequestBody TradeDto tradeDto) {
+        return tradeCommandQueue.submitByTrade(tradeId, () -> {
+            tradeService.updateTrade(email, tradeId, tradeDto);
+            return responseService.getSuccessResult();
+        });
     }
 
     @ApiOperation(value = "입찰 삭제", notes = "회원이 등록한 입찰을 삭제합니다.")
@@ -98,9 +125,11 @@ public class TradeController {
     })
     @DeleteMapping("/{tradeId}")
     @ResponseStatus(HttpStatus.OK)
-    public Result deleteTrade(@LoginMember String email, @PathVariable("tradeId") Long tradeId, @RequestBody TradeDto tradeDto) {
-        tradeService.deleteTrade(email, tradeDto);
-        return responseService.getSuccessResult();
+    public CompletableFuture<Result> deleteTrade(@LoginMember String email, @PathVariable("tradeId") Long tradeId, @RequestBody TradeDto tradeDto) {
+        return tradeCommandQueue.submitByTrade(tradeDto.getId(), () -> {
+            tradeService.deleteTrade(email, tradeDto);
+            return responseService.getSuccessResult();
+        });
     }
 
     @ApiOperation(value = "즉시 판매 체결", notes = "구매 입찰에 올라온 거래에 판매 체결을 합니다.")
@@ -113,8 +142,10 @@ public class TradeController {
     })
     @PostMapping("/{tradeId}/sell")
     @ResponseStatus(HttpStatus.OK)
-    public Result sellTrade(@LoginMember String email, @PathVariable("tradeId") Long tradeId){
-        tradeService.sellTrade(email, tradeId);
-        return responseService.getSuccessResult();
+    public CompletableFuture<Result> sellTrade(@LoginMember String email, @PathVariable("tradeId") Long tradeId){
+        return tradeCommandQueue.submitByTrade(tradeId, () -> {
+            tradeService.sellTrade(email, tradeId);
+            return responseService.getSuccessResult();
+        });
     }
 }
@@ -12,6 +12,8 @@ import javax.persistence.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_interest_product_member_size", columnNames = {"member_id", "product_size_id"}),
+        indexes = @Index(name = "idx_interest_product_size_member", columnList = "product_size_id, member_id"))
 public class InterestProduct extends BaseEntity {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
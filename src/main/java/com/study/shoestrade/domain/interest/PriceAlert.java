@@ -0,0 +1,35 @@
+package com.study.shoestrade.domain.interest;
+
+import com.study.shoestrade.domain.BaseEntity;
+import com.study.shoestrade.domain.member.Member;
+import com.study.shoestrade.domain.product.ProductSize;
+import lombok.*;
+
+import javax.persistence.*;
+
+/**
+ * 관심 상품 사이즈의 즉시 구매가 하락 알림
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(indexes = @Index(name = "idx_price_alert_member", columnList = "member_id, price_alert_id"))
+public class PriceAlert extends BaseEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "price_alert_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id")
+    private Member member;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_size_id")
+    private ProductSize productSize;
+
+    // 알림 당시 즉시 구매가
+    private int price;
+}
@@ -0,0 +1,52 @@
+package com.study.shoestrade.domain.interest;
+
+import lombok.*;
+
+import javax.persistence.*;
+
+/**
+ * 마이페이지 관심 상품 목록 (조회용)
+ * 관심 상품 행마다 상품, 사이즈, 대표 이미지, 즉시 구매가를 미리 합쳐 두고 회원 id 와 관심 상품 id 순으로 읽음
+ * 관심 상품 등록/삭제, 상품/브랜드/이미지 변경은 같은 트랜잭션에서, 즉시 구매가는 호가창이 바뀐 상품만 주기마다 갱신
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "wishlist_item", indexes = {
+        @Index(name = "idx_wishlist_item_member", columnList = "member_id, interest_product_id"),
+        @Index(name = "idx_wishlist_item_product_size", columnList = "product_id, size"),
+        @Index(name = "idx_wishlist_item_brand", columnList = "brand_id")
+})
+public class WishlistItem {
+
+    // 관심 상품 id
+    @Id
+    @Column(name = "interest_product_id")
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "product_size_id", nullable = false)
+    private Long productSizeId;
+
+    @Column(name = "brand_id")
+    private Long brandId;
+
+    private String brandName;
+
+    private String productName;
+
+    private int size;
+
+    // 대표 이미지 이름
+    private String thumbnail;
+
+    // 즉시 구매가 (가장 낮은 판매 입찰가, 없으면 null)
+    private Integer lowestAsk;
+}
@@ -27,8 +27,15 @@ public class Product extends BaseEntity {
     private String code;
     private String color;
     private int releasePrice;
+
+    // 관심 상품 수, 등록 이후에는 InterestCounter 가 모아 둔 증감분을 JdbcRepository 로만 더함
+    @Column(updatable = false)
     private int interest;
 
+    // 대표 이미지 (가장 먼저 등록된 이미지) 이름, 이미지 등록/삭제 시 JdbcRepository 로만 변경
+    @Column(insertable = false, updatable = false)
+    private String thumbnail;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "brand_id")
     private Brand brand;
@@ -45,18 +52,9 @@ public class Product extends BaseEntity {
         this.code = productDto.getCode();
         this.color = productDto.getColor();
         this.releasePrice = productDto.getReleasePrice();
-        this.interest = productDto.getInterest();
     }
 
     public void changeProductBrand(Brand brand) {
         this.brand = brand;
     }
-
-    public void addInterest(int count){
-        this.interest += count;
-    }
-
-    public void subInterest(int count){
-        this.interest -= count;
-    }
 }
@@ -0,0 +1,39 @@
+package com.study.shoestrade.domain.product;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 상품별 시세 요약 (목록, 상세 조회용)
+ * 거래 완료, 호가창 변경 시 해당 상품의 행만 갱신
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "product_market_stats", indexes = @Index(name = "idx_product_market_stats_done_count", columnList = "done_count, product_id"))
+public class ProductMarketStats {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    // 완료된 거래 수
+    @Column(name = "done_count", nullable = false, columnDefinition = "bigint not null default 0")
+    private long doneCount;
+
+    // 즉시 구매가 (가장 낮은 판매 입찰가, 없으면 null)
+    private Integer lowestAsk;
+
+    // 즉시 판매가 (가장 높은 구매 입찰가, 없으면 null)
+    private Integer highestBid;
+
+    // 최근 거래가
+    private Integer lastPrice;
+
+    // 최근 거래 완료 날짜
+    private LocalDateTime lastTradeDate;
+}
@@ -0,0 +1,57 @@
+package com.study.shoestrade.domain.trade;
+
+import com.study.shoestrade.exception.trade.WrongResolutionException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+
+/**
+ * 시세 차트 봉 단위
+ */
+public enum CandleResolution {
+    HOUR("1h", ChronoUnit.HOURS),
+    DAY("1d", ChronoUnit.DAYS),
+    WEEK("1w", ChronoUnit.WEEKS);   // 월요일 시작
+
+    private final String code;
+    private final ChronoUnit unit;
+
+    CandleResolution(String code, ChronoUnit unit) {
+        this.code = code;
+        this.unit = unit;
+    }
+
+    public static CandleResolution of(String code) {
+        return Arrays.stream(values())
+                .filter(resolution -> resolution.code.equalsIgnoreCase(code))
+                .findFirst()
+                .orElseThrow(() -> new WrongResolutionException(code));
+    }
+
+    /**
+     * 시각이 속한 봉의 시작 시각
+     *
+     * @param time 시각
+     * @return 봉 시작 시각
+     */
+    public LocalDateTime bucketOf(LocalDateTime time) {
+        if (this == WEEK) {
+            return time.truncatedTo(ChronoUnit.DAYS).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        }
+        return time.truncatedTo(unit);
+    }
+
+    /**
+     * 봉 count개 이전 시각
+     *
+     * @param time  기준 시각
+     * @param count 봉 개수
+     * @return 이전 시각
+     */
+    public LocalDateTime minus(LocalDateTime time, long count) {
+        return time.minus(count, unit);
+    }
+}
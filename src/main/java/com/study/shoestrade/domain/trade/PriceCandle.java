@@ -0,0 +1,71 @@
+package com.study.shoestrade.domain.trade;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 상품(또는 사이즈)별 시가, 고가, 저가, 종가, 거래량
+ * 거래가 DONE 상태가 될 때 해당 봉에 누적
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_price_candle",
+        columnNames = {"product_id", "product_size_id", "resolution", "bucket_start"}))
+public class PriceCandle {
+
+    // 상품 전체 사이즈의 봉은 product_size_id = 0
+    public static final long ALL_SIZE = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "price_candle_id")
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "product_size_id", nullable = false)
+    private Long productSizeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "resolution", nullable = false)
+    private CandleResolution resolution;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    private int openPrice;
+    private int highPrice;
+    private int lowPrice;
+    private int closePrice;
+    private long volume;
+
+    /**
+     * 거래 한 건으로 만든 봉 (이미 있으면 기존 봉에 누적)
+     *
+     * @param productId     상품 id
+     * @param productSizeId 상품 사이즈 id
+     * @param resolution    봉 단위
+     * @param tradeDate     거래 완료 날짜
+     * @param price         거래가
+     * @return 봉
+     */
+    public static PriceCandle of(Long productId, Long productSizeId, CandleResolution resolution, LocalDateTime tradeDate, int price) {
+        return PriceCandle.builder()
+                .productId(productId)
+                .productSizeId(productSizeId)
+                .resolution(resolution)
+                .bucketStart(resolution.bucketOf(tradeDate))
+                .openPrice(price)
+                .highPrice(price)
+                .lowPrice(price)
+                .closePrice(price)
+                .volume(1)
+                .build();
+    }
+}
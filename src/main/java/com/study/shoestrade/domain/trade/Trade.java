@@ -13,6 +13,11 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
+@Table(indexes = {
+        @Index(name = "idx_trade_state_completion_date", columnList = "trade_state, trade_completion_date, trade_id"),
+        @Index(name = "idx_trade_size_state_completion_date", columnList = "product_size_id, trade_state, trade_completion_date, trade_id"),
+        @Index(name = "idx_trade_state_expire_date", columnList = "trade_state, expire_date")
+})
 public class Trade extends BaseEntity {
 
     @Id
@@ -23,6 +28,8 @@ public class Trade extends BaseEntity {
     private int price;
     private LocalDateTime tradeCompletionDate;
     private LocalDateTime claimDueDate;
+    // 입찰 만료 시각 (null이면 만료되지 않음)
+    private LocalDateTime expireDate;
 
     @Enumerated(EnumType.STRING)
     private TradeType tradeType;
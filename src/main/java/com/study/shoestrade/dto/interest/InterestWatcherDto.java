@@ -0,0 +1,13 @@
+package com.study.shoestrade.dto.interest;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InterestWatcherDto {
+    private Long memberId;
+    private Long productSizeId;
+}
@@ -1,6 +1,5 @@
 package com.study.shoestrade.dto.interest.response;
 
-import com.querydsl.core.annotations.QueryProjection;
 import io.swagger.annotations.ApiModelProperty;
 import lombok.*;
 
@@ -32,7 +31,6 @@ public class MyInterest {
     @ApiModelProperty(example = "이미지1.png", value = "상품 이미지 이름")
     private String imgName;
 
-    @QueryProjection
     public MyInterest(Long interestId, Long productId, Long productSizeId, String brand, String productName, int size, int price, String imgName) {
         this.interestId = interestId;
         this.productId = productId;
@@ -0,0 +1,25 @@
+package com.study.shoestrade.dto.interest.response;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MyInterestSliceDto {
+
+    @ApiModelProperty(value = "관심 상품 목록")
+    private List<MyInterest> content;
+
+    @ApiModelProperty(example = "120", value = "다음 페이지 커서 (마지막으로 읽은 관심 상품 id, 마지막 페이지면 null)")
+    private Long nextCursor;
+
+    @ApiModelProperty(example = "true", value = "다음 페이지 존재 여부")
+    private boolean hasNext;
+}
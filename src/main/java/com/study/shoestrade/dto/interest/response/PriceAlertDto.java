@@ -0,0 +1,34 @@
+package com.study.shoestrade.dto.interest.response;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceAlertDto {
+    @ApiModelProperty(example = "1", value = "알림 id")
+    private Long alertId;
+
+    @ApiModelProperty(example = "1", value = "상품 id")
+    private Long productId;
+
+    @ApiModelProperty(example = "1", value = "상품 사이즈 id")
+    private Long productSizeId;
+
+    @ApiModelProperty(example = "에어 맥스 97", value = "상품 이름")
+    private String productName;
+
+    @ApiModelProperty(example = "260", value = "상품 사이즈")
+    private int size;
+
+    @ApiModelProperty(example = "210000", value = "낮아진 즉시 구매가")
+    private int price;
+
+    @ApiModelProperty(value = "알림 날짜")
+    private LocalDateTime createdDate;
+}
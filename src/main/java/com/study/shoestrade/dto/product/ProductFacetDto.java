@@ -0,0 +1,17 @@
+package com.study.shoestrade.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductFacetDto {
+
+    private Long id;
+
+    private Long brandId;
+
+    private int releasePrice;
+}
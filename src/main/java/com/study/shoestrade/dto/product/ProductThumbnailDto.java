@@ -0,0 +1,15 @@
+package com.study.shoestrade.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductThumbnailDto {
+
+    private Long id;
+
+    private String thumbnail;
+}
@@ -0,0 +1,19 @@
+package com.study.shoestrade.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductTrendingDto {
+
+    private Long id;
+
+    // 관심 상품 수
+    private int interest;
+
+    // 완료된 거래 수 (거래 완료 시점부터 반감기마다 절반으로 감소)
+    private double doneScore;
+}
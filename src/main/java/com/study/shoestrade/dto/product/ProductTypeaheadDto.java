@@ -0,0 +1,29 @@
+package com.study.shoestrade.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductTypeaheadDto {
+
+    private Long id;
+
+    private String korName;
+
+    private String engName;
+
+    private Long brandId;
+
+    // 관심 상품 수
+    private int interest;
+
+    // 완료된 거래 수 (거래가 없으면 null)
+    private Long doneCount;
+
+    public long getPopularity() {
+        return interest + (doneCount == null ? 0 : doneCount);
+    }
+}
@@ -0,0 +1,37 @@
+package com.study.shoestrade.dto.product.request;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ProductFacetSearchDto {
+
+    @ApiModelProperty(example = "나이", value = "검색어(상품 이름)")
+    private String name;
+
+    @ApiModelProperty(example = "[1,2]", value = "브랜드 id 리스트")
+    @Builder.Default
+    private List<Long> brandIdList = new ArrayList<>();
+
+    @ApiModelProperty(example = "[250,255]", value = "판매 입찰이 있는 사이즈 리스트")
+    @Builder.Default
+    private List<Integer> sizeList = new ArrayList<>();
+
+    @ApiModelProperty(example = "100000", value = "즉시 구매가 최소")
+    private Integer minLowestAsk;
+
+    @ApiModelProperty(example = "300000", value = "즉시 구매가 최대")
+    private Integer maxLowestAsk;
+
+    @ApiModelProperty(example = "100000", value = "발매가 최소")
+    private Integer minReleasePrice;
+
+    @ApiModelProperty(example = "300000", value = "발매가 최대")
+    private Integer maxReleasePrice;
+}
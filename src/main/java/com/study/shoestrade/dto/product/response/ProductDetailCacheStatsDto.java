@@ -0,0 +1,38 @@
+package com.study.shoestrade.dto.product.response;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductDetailCacheStatsDto {
+
+    @ApiModelProperty(example = "120", value = "저장된 상품 수")
+    private int size;
+
+    @ApiModelProperty(example = "524288", value = "저장된 상품의 추정 크기(byte)")
+    private long weightBytes;
+
+    @ApiModelProperty(example = "8388608", value = "최대 크기(byte)")
+    private long maxWeightBytes;
+
+    @ApiModelProperty(example = "15230", value = "캐시 적중 수")
+    private long hits;
+
+    @ApiModelProperty(example = "310", value = "캐시 누락 수")
+    private long misses;
+
+    @ApiModelProperty(example = "250", value = "DB 조회 수 (동시에 누락된 요청은 한 번만 조회)")
+    private long loads;
+
+    @ApiModelProperty(example = "12", value = "크기 초과로 제거된 상품 수")
+    private long evictions;
+
+    @ApiModelProperty(example = "48", value = "변경으로 무효화된 상품 수")
+    private long invalidations;
+}
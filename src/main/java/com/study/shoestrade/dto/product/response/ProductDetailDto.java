@@ -32,4 +32,27 @@ public class ProductDetailDto extends ProductLoadDto {
         this.lastedPrice = lastedPrice;
         this.imSalesPrice = imSalesPrice;
     }
+
+    /**
+     * 관심 상품 수만 바꾼 복사본
+     *
+     * @param interest 관심 상품 수
+     * @return 복사본
+     */
+    public ProductDetailDto withInterest(int interest) {
+        return ProductDetailDto.builder()
+                .id(getId())
+                .korName(getKorName())
+                .engName(getEngName())
+                .code(getCode())
+                .color(getColor())
+                .releasePrice(getReleasePrice())
+                .imPurchasePrice(getImPurchasePrice())
+                .interest(interest)
+                .brandName(getBrandName())
+                .imageList(getImageList())
+                .lastedPrice(lastedPrice)
+                .imSalesPrice(imSalesPrice)
+                .build();
+    }
 }
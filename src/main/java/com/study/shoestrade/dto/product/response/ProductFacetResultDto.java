@@ -0,0 +1,23 @@
+package com.study.shoestrade.dto.product.response;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.*;
+import org.springframework.data.domain.Page;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ProductFacetResultDto {
+
+    @ApiModelProperty(value = "검색된 상품")
+    private Page<ProductLoadDto> products;
+
+    @ApiModelProperty(example = "{\"1\": 12, \"2\": 3}", value = "브랜드 id 별 상품 수 (브랜드 조건을 뺀 나머지 조건 적용)")
+    private Map<Long, Integer> brandCounts;
+
+    @ApiModelProperty(example = "{\"250\": 8, \"255\": 5}", value = "사이즈별 판매 입찰이 있는 상품 수 (사이즈 조건을 뺀 나머지 조건 적용)")
+    private Map<Integer, Integer> sizeCounts;
+}
@@ -0,0 +1,20 @@
+package com.study.shoestrade.dto.product.response;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.*;
+
+@Data
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ProductImportErrorDto {
+
+    @ApiModelProperty(example = "12", value = "파일의 상품 순번 (1부터 시작, CSV 는 헤더 제외)")
+    private long row;
+
+    @ApiModelProperty(example = "나이키 에어 맥스 97", value = "상품 한글 이름")
+    private String korName;
+
+    @ApiModelProperty(example = "이미 등록된 상품 이름입니다.", value = "실패 사유")
+    private String message;
+}
@@ -0,0 +1,47 @@
+package com.study.shoestrade.dto.product.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ProductImportStatusDto {
+
+    @ApiModelProperty(example = "0b7c6c1e-...", value = "일괄 등록 작업 id")
+    private String jobId;
+
+    @ApiModelProperty(example = "2022-fw.csv", value = "파일 이름")
+    private String fileName;
+
+    @ApiModelProperty(example = "RUNNING", value = "작업 상태 (RUNNING, DONE, FAILED)")
+    private String state;
+
+    @ApiModelProperty(example = "1500", value = "읽은 상품 수")
+    private long processedRows;
+
+    @ApiModelProperty(example = "1490", value = "등록된 상품 수")
+    private long importedRows;
+
+    @ApiModelProperty(example = "10", value = "실패한 상품 수")
+    private long failedRows;
+
+    @ApiModelProperty(example = "2022-03-22 12:31:23", value = "시작 시각")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss", timezone = "Asia/Seoul")
+    private LocalDateTime startedDate;
+
+    @ApiModelProperty(example = "2022-03-22 12:33:02", value = "종료 시각")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss", timezone = "Asia/Seoul")
+    private LocalDateTime finishedDate;
+
+    @ApiModelProperty(value = "파일 전체를 읽지 못한 경우 사유")
+    private String message;
+
+    @ApiModelProperty(value = "실패한 상품 (최대 1000개)")
+    private List<ProductImportErrorDto> errors;
+}
@@ -0,0 +1,23 @@
+package com.study.shoestrade.dto.product.response;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.*;
+
+@Data
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class TypeaheadDto {
+
+    @ApiModelProperty(example = "PRODUCT", value = "종류 (PRODUCT, BRAND)")
+    private String type;
+
+    @ApiModelProperty(example = "1", value = "상품 또는 브랜드 id")
+    private Long id;
+
+    @ApiModelProperty(example = "나이키 에어포스 1", value = "한글 이름")
+    private String korName;
+
+    @ApiModelProperty(example = "Nike Air Force 1", value = "영어 이름")
+    private String engName;
+}
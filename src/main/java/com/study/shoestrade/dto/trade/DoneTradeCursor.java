@@ -0,0 +1,38 @@
+package com.study.shoestrade.dto.trade;
+
+import com.study.shoestrade.exception.trade.WrongCursorException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 체결 거래 내역 커서
+ * 마지막으로 읽은 거래의 (거래 완료 날짜, 입찰 id)를 클라이언트가 해석할 수 없는 문자열로 주고받음
+ */
+@Getter
+@AllArgsConstructor
+public class DoneTradeCursor {
+
+    private static final String DELIMITER = "|";
+
+    private LocalDateTime tradeCompletionDate;
+    private Long tradeId;
+
+    public String encode() {
+        String value = tradeCompletionDate + DELIMITER + tradeId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static DoneTradeCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = value.indexOf(DELIMITER);
+            return new DoneTradeCursor(LocalDateTime.parse(value.substring(0, index)), Long.parseLong(value.substring(index + 1)));
+        } catch (RuntimeException e) {
+            throw new WrongCursorException(cursor, e);
+        }
+    }
+}
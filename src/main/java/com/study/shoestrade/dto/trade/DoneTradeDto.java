@@ -0,0 +1,25 @@
+package com.study.shoestrade.dto.trade;
+
+import com.study.shoestrade.dto.trade.response.TradeDoneDto;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class DoneTradeDto {
+    private Long tradeId;
+    private int size;
+    private int price;
+    private LocalDateTime tradeCompletionDate;
+
+    public DoneTradeCursor toCursor() {
+        return new DoneTradeCursor(tradeCompletionDate, tradeId);
+    }
+
+    public TradeDoneDto toResponse() {
+        return new TradeDoneDto(size, price, tradeCompletionDate);
+    }
+}
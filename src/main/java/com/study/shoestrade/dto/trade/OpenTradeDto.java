@@ -0,0 +1,35 @@
+package com.study.shoestrade.dto.trade;
+
+import com.study.shoestrade.domain.trade.Trade;
+import com.study.shoestrade.domain.trade.TradeState;
+import lombok.*;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OpenTradeDto {
+    private Long tradeId;
+    private Long productId;
+    private Long productSizeId;
+    private Long memberId;
+    private int size;
+    private int price;
+    private TradeState tradeState;
+
+    public static OpenTradeDto create(Trade trade) {
+        return OpenTradeDto.builder()
+                .tradeId(trade.getId())
+                .productId(trade.getProductSize().getProduct().getId())
+                .productSizeId(trade.getProductSize().getId())
+                .memberId(trade.getTradeState() == TradeState.SELL ? trade.getSeller().getId() : trade.getPurchaser().getId())
+                .size(trade.getProductSize().getSize())
+                .price(trade.getPrice())
+                .tradeState(trade.getTradeState())
+                .build();
+    }
+
+    public OpenTradeDto withPrice(int price) {
+        return new OpenTradeDto(tradeId, productId, productSizeId, memberId, size, price, tradeState);
+    }
+}
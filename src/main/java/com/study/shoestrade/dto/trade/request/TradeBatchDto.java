@@ -0,0 +1,15 @@
+package com.study.shoestrade.dto.trade.request;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class TradeBatchDto {
+    @ApiModelProperty(value = "등록할 입찰 목록 (사이즈별 가격, 입찰 타입)")
+    private List<TradeDto> trades;
+}
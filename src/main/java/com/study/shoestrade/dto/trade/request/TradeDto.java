@@ -21,4 +21,7 @@ public class TradeDto {
 
     @ApiModelProperty(example = "SELL", value = "입찰 타입(SELL, PURCHASE)")
     private TradeType tradeType;
+
+    @ApiModelProperty(example = "30", value = "입찰 유효 기간(일, 1 ~ 180), 생략하면 30일")
+    private Integer validDays;
 }
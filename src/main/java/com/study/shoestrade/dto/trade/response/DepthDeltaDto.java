@@ -0,0 +1,27 @@
+package com.study.shoestrade.dto.trade.response;
+
+import com.study.shoestrade.domain.trade.TradeState;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DepthDeltaDto {
+
+    @ApiModelProperty(example = "SELL", value = "입찰 상태(판매, 구매)")
+    private TradeState tradeState;
+
+    @ApiModelProperty(example = "250", value = "신발 사이즈")
+    private int size;
+
+    @ApiModelProperty(example = "120000", value = "입찰 가격")
+    private int price;
+
+    @ApiModelProperty(example = "3", value = "변경된 수량 (0이면 해당 가격의 입찰 없음)")
+    private long quantity;
+}
@@ -0,0 +1,36 @@
+package com.study.shoestrade.dto.trade.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PriceCandleDto {
+
+    @ApiModelProperty(example = "2022-03-22T00:00:00", value = "봉 시작 시각")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss", timezone = "Asia/Seoul")
+    private LocalDateTime time;
+
+    @ApiModelProperty(example = "120000", value = "시가")
+    private int open;
+
+    @ApiModelProperty(example = "135000", value = "고가")
+    private int high;
+
+    @ApiModelProperty(example = "118000", value = "저가")
+    private int low;
+
+    @ApiModelProperty(example = "130000", value = "종가")
+    private int close;
+
+    @ApiModelProperty(example = "12", value = "거래량")
+    private long volume;
+}
@@ -0,0 +1,40 @@
+package com.study.shoestrade.dto.trade.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TickerDto {
+
+    @ApiModelProperty(example = "1", value = "상품 id")
+    private Long productId;
+
+    @ApiModelProperty(value = "사이즈별 즉시 구매가 (가장 낮은 판매 입찰)")
+    private List<TradeLoadDto> bestAsks;
+
+    @ApiModelProperty(value = "사이즈별 즉시 판매가 (가장 높은 구매 입찰)")
+    private List<TradeLoadDto> bestBids;
+
+    @ApiModelProperty(example = "130000", value = "최근 체결가")
+    private Integer lastPrice;
+
+    @ApiModelProperty(example = "2022-03-22T12:31:23", value = "최근 체결 날짜")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss", timezone = "Asia/Seoul")
+    private LocalDateTime lastTradeDate;
+
+    @ApiModelProperty(example = "false", value = "true면 depth가 전체 호가, false면 이전 메시지 이후 변경분")
+    private boolean snapshot;
+
+    @ApiModelProperty(value = "가격별 입찰 수량")
+    private List<DepthDeltaDto> depth;
+}
@@ -0,0 +1,39 @@
+package com.study.shoestrade.dto.trade.response;
+
+import com.study.shoestrade.domain.trade.TradeType;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TradeBatchResultDto {
+
+    public enum Status {
+        CREATED,    // 입찰 등록
+        MATCHED,    // 기존 입찰과 바로 체결
+        FAILED      // 등록 실패
+    }
+
+    @ApiModelProperty(example = "1", value = "상품 사이즈 id")
+    private Long productSizeId;
+
+    @ApiModelProperty(example = "100000", value = "입찰 가격")
+    private int price;
+
+    @ApiModelProperty(example = "SELL", value = "입찰 타입(SELL, PURCHASE)")
+    private TradeType tradeType;
+
+    @ApiModelProperty(example = "CREATED", value = "처리 결과(CREATED, MATCHED, FAILED)")
+    private Status status;
+
+    @ApiModelProperty(example = "12", value = "등록된 입찰 id 또는 체결된 입찰 id")
+    private Long tradeId;
+
+    @ApiModelProperty(example = "해당 id의 신발사이즈를 찾을 수 없습니다.", value = "실패 사유")
+    private String message;
+}
@@ -0,0 +1,35 @@
+package com.study.shoestrade.dto.trade.response;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TradeCommandQueueStatsDto {
+
+    @ApiModelProperty(example = "0", value = "파티션 번호")
+    private int partition;
+
+    @ApiModelProperty(example = "12", value = "대기 중인 명령 수")
+    private int queueDepth;
+
+    @ApiModelProperty(example = "1520", value = "처리한 명령 수")
+    private long completed;
+
+    @ApiModelProperty(example = "3", value = "대기열이 가득 차 거절한 명령 수")
+    private long rejected;
+
+    @ApiModelProperty(example = "1.2", value = "평균 대기 시간(ms)")
+    private double avgWaitMillis;
+
+    @ApiModelProperty(example = "4.5", value = "평균 처리 시간(ms, 대기 포함)")
+    private double avgLatencyMillis;
+
+    @ApiModelProperty(example = "38.0", value = "최대 처리 시간(ms, 대기 포함)")
+    private double maxLatencyMillis;
+}
@@ -0,0 +1,28 @@
+package com.study.shoestrade.dto.trade.response;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TradeDoneSliceDto {
+
+    @ApiModelProperty(value = "체결 거래 내역")
+    private List<TradeDoneDto> content;
+
+    @ApiModelProperty(example = "MjAyMi0wMy0yMlQxMjozMToyM3wxMjM", value = "다음 페이지 커서 (마지막 페이지면 null)")
+    private String nextCursor;
+
+    @ApiModelProperty(example = "true", value = "다음 페이지 존재 여부")
+    private boolean hasNext;
+
+    @ApiModelProperty(example = "1520", value = "전체 체결 수 (요청한 경우에만)")
+    private Long totalCount;
+}
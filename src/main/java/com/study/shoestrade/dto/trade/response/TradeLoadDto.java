@@ -17,6 +17,9 @@ public class TradeLoadDto {
     @ApiModelProperty(example = "1", value = "입찰 id")
     private Long id;
 
+    @ApiModelProperty(example = "1", value = "상품 id")
+    private Long productId;
+
     @ApiModelProperty(example = "에어 맥스 98", value = "상품 한글 이름")
     private String productKorName;
 
@@ -38,14 +41,14 @@ public class TradeLoadDto {
 
     @Builder
     @QueryProjection
-    public TradeLoadDto(Long id, String productKorName, int size, int price, LocalDateTime tradeCompletionDate, TradeState tradeState, String image) {
+    public TradeLoadDto(Long id, Long productId, String productKorName, int size, int price, LocalDateTime tradeCompletionDate, TradeState tradeState) {
         this.id = id;
+        this.productId = productId;
         this.productKorName = productKorName;
         this.size = size;
         this.price = price;
         this.tradeCompletionDate = tradeCompletionDate;
         this.tradeState = tradeState;
-        this.image = image;
     }
 
     @QueryProjection
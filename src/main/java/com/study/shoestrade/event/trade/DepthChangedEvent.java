@@ -0,0 +1,19 @@
+package com.study.shoestrade.event.trade;
+
+import com.study.shoestrade.domain.trade.TradeState;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 호가창의 (사이즈, 가격) 단위 입찰 수량 변경
+ */
+@Getter
+@AllArgsConstructor
+public class DepthChangedEvent {
+    private Long productId;
+    private TradeState tradeState;
+    private int size;
+    private int price;
+    // 0이면 해당 가격의 입찰이 모두 사라짐
+    private long quantity;
+}
@@ -0,0 +1,17 @@
+package com.study.shoestrade.event.trade;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 새 판매 입찰 또는 판매 입찰 가격 수정으로 사이즈의 즉시 구매가가 낮아짐
+ */
+@Getter
+@AllArgsConstructor
+public class LowestAskDroppedEvent {
+    private Long productId;
+    private Long productSizeId;
+    private int size;
+    // 낮아진 즉시 구매가
+    private int price;
+}
@@ -0,0 +1,25 @@
+package com.study.shoestrade.event.trade;
+
+import com.study.shoestrade.domain.trade.Trade;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 거래 완료 (DONE)
+ */
+@Getter
+@AllArgsConstructor
+public class TradeCompletedEvent {
+    private Long tradeId;
+    private Long productId;
+    private Long productSizeId;
+    private int price;
+    private LocalDateTime tradeCompletionDate;
+
+    public static TradeCompletedEvent create(Trade trade) {
+        return new TradeCompletedEvent(trade.getId(), trade.getProductSize().getProduct().getId(),
+                trade.getProductSize().getId(), trade.getPrice(), trade.getTradeCompletionDate());
+    }
+}
@@ -17,9 +17,14 @@ import com.study.shoestrade.exception.product.*;
 import com.study.shoestrade.exception.token.ExpiredRefreshTokenException;
 import com.study.shoestrade.exception.token.InvalidRefreshTokenException;
 import com.study.shoestrade.exception.token.TokenNotFoundException;
+import com.study.shoestrade.exception.trade.TradeAlreadyClaimedException;
+import com.study.shoestrade.exception.trade.TradeCommandRejectedException;
 import com.study.shoestrade.exception.trade.TradeEmptyResultDataAccessException;
 import com.study.shoestrade.exception.trade.TradeNotCompletedException;
+import com.study.shoestrade.exception.trade.WrongCursorException;
+import com.study.shoestrade.exception.trade.WrongResolutionException;
 import com.study.shoestrade.exception.trade.WrongStateException;
+import com.study.shoestrade.exception.trade.WrongTradeBatchException;
 import com.study.shoestrade.exception.trade.WrongTradeTypeException;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
@@ -278,4 +283,46 @@ public class ExceptionAdvice {
     protected Result paymentCancelFailureException(PaymentCancelFailureException e){
         return responseService.getFailureResult(-134, "환불에 실패하였습니다.");
     }
+
+    @ExceptionHandler(WrongCursorException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    protected Result wrongCursorException(WrongCursorException e){
+        return responseService.getFailureResult(-135, e.getMessage() + "는 잘못된 커서입니다.");
+    }
+
+    @ExceptionHandler(WrongResolutionException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    protected Result wrongResolutionException(WrongResolutionException e){
+        return responseService.getFailureResult(-136, e.getMessage() + "는 잘못된 차트 단위입니다.");
+    }
+
+    @ExceptionHandler(TradeAlreadyClaimedException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    protected Result tradeAlreadyClaimedException(TradeAlreadyClaimedException e){
+        return responseService.getFailureResult(-137, e.getMessage() + " : 이미 다른 회원이 체결한 입찰입니다. 다른 입찰로 다시 시도해 주세요.");
+    }
+
+    @ExceptionHandler(TradeCommandRejectedException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    protected Result tradeCommandRejectedException(TradeCommandRejectedException e){
+        return responseService.getFailureResult(-138, "거래 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    @ExceptionHandler(WrongImportFormatException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    protected Result wrongImportFormatException(WrongImportFormatException e){
+        return responseService.getFailureResult(-139, e.getMessage() + " : 지원하지 않는 파일 형식입니다. (json, csv)");
+    }
+
+    @ExceptionHandler(ProductImportJobNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    protected Result productImportJobNotFoundException(ProductImportJobNotFoundException e){
+        return responseService.getFailureResult(-140, e.getMessage() + " : 해당 id의 상품 일괄 등록 작업을 찾을 수 없습니다.");
+    }
+
+    @ExceptionHandler(WrongTradeBatchException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    protected Result wrongTradeBatchException(WrongTradeBatchException e){
+        return responseService.getFailureResult(-141, "입찰은 한 번에 1~" + e.getMessage() + "개까지 등록할 수 있습니다.");
+    }
 }
@@ -0,0 +1,23 @@
+package com.study.shoestrade.exception.product;
+
+public class ProductImportJobNotFoundException extends RuntimeException{
+    public ProductImportJobNotFoundException() {
+        super();
+    }
+
+    public ProductImportJobNotFoundException(String message) {
+        super(message);
+    }
+
+    public ProductImportJobNotFoundException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public ProductImportJobNotFoundException(Throwable cause) {
+        super(cause);
+    }
+
+    protected ProductImportJobNotFoundException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
@@ -0,0 +1,23 @@
+package com.study.shoestrade.exception.product;
+
+public class WrongImportFormatException extends RuntimeException{
+    public WrongImportFormatException() {
+        super();
+    }
+
+    public WrongImportFormatException(String message) {
+        super(message);
+    }
+
+    public WrongImportFormatException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public WrongImportFormatException(Throwable cause) {
+        super(cause);
+    }
+
+    protected WrongImportFormatException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
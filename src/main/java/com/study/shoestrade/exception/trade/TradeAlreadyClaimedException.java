@@ -0,0 +1,23 @@
+package com.study.shoestrade.exception.trade;
+
+public class TradeAlreadyClaimedException extends RuntimeException{
+    public TradeAlreadyClaimedException() {
+        super();
+    }
+
+    public TradeAlreadyClaimedException(String message) {
+        super(message);
+    }
+
+    public TradeAlreadyClaimedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public TradeAlreadyClaimedException(Throwable cause) {
+        super(cause);
+    }
+
+    protected TradeAlreadyClaimedException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
@@ -0,0 +1,23 @@
+package com.study.shoestrade.exception.trade;
+
+public class TradeCommandRejectedException extends RuntimeException{
+    public TradeCommandRejectedException() {
+        super();
+    }
+
+    public TradeCommandRejectedException(String message) {
+        super(message);
+    }
+
+    public TradeCommandRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public TradeCommandRejectedException(Throwable cause) {
+        super(cause);
+    }
+
+    protected TradeCommandRejectedException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
@@ -0,0 +1,23 @@
+package com.study.shoestrade.exception.trade;
+
+public class WrongCursorException extends RuntimeException{
+    public WrongCursorException() {
+        super();
+    }
+
+    public WrongCursorException(String message) {
+        super(message);
+    }
+
+    public WrongCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public WrongCursorException(Throwable cause) {
+        super(cause);
+    }
+
+    protected WrongCursorException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
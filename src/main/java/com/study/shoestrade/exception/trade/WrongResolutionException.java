@@ -0,0 +1,23 @@
+package com.study.shoestrade.exception.trade;
+
+public class WrongResolutionException extends RuntimeException{
+    public WrongResolutionException() {
+        super();
+    }
+
+    public WrongResolutionException(String message) {
+        super(message);
+    }
+
+    public WrongResolutionException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public WrongResolutionException(Throwable cause) {
+        super(cause);
+    }
+
+    protected WrongResolutionException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
@@ -0,0 +1,23 @@
+package com.study.shoestrade.exception.trade;
+
+public class WrongTradeBatchException extends RuntimeException{
+    public WrongTradeBatchException() {
+        super();
+    }
+
+    public WrongTradeBatchException(String message) {
+        super(message);
+    }
+
+    public WrongTradeBatchException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public WrongTradeBatchException(Throwable cause) {
+        super(cause);
+    }
+
+    protected WrongTradeBatchException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
@@ -1,17 +1,25 @@
 package com.study.shoestrade.repository.interest;
 
 import com.study.shoestrade.domain.interest.InterestProduct;
+import com.study.shoestrade.dto.interest.InterestWatcherDto;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 
 @Repository
-public interface InterestProductRepository extends JpaRepository<InterestProduct, Long>, InterestProductRepositoryCustom {
+public interface InterestProductRepository extends JpaRepository<InterestProduct, Long> {
 
     @Query("select i from InterestProduct i join i.member m join fetch i.productSize p join fetch p.product pp where m.email = :email and i.id = :interestId")
     Optional<InterestProduct> findOneInterest(@Param("email") String email, @Param("interestId") Long interestId);
+
+    @Query("select i.productSize.id from InterestProduct i join i.member m where m.email = :email")
+    List<Long> findSizeIdsByEmail(@Param("email") String email);
+
+    @Query("select new com.study.shoestrade.dto.interest.InterestWatcherDto(i.member.id, i.productSize.id) from InterestProduct i")
+    List<InterestWatcherDto> findAllWatchers();
 }
@@ -0,0 +1,19 @@
+package com.study.shoestrade.repository.interest;
+
+import com.study.shoestrade.domain.interest.PriceAlert;
+import com.study.shoestrade.dto.interest.response.PriceAlertDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PriceAlertRepository extends JpaRepository<PriceAlert, Long> {
+
+    @Query(value = "select new com.study.shoestrade.dto.interest.response.PriceAlertDto(a.id, p.id, s.id, p.korName, s.size, a.price, a.createdDate) " +
+            "from PriceAlert a join a.member m join a.productSize s join s.product p where m.email = :email order by a.id desc",
+            countQuery = "select count(a) from PriceAlert a join a.member m where m.email = :email")
+    Page<PriceAlertDto> findMyAlerts(@Param("email") String email, Pageable pageable);
+}
@@ -0,0 +1,29 @@
+package com.study.shoestrade.repository.interest;
+
+import com.study.shoestrade.domain.interest.WishlistItem;
+import com.study.shoestrade.dto.interest.response.MyInterest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface WishlistItemRepository extends JpaRepository<WishlistItem, Long> {
+
+    String MY_INTEREST = "select new com.study.shoestrade.dto.interest.response.MyInterest(w.id, w.productId, w.productSizeId, " +
+            "w.brandName, w.productName, w.size, coalesce(w.lowestAsk, 0), w.thumbnail) ";
+
+    @Query(value = MY_INTEREST + "from WishlistItem w, Member m where m.id = w.memberId and m.email = :email order by w.id desc",
+            countQuery = "select count(w) from WishlistItem w, Member m where m.id = w.memberId and m.email = :email")
+    Page<MyInterest> findMyInterests(@Param("email") String email, Pageable pageable);
+
+    @Query(MY_INTEREST + "from WishlistItem w, Member m where m.id = w.memberId and m.email = :email order by w.id desc")
+    List<MyInterest> findMyInterestsFirst(@Param("email") String email, Pageable pageable);
+
+    @Query(MY_INTEREST + "from WishlistItem w, Member m where m.id = w.memberId and m.email = :email and w.id < :lastId order by w.id desc")
+    List<MyInterest> findMyInterestsAfter(@Param("email") String email, @Param("lastId") Long lastId, Pageable pageable);
+}
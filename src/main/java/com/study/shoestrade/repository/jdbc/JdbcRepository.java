@@ -1,12 +1,25 @@
 package com.study.shoestrade.repository.jdbc;
 
-import com.study.shoestrade.domain.interest.InterestProduct;
+import com.study.shoestrade.domain.product.Product;
 import com.study.shoestrade.domain.product.ProductImage;
+import com.study.shoestrade.domain.product.ProductMarketStats;
 import com.study.shoestrade.domain.product.ProductSize;
+import com.study.shoestrade.domain.trade.PriceCandle;
+import com.study.shoestrade.domain.trade.Trade;
+import com.study.shoestrade.dto.product.ProductTrendingDto;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 public interface JdbcRepository {
+   /**
+    * 상품 저장 (여러 행을 insert 문 하나로 저장)
+    * @param products : 저장할 상품 (brand 는 id 만 사용)
+    * @return 저장된 상품 id (products 순서)
+    */
+   List<Long> saveAllProduct(List<Product> products);
+
    /**
     * 상품 사이즈 저장
     * @param items 저장할 사이즈
@@ -14,14 +27,144 @@ public interface JdbcRepository {
    void saveAllSize(List<ProductSize> items);
 
    /**
-    * 상품 이미지 저장
+    * 상품 이미지 저장 (대표 이미지가 없는 상품은 가장 먼저 등록된 이미지로 대표 이미지 지정)
     * @param images 저장할 이미지
     */
    void saveAllImage(List<ProductImage> images);
 
    /**
-    * 관심 상품 저장
-    * @param interests : 저장할 관심 상품
+    * 상품의 대표 이미지를 가장 먼저 등록된 이미지로 다시 지정 (이미지가 없으면 null)
+    * @param productId : 상품 id
+    */
+   void updateThumbnail(Long productId);
+
+   /**
+    * 대표 이미지가 없는 상품 전체의 대표 이미지 지정
+    */
+   void rebuildThumbnail();
+
+   /**
+    * 상품 관심 상품 수에 증감분 더하기
+    * @param deltas : 상품 id -> 증감분
+    */
+   void addAllInterest(Map<Long, Long> deltas);
+
+   /**
+    * 회원의 관심 상품 중 사이즈가 productSizeIds 인 관심 상품 삭제
+    * @param memberId : 회원 id
+    * @param productSizeIds : 삭제할 사이즈 id
+    * @return 삭제된 행 수
+    */
+   int deleteInterests(Long memberId, List<Long> productSizeIds);
+
+   /**
+    * 관심 상품 저장 (이미 등록된 사이즈는 (회원, 사이즈) 유니크 키로 건너뜀)
+    * @param memberId : 회원 id
+    * @param productSizeIds : 저장할 사이즈 id
+    * @return 새로 저장된 행 수
+    */
+   int saveAllInterestIfAbsent(Long memberId, List<Long> productSizeIds);
+
+   /**
+    * 시세 봉 누적 (같은 봉이 있으면 고가, 저가, 종가, 거래량 갱신)
+    * @param candles : 누적할 봉
+    */
+   void upsertAllCandle(List<PriceCandle> candles);
+
+   /**
+    * 입찰 저장
+    * @param trades : 저장할 입찰
+    * @return 저장된 입찰 id (trades 순서)
+    */
+   List<Long> saveAllTrade(List<Trade> trades);
+
+   /**
+    * 상품 시세 요약에 완료된 거래 누적 (더 최근 거래일 때만 최근 거래가 변경)
+    * @param productId : 상품 id
+    * @param price : 거래가
+    * @param tradeCompletionDate : 거래 완료 날짜
+    */
+   void addDoneTrade(Long productId, int price, LocalDateTime tradeCompletionDate);
+
+   /**
+    * 상품 시세 요약의 즉시 구매가, 즉시 판매가 변경
+    * @param stats : 변경할 상품별 즉시 구매가, 즉시 판매가
+    */
+   void upsertAllBestPrice(List<ProductMarketStats> stats);
+
+   /**
+    * trade 테이블로 상품 시세 요약 전체를 다시 계산
+    */
+   void rebuildMarketStats();
+
+   /**
+    * 전체 상품의 관심 상품 수와 반감기를 적용한 완료 거래 수 (지금 기준)
+    * @param halfLifeSeconds : 반감기 (초)
+    * @param windowSeconds : 이보다 오래된 거래는 제외
+    * @return 상품별 인기 점수 재료
+    */
+   List<ProductTrendingDto> findAllTrending(double halfLifeSeconds, long windowSeconds);
+
+   /**
+    * 사이즈를 관심 상품으로 등록한 회원 중 id 가 범위 안인 회원에게 즉시 구매가 하락 알림 저장
+    * @param productSizeId : 상품 사이즈 id
+    * @param price : 낮아진 즉시 구매가
+    * @param fromMemberId : 회원 id 범위 시작 (포함)
+    * @param toMemberId : 회원 id 범위 끝 (포함)
+    * @return 저장된 알림 수
+    */
+   int saveAllPriceAlert(Long productSizeId, int price, long fromMemberId, long toMemberId);
+
+   /**
+    * 회원의 상품 관심 상품과 관심 상품 목록(wishlist_item) 맞추기 (삭제된 관심 상품은 지우고 새 관심 상품은 추가)
+    * @param memberId : 회원 id
+    * @param productId : 상품 id
+    */
+   void syncWishlistItems(Long memberId, Long productId);
+
+   /**
+    * 관심 상품 목록의 사이즈별 즉시 구매가 변경
+    * @param productId : 상품 id
+    * @param lowestAsks : 사이즈 -> 즉시 구매가 (판매 입찰이 없으면 null)
+    */
+   void updateAllWishlistLowestAsk(Long productId, Map<Integer, Integer> lowestAsks);
+
+   /**
+    * 관심 상품 목록의 상품 이름, 브랜드 변경
+    * @param productId : 상품 id
+    * @param productName : 상품 이름
+    * @param brandId : 브랜드 id
+    * @param brandName : 브랜드 이름
+    */
+   void updateWishlistProduct(Long productId, String productName, Long brandId, String brandName);
+
+   /**
+    * 관심 상품 목록의 대표 이미지를 product.thumbnail 로 변경
+    * @param productId : 상품 id
+    */
+   void updateWishlistThumbnail(Long productId);
+
+   /**
+    * 관심 상품 목록의 브랜드 이름 변경
+    * @param brandId : 브랜드 id
+    * @param brandName : 브랜드 이름
+    */
+   void updateWishlistBrand(Long brandId, String brandName);
+
+   /**
+    * 삭제된 상품의 관심 상품 목록 삭제
+    * @param productId : 상품 id
+    */
+   void deleteWishlistProduct(Long productId);
+
+   /**
+    * 삭제된 브랜드의 관심 상품 목록 삭제
+    * @param brandId : 브랜드 id
+    */
+   void deleteWishlistBrand(Long brandId);
+
+   /**
+    * interest_product, trade 테이블로 관심 상품 목록 전체를 다시 맞춤
     */
-   void saveAllInterest(List<InterestProduct> interests);
+   void rebuildWishlistItems();
 }
@@ -1,20 +1,21 @@
 package com.study.shoestrade.repository.jdbc;
 
-import com.study.shoestrade.domain.interest.InterestProduct;
+import com.study.shoestrade.domain.product.Product;
 import com.study.shoestrade.domain.product.ProductImage;
+import com.study.shoestrade.domain.product.ProductMarketStats;
 import com.study.shoestrade.domain.product.ProductSize;
+import com.study.shoestrade.domain.trade.PriceCandle;
+import com.study.shoestrade.domain.trade.Trade;
+import com.study.shoestrade.dto.product.ProductTrendingDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
-import java.sql.Date;
-import java.sql.PreparedStatement;
-import java.sql.SQLException;
-import java.sql.Timestamp;
+import java.sql.*;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 @Repository
 @RequiredArgsConstructor
@@ -24,6 +25,71 @@ public class JdbcRepositoryImpl implements JdbcRepository {
 
     private int batchSize = 50;
 
+    // 관심 상품 목록 행 (interest_product i, product_size s, product p, brand b 조인)
+    private static final String WISHLIST_ITEM = "insert into wishlist_item (`interest_product_id`, `member_id`, `product_id`, `product_size_id`, " +
+            "`brand_id`, `brand_name`, `product_name`, `size`, `thumbnail`, `lowest_ask`) " +
+            "select i.`interest_product_id`, i.`member_id`, p.`product_id`, s.`product_size_id`, b.`brand_id`, b.`eng_name`, p.`kor_name`, s.`size`, p.`thumbnail`, " +
+            "(select min(t.`price`) from trade t where t.`product_size_id` = s.`product_size_id` and t.`trade_state` = 'SELL' " +
+            "and (t.`expire_date` is null or t.`expire_date` > now())) " +
+            "from interest_product i join product_size s on s.`product_size_id` = i.`product_size_id` " +
+            "join product p on p.`product_id` = s.`product_id` left join brand b on b.`brand_id` = p.`brand_id` " +
+            "where not exists (select 1 from wishlist_item w where w.`interest_product_id` = i.`interest_product_id`) ";
+
+    private static final String THUMBNAIL = "(select i.`name` from product_image i where i.`product_id` = p.`product_id` " +
+            "order by i.`product_image_id` limit 1)";
+
+    /**
+     * 상품 저장
+     * batchSize 개씩 여러 행을 values 로 이어 붙인 insert 문 하나로 저장
+     * @param products 저장할 상품
+     * @return 저장된 상품 id
+     */
+    @Override
+    public List<Long> saveAllProduct(List<Product> products) {
+        List<Long> ids = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int from = 0; from < products.size(); from += batchSize) {
+            List<Product> subProducts = products.subList(from, Math.min(from + batchSize, products.size()));
+            ids.addAll(multiRowInsertProduct(subProducts, now));
+        }
+        return ids;
+    }
+
+    private List<Long> multiRowInsertProduct(List<Product> subProducts, Timestamp now) {
+        StringBuilder sql = new StringBuilder("insert into product (`kor_name`, `eng_name`, `code`, `color`, `release_price`, " +
+                "`interest`, `brand_id`, `created_date`, `last_modified_date`) values ");
+        for (int i = 0; i < subProducts.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        }
+
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(sql.toString(), Statement.RETURN_GENERATED_KEYS)) {
+                int index = 1;
+                for (Product product : subProducts) {
+                    ps.setString(index++, product.getKorName());
+                    ps.setString(index++, product.getEngName());
+                    ps.setString(index++, product.getCode());
+                    ps.setString(index++, product.getColor());
+                    ps.setInt(index++, product.getReleasePrice());
+                    ps.setInt(index++, product.getInterest());
+                    ps.setLong(index++, product.getBrand().getId());
+                    ps.setTimestamp(index++, now);
+                    ps.setTimestamp(index++, now);
+                }
+                ps.executeUpdate();
+
+                List<Long> ids = new ArrayList<>();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                return ids;
+            }
+        });
+    }
+
     /**
      * 상품 사이즈 저장
      * @param items 저장할 사이즈
@@ -62,29 +128,197 @@ public class JdbcRepositoryImpl implements JdbcRepository {
         if (!subImages.isEmpty()) {
             batchCount = batchInsertImage(batchSize, batchCount, subImages);
         }
+
+        Set<Long> productIds = new LinkedHashSet<>();
+        images.forEach(image -> productIds.add(image.getProduct().getId()));
+        List<Long> ids = new ArrayList<>(productIds);
+        jdbcTemplate.batchUpdate("update product p set p.`thumbnail` = " + THUMBNAIL +
+                        " where p.`product_id` = ? and p.`thumbnail` is null"
+                , new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ps.setLong(1, ids.get(i));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return ids.size();
+                    }
+                });
+    }
+
+    /**
+     * 상품의 대표 이미지를 가장 먼저 등록된 이미지로 다시 지정
+     * @param productId 상품 id
+     */
+    @Override
+    public void updateThumbnail(Long productId) {
+        jdbcTemplate.update("update product p set p.`thumbnail` = " + THUMBNAIL + " where p.`product_id` = ?", productId);
+    }
+
+    /**
+     * 대표 이미지가 없는 상품 전체의 대표 이미지 지정
+     */
+    @Override
+    public void rebuildThumbnail() {
+        jdbcTemplate.update("update product p set p.`thumbnail` = " + THUMBNAIL + " where p.`thumbnail` is null");
+    }
+
+    /**
+     * 상품 관심 상품 수에 증감분 더하기
+     * 여러 상품을 한 번에 갱신할 때 잠금 순서가 같도록 상품 id 순으로 갱신
+     * @param deltas : 상품 id -> 증감분
+     */
+    @Override
+    public void addAllInterest(Map<Long, Long> deltas) {
+        List<Map.Entry<Long, Long>> items = new ArrayList<>(new TreeMap<>(deltas).entrySet());
+        jdbcTemplate.batchUpdate("update product set `interest` = `interest` + ? where `product_id` = ?"
+                , new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ps.setLong(1, items.get(i).getValue());
+                        ps.setLong(2, items.get(i).getKey());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return items.size();
+                    }
+                });
+    }
+
+    /**
+     * 회원의 관심 상품 중 사이즈가 productSizeIds 인 관심 상품 삭제
+     * (회원, 사이즈) 유니크 키 범위만 지우는 delete 문 하나로 삭제
+     * @param memberId : 회원 id
+     * @param productSizeIds : 삭제할 사이즈 id
+     * @return 삭제된 행 수
+     */
+    @Override
+    public int deleteInterests(Long memberId, List<Long> productSizeIds) {
+        if (productSizeIds.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder("delete from interest_product where `member_id` = ? and `product_size_id` in (");
+        List<Object> args = new ArrayList<>();
+        args.add(memberId);
+        for (int i = 0; i < productSizeIds.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+            args.add(productSizeIds.get(i));
+        }
+        return jdbcTemplate.update(sql.append(")").toString(), args.toArray());
     }
 
     /**
      * 관심 상품 저장
-     * @param interests : 저장할 관심 상품
+     * batchSize 개씩 여러 행을 values 로 이어 붙인 insert ignore 문으로 저장하고,
+     * 이미 등록된 사이즈는 (회원, 사이즈) 유니크 키로 건너뛰므로 반환값은 실제로 추가된 행 수
+     * @param memberId : 회원 id
+     * @param productSizeIds : 저장할 사이즈 id
+     * @return 새로 저장된 행 수
      */
     @Override
-    public void saveAllInterest(List<InterestProduct> interests) {
-        int batchCount = 0;
-        List<InterestProduct> subInterests = new ArrayList<>();
+    public int saveAllInterestIfAbsent(Long memberId, List<Long> productSizeIds) {
+        int inserted = 0;
         Timestamp now = Timestamp.valueOf(LocalDateTime.now());
 
-        for(int i = 0; i < interests.size(); i++){
-            subInterests.add(interests.get(i));
-            if((i+1) % batchSize == 0){
-                batchCount = batchInsertInterest(batchSize, batchCount, subInterests, now);
+        for (int from = 0; from < productSizeIds.size(); from += batchSize) {
+            List<Long> subIds = productSizeIds.subList(from, Math.min(from + batchSize, productSizeIds.size()));
+
+            StringBuilder sql = new StringBuilder("insert ignore into interest_product (`member_id`, `product_size_id`, `created_date`, `last_modified_date`) values ");
+            List<Object> args = new ArrayList<>();
+            for (int i = 0; i < subIds.size(); i++) {
+                sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?)");
+                args.add(memberId);
+                args.add(subIds.get(i));
+                args.add(now);
+                args.add(now);
             }
+            inserted += jdbcTemplate.update(sql.toString(), args.toArray());
         }
-        if(!subInterests.isEmpty()){
-            batchCount = batchInsertInterest(batchSize, batchCount, subInterests, now);
+        return inserted;
+    }
+
+    /**
+     * 시세 봉 누적 (같은 봉이 있으면 고가, 저가, 종가, 거래량 갱신)
+     * @param candles : 누적할 봉
+     */
+    @Override
+    public void upsertAllCandle(List<PriceCandle> candles) {
+        jdbcTemplate.batchUpdate("insert into price_candle (`product_id`, `product_size_id`, `resolution`, `bucket_start`, " +
+                        "`open_price`, `high_price`, `low_price`, `close_price`, `volume`) values (?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+                        "on duplicate key update `high_price` = greatest(`high_price`, values(`high_price`)), " +
+                        "`low_price` = least(`low_price`, values(`low_price`)), " +
+                        "`close_price` = values(`close_price`), " +
+                        "`volume` = `volume` + values(`volume`)"
+                , new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        PriceCandle candle = candles.get(i);
+                        ps.setLong(1, candle.getProductId());
+                        ps.setLong(2, candle.getProductSizeId());
+                        ps.setString(3, candle.getResolution().name());
+                        ps.setTimestamp(4, Timestamp.valueOf(candle.getBucketStart()));
+                        ps.setInt(5, candle.getOpenPrice());
+                        ps.setInt(6, candle.getHighPrice());
+                        ps.setInt(7, candle.getLowPrice());
+                        ps.setInt(8, candle.getClosePrice());
+                        ps.setLong(9, candle.getVolume());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return candles.size();
+                    }
+                });
+    }
+
+    /**
+     * 입찰 저장
+     * @param trades : 저장할 입찰
+     * @return 저장된 입찰 id (trades 순서)
+     */
+    @Override
+    public List<Long> saveAllTrade(List<Trade> trades) {
+        List<Long> ids = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int from = 0; from < trades.size(); from += batchSize) {
+            List<Trade> subTrades = trades.subList(from, Math.min(from + batchSize, trades.size()));
+            ids.addAll(batchInsertTrade(subTrades, now));
         }
+        return ids;
     }
 
+    private List<Long> batchInsertTrade(List<Trade> subTrades, Timestamp now) {
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement("insert into trade (`price`, `trade_type`, `trade_state`, `seller_id`, `purchaser_id`, " +
+                    "`product_size_id`, `expire_date`, `created_date`, `last_modified_date`) values (?, ?, ?, ?, ?, ?, ?, ?, ?)", Statement.RETURN_GENERATED_KEYS)) {
+                for (Trade trade : subTrades) {
+                    ps.setInt(1, trade.getPrice());
+                    ps.setString(2, trade.getTradeType().name());
+                    ps.setString(3, trade.getTradeState().name());
+                    ps.setObject(4, trade.getSeller() == null ? null : trade.getSeller().getId(), Types.BIGINT);
+                    ps.setObject(5, trade.getPurchaser() == null ? null : trade.getPurchaser().getId(), Types.BIGINT);
+                    ps.setLong(6, trade.getProductSize().getId());
+                    ps.setTimestamp(7, trade.getExpireDate() == null ? null : Timestamp.valueOf(trade.getExpireDate()));
+                    ps.setTimestamp(8, now);
+                    ps.setTimestamp(9, now);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                List<Long> ids = new ArrayList<>();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                return ids;
+            }
+        });
+    }
 
     private int batchInsertImage(int batchSize, int batchCount, List<ProductImage> subImages) {
         jdbcTemplate.batchUpdate("insert into product_image (`name`, `product_id`) values (?,?)"
@@ -124,25 +358,208 @@ public class JdbcRepositoryImpl implements JdbcRepository {
         return batchCount;
     }
 
-    private int batchInsertInterest(int batchSize, int batchCount, List<InterestProduct> subInterests, Timestamp now){
-        jdbcTemplate.batchUpdate("insert into interest_product (`member_id`, `product_size_id`, `created_date`, `last_modified_date`) values (?, ?, ?, ?)"
+    /**
+     * 상품 시세 요약에 완료된 거래 누적 (더 최근 거래일 때만 최근 거래가 변경)
+     * @param productId : 상품 id
+     * @param price : 거래가
+     * @param tradeCompletionDate : 거래 완료 날짜
+     */
+    @Override
+    public void addDoneTrade(Long productId, int price, LocalDateTime tradeCompletionDate) {
+        jdbcTemplate.update("insert into product_market_stats (`product_id`, `done_count`, `last_price`, `last_trade_date`) values (?, 1, ?, ?) " +
+                        "on duplicate key update `done_count` = `done_count` + 1, " +
+                        "`last_price` = if(`last_trade_date` is null or `last_trade_date` <= values(`last_trade_date`), values(`last_price`), `last_price`), " +
+                        "`last_trade_date` = if(`last_trade_date` is null or `last_trade_date` <= values(`last_trade_date`), values(`last_trade_date`), `last_trade_date`)",
+                productId, price, Timestamp.valueOf(tradeCompletionDate));
+    }
+
+    /**
+     * 상품 시세 요약의 즉시 구매가, 즉시 판매가 변경
+     * @param stats : 변경할 상품별 즉시 구매가, 즉시 판매가
+     */
+    @Override
+    public void upsertAllBestPrice(List<ProductMarketStats> stats) {
+        jdbcTemplate.batchUpdate("insert into product_market_stats (`product_id`, `done_count`, `lowest_ask`, `highest_bid`) values (?, 0, ?, ?) " +
+                        "on duplicate key update `lowest_ask` = values(`lowest_ask`), `highest_bid` = values(`highest_bid`)"
                 , new BatchPreparedStatementSetter() {
                     @Override
                     public void setValues(PreparedStatement ps, int i) throws SQLException {
-                        ps.setLong(1, subInterests.get(i).getMember().getId());
-                        ps.setLong(2, subInterests.get(i).getProductSize().getId());
-                        ps.setTimestamp(3, now);
-                        ps.setTimestamp(4, now);
+                        ProductMarketStats item = stats.get(i);
+                        ps.setLong(1, item.getProductId());
+                        ps.setObject(2, item.getLowestAsk(), Types.INTEGER);
+                        ps.setObject(3, item.getHighestBid(), Types.INTEGER);
                     }
 
                     @Override
                     public int getBatchSize() {
-                        return subInterests.size();
+                        return stats.size();
                     }
                 });
-        subInterests.clear();
-        batchCount++;
-        return batchCount;
     }
 
+    /**
+     * trade 테이블로 상품 시세 요약 전체를 다시 계산
+     * 삭제된 상품의 행은 지우고, 거래가 없는 상품도 0 과 null 로 덮어써서 이전 값이 남지 않도록 함
+     */
+    @Override
+    public void rebuildMarketStats() {
+        jdbcTemplate.update("delete from product_market_stats where `product_id` not in (select `product_id` from product)");
+        jdbcTemplate.update("insert into product_market_stats (`product_id`, `done_count`, `lowest_ask`, `highest_bid`, `last_price`, `last_trade_date`) " +
+                "select p.`product_id`, " +
+                "coalesce(sum(t.`trade_state` = 'DONE'), 0), " +
+                "min(case when t.`trade_state` = 'SELL' and (t.`expire_date` is null or t.`expire_date` > now()) then t.`price` end), " +
+                "max(case when t.`trade_state` = 'PURCHASE' and (t.`expire_date` is null or t.`expire_date` > now()) then t.`price` end), " +
+                "(select d.`price` from trade d join product_size ds on d.`product_size_id` = ds.`product_size_id` " +
+                "where ds.`product_id` = p.`product_id` and d.`trade_state` = 'DONE' " +
+                "order by d.`trade_completion_date` desc, d.`trade_id` desc limit 1), " +
+                "max(case when t.`trade_state` = 'DONE' then t.`trade_completion_date` end) " +
+                "from product p " +
+                "left join product_size s on s.`product_id` = p.`product_id` " +
+                "left join trade t on t.`product_size_id` = s.`product_size_id` " +
+                "group by p.`product_id` " +
+                "on duplicate key update `done_count` = values(`done_count`), `lowest_ask` = values(`lowest_ask`), " +
+                "`highest_bid` = values(`highest_bid`), `last_price` = values(`last_price`), `last_trade_date` = values(`last_trade_date`)");
+    }
+
+    /**
+     * 전체 상품의 관심 상품 수와 반감기를 적용한 완료 거래 수
+     * 거래마다 0.5 ^ (경과 시간 / 반감기) 를 더하고, windowSeconds 보다 오래된 거래는 읽지 않음
+     * @param halfLifeSeconds : 반감기 (초)
+     * @param windowSeconds : 이보다 오래된 거래는 제외
+     * @return 상품별 인기 점수 재료
+     */
+    @Override
+    public List<ProductTrendingDto> findAllTrending(double halfLifeSeconds, long windowSeconds) {
+        return jdbcTemplate.query("select p.`product_id`, p.`interest`, " +
+                        "coalesce(sum(pow(0.5, timestampdiff(second, t.`trade_completion_date`, now()) / ?)), 0) as `done_score` " +
+                        "from product p " +
+                        "left join product_size s on s.`product_id` = p.`product_id` " +
+                        "left join trade t on t.`product_size_id` = s.`product_size_id` and t.`trade_state` = 'DONE' " +
+                        "and t.`trade_completion_date` > now() - interval ? second " +
+                        "group by p.`product_id`, p.`interest`",
+                (rs, rowNum) -> new ProductTrendingDto(rs.getLong("product_id"), rs.getInt("interest"), rs.getDouble("done_score")),
+                halfLifeSeconds, windowSeconds);
+    }
+
+    /**
+     * 즉시 구매가 하락 알림 저장
+     * 관심 상품 행에서 바로 insert ... select 하므로 회원 id 를 주고받지 않고, 그 사이 관심 상품을 삭제한 회원은 제외됨
+     * 한 사이즈의 관심 회원이 많아도 문장 하나가 오래 걸리지 않도록 회원 id 범위로 나눠서 호출
+     * @param productSizeId : 상품 사이즈 id
+     * @param price : 낮아진 즉시 구매가
+     * @param fromMemberId : 회원 id 범위 시작 (포함)
+     * @param toMemberId : 회원 id 범위 끝 (포함)
+     * @return 저장된 알림 수
+     */
+    @Override
+    public int saveAllPriceAlert(Long productSizeId, int price, long fromMemberId, long toMemberId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.update("insert into price_alert (`member_id`, `product_size_id`, `price`, `created_date`, `last_modified_date`) " +
+                        "select distinct i.`member_id`, i.`product_size_id`, ?, ?, ? from interest_product i " +
+                        "where i.`product_size_id` = ? and i.`member_id` between ? and ?",
+                price, now, now, productSizeId, fromMemberId, toMemberId);
+    }
+
+    /**
+     * 회원의 상품 관심 상품과 관심 상품 목록(wishlist_item) 맞추기
+     * 관심 상품 등록/삭제와 같은 트랜잭션에서 회원, 상품 범위만 지우고 추가
+     * @param memberId : 회원 id
+     * @param productId : 상품 id
+     */
+    @Override
+    public void syncWishlistItems(Long memberId, Long productId) {
+        jdbcTemplate.update("delete w from wishlist_item w " +
+                "where w.`member_id` = ? and w.`product_id` = ? " +
+                "and not exists (select 1 from interest_product i where i.`interest_product_id` = w.`interest_product_id`)", memberId, productId);
+        jdbcTemplate.update(WISHLIST_ITEM + "and i.`member_id` = ? and s.`product_id` = ?", memberId, productId);
+    }
+
+    /**
+     * 관심 상품 목록의 사이즈별 즉시 구매가 변경
+     * @param productId : 상품 id
+     * @param lowestAsks : 사이즈 -> 즉시 구매가 (판매 입찰이 없으면 null)
+     */
+    @Override
+    public void updateAllWishlistLowestAsk(Long productId, Map<Integer, Integer> lowestAsks) {
+        List<Map.Entry<Integer, Integer>> items = new ArrayList<>(lowestAsks.entrySet());
+        jdbcTemplate.batchUpdate("update wishlist_item set `lowest_ask` = ? where `product_id` = ? and `size` = ?"
+                , new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ps.setObject(1, items.get(i).getValue(), Types.INTEGER);
+                        ps.setLong(2, productId);
+                        ps.setInt(3, items.get(i).getKey());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return items.size();
+                    }
+                });
+    }
+
+    /**
+     * 관심 상품 목록의 상품 이름, 브랜드 변경
+     * @param productId : 상품 id
+     * @param productName : 상품 이름
+     * @param brandId : 브랜드 id
+     * @param brandName : 브랜드 이름
+     */
+    @Override
+    public void updateWishlistProduct(Long productId, String productName, Long brandId, String brandName) {
+        jdbcTemplate.update("update wishlist_item set `product_name` = ?, `brand_id` = ?, `brand_name` = ? where `product_id` = ?",
+                productName, brandId, brandName, productId);
+    }
+
+    /**
+     * 관심 상품 목록의 대표 이미지를 product.thumbnail 로 변경
+     * @param productId : 상품 id
+     */
+    @Override
+    public void updateWishlistThumbnail(Long productId) {
+        jdbcTemplate.update("update wishlist_item w join product p on p.`product_id` = w.`product_id` " +
+                "set w.`thumbnail` = p.`thumbnail` where w.`product_id` = ?", productId);
+    }
+
+    /**
+     * 관심 상품 목록의 브랜드 이름 변경
+     * @param brandId : 브랜드 id
+     * @param brandName : 브랜드 이름
+     */
+    @Override
+    public void updateWishlistBrand(Long brandId, String brandName) {
+        jdbcTemplate.update("update wishlist_item set `brand_name` = ? where `brand_id` = ?", brandName, brandId);
+    }
+
+    /**
+     * 삭제된 상품의 관심 상품 목록 삭제
+     * @param productId : 상품 id
+     */
+    @Override
+    public void deleteWishlistProduct(Long productId) {
+        jdbcTemplate.update("delete from wishlist_item where `product_id` = ?", productId);
+    }
+
+    /**
+     * 삭제된 브랜드의 관심 상품 목록 삭제
+     * @param brandId : 브랜드 id
+     */
+    @Override
+    public void deleteWishlistBrand(Long brandId) {
+        jdbcTemplate.update("delete from wishlist_item where `brand_id` = ?", brandId);
+    }
+
+    /**
+     * interest_product, trade 테이블로 관심 상품 목록 전체를 다시 맞춤
+     * 없어진 관심 상품은 지우고, 빠진 관심 상품은 추가하고, 즉시 구매가는 대기 중인 판매 입찰로 다시 계산
+     */
+    @Override
+    public void rebuildWishlistItems() {
+        jdbcTemplate.update("delete w from wishlist_item w left join interest_product i on i.`interest_product_id` = w.`interest_product_id` " +
+                "where i.`interest_product_id` is null");
+        jdbcTemplate.update(WISHLIST_ITEM);
+        jdbcTemplate.update("update wishlist_item w left join (select t.`product_size_id`, min(t.`price`) as `price` from trade t " +
+                "where t.`trade_state` = 'SELL' and (t.`expire_date` is null or t.`expire_date` > now()) group by t.`product_size_id`) a " +
+                "on a.`product_size_id` = w.`product_size_id` set w.`lowest_ask` = a.`price`");
+    }
 }
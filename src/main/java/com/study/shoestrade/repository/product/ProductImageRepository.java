@@ -2,9 +2,12 @@ package com.study.shoestrade.repository.product;
 
 import com.study.shoestrade.domain.product.ProductImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProductImageRepository extends JpaRepository<ProductImage, Long> {
@@ -26,4 +29,13 @@ public interface ProductImageRepository extends JpaRepository<ProductImage, Long
      * @return 검색 결과
      */
     List<ProductImage> findByProductId(Long productId);
+
+    /**
+     * 이미지의 상품 id
+     *
+     * @param productImageId 상품 이미지 id
+     * @return 상품 id
+     */
+    @Query("select i.product.id from ProductImage i where i.id = :productImageId")
+    Optional<Long> findProductIdById(@Param("productImageId") Long productImageId);
 }
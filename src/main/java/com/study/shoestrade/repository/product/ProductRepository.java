@@ -1,9 +1,17 @@
 package com.study.shoestrade.repository.product;
 
 import com.study.shoestrade.domain.product.Product;
+import com.study.shoestrade.dto.product.ProductFacetDto;
+import com.study.shoestrade.dto.product.ProductNameDto;
+import com.study.shoestrade.dto.product.ProductThumbnailDto;
+import com.study.shoestrade.dto.product.ProductTypeaheadDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -23,4 +31,57 @@ public interface ProductRepository extends JpaRepository<Product, Long>, Product
      * @return 검색 결과
      */
     Optional<Product> findByEngName(String engName);
+
+    /**
+     * 검색 색인용 전체 상품 이름
+     *
+     * @return 상품 id, 한글 이름, 영어 이름
+     */
+    @Query("select new com.study.shoestrade.dto.product.ProductNameDto(p.id, p.korName, p.engName) from Product p")
+    List<ProductNameDto> findAllNames();
+
+    /**
+     * 대표 이미지가 있는 전체 상품의 대표 이미지
+     *
+     * @return 상품 id, 대표 이미지 이름
+     */
+    @Query("select new com.study.shoestrade.dto.product.ProductThumbnailDto(p.id, p.thumbnail) from Product p where p.thumbnail is not null")
+    List<ProductThumbnailDto> findAllThumbnails();
+
+    /**
+     * 상품의 대표 이미지
+     *
+     * @param productId 상품 id
+     * @return 대표 이미지 이름
+     */
+    @Query("select p.thumbnail from Product p where p.id = :productId")
+    Optional<String> findThumbnailById(@Param("productId") Long productId);
+
+    /**
+     * 상품 검색 필터 색인용 전체 상품의 브랜드, 발매가
+     *
+     * @return 상품 id, 브랜드 id, 발매가
+     */
+    @Query("select new com.study.shoestrade.dto.product.ProductFacetDto(p.id, p.brand.id, p.releasePrice) from Product p")
+    List<ProductFacetDto> findAllFacets();
+
+    /**
+     * 자동완성 색인용 전체 상품 이름, 인기도
+     *
+     * @return 상품 id, 한글/영어 이름, 브랜드 id, 관심 상품 수, 완료된 거래 수
+     */
+    @Query("select new com.study.shoestrade.dto.product.ProductTypeaheadDto(p.id, p.korName, p.engName, p.brand.id, p.interest, s.doneCount) " +
+            "from Product p left join ProductMarketStats s on s.productId = p.id")
+    List<ProductTypeaheadDto> findAllTypeahead();
+
+    /**
+     * 한글 이름 또는 영어 이름이 같은 상품 (여러 이름을 한 번에 중복 검사)
+     *
+     * @param korNames 한글 이름
+     * @param engNames 영어 이름
+     * @return 상품 id, 한글 이름, 영어 이름
+     */
+    @Query("select new com.study.shoestrade.dto.product.ProductNameDto(p.id, p.korName, p.engName) from Product p " +
+            "where p.korName in :korNames or p.engName in :engNames")
+    List<ProductNameDto> findAllNamesIn(@Param("korNames") Collection<String> korNames, @Param("engNames") Collection<String> engNames);
 }
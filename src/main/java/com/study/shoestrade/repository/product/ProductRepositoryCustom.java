@@ -5,11 +5,21 @@ import com.study.shoestrade.dto.product.response.ProductLoadDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.LongSupplier;
 
 public interface ProductRepositoryCustom {
 
+    /**
+     * 상품 id 로 목록 조회 (순서는 보장하지 않음)
+     *
+     * @param productIds 상품 id
+     * @return 상품 목록
+     */
+    List<ProductLoadDto> findProductByIds(Collection<Long> productIds);
+
     /**
      * 상품 검색
      *
@@ -20,6 +30,46 @@ public interface ProductRepositoryCustom {
      */
     Page<ProductLoadDto> findProduct(String name, List<Long> brandNames, Pageable pageable);
 
+    /**
+     * 상품 검색 (전체 개수는 필요할 때만 totalCount 로 조회)
+     *
+     * @param name       검색어
+     * @param brandNames 선택할 브랜드
+     * @param pageable   페이지 정보
+     * @param totalCount 검색 결과 전체 개수
+     * @return 검색 결과
+     */
+    Page<ProductLoadDto> findProduct(String name, List<Long> brandNames, Pageable pageable, LongSupplier totalCount);
+
+    /**
+     * 상품 검색 결과 개수
+     *
+     * @param name       검색어
+     * @param brandNames 선택할 브랜드
+     * @return 검색 결과 개수
+     */
+    long countProduct(String name, List<Long> brandNames);
+
+    /**
+     * 이름 검색 색인으로 찾은 상품 중에서 검색 (전체 개수는 필요할 때만 totalCount 로 조회)
+     *
+     * @param productIds 검색어가 포함된 상품 id
+     * @param brandNames 선택할 브랜드
+     * @param pageable   페이지 정보
+     * @param totalCount 검색 결과 전체 개수
+     * @return 검색 결과
+     */
+    Page<ProductLoadDto> findProductInIds(Collection<Long> productIds, List<Long> brandNames, Pageable pageable, LongSupplier totalCount);
+
+    /**
+     * 이름 검색 색인으로 찾은 상품 중 선택한 브랜드의 상품 개수
+     *
+     * @param productIds 검색어가 포함된 상품 id
+     * @param brandNames 선택할 브랜드
+     * @return 검색 결과 개수
+     */
+    long countProductInIds(Collection<Long> productIds, List<Long> brandNames);
+
     /**
      * 상품 상세 검색
      *
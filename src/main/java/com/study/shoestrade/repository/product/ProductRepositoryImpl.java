@@ -1,24 +1,21 @@
 package com.study.shoestrade.repository.product;
 
 
-import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.study.shoestrade.domain.trade.TradeState;
 import com.study.shoestrade.dto.product.response.*;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 
 import javax.persistence.EntityManager;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.LongSupplier;
 
-import static com.querydsl.jpa.JPAExpressions.*;
 import static com.study.shoestrade.domain.product.QProduct.product;
-import static com.study.shoestrade.domain.product.QProductSize.productSize;
-import static com.study.shoestrade.domain.trade.QTrade.trade;
+import static com.study.shoestrade.domain.product.QProductMarketStats.productMarketStats;
 
 public class ProductRepositoryImpl implements ProductRepositoryCustom {
 
@@ -28,6 +25,26 @@ public class ProductRepositoryImpl implements ProductRepositoryCustom {
         this.queryFactory = new JPAQueryFactory(em);
     }
 
+    /**
+     * 상품 id 로 목록 조회 (순서는 보장하지 않음)
+     *
+     * @param productIds 상품 id
+     * @return 상품 목록
+     */
+    @Override
+    public List<ProductLoadDto> findProductByIds(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+
+        return queryFactory
+                .select(new QProductLoadDto(product, productMarketStats.lowestAsk))
+                .from(product)
+                .leftJoin(productMarketStats).on(productMarketStats.productId.eq(product.id))
+                .where(product.id.in(productIds))
+                .fetch();
+    }
+
     /**
      * 상품 검색
      *
@@ -38,33 +55,90 @@ public class ProductRepositoryImpl implements ProductRepositoryCustom {
      */
     @Override
     public Page<ProductLoadDto> findProduct(String name, List<Long> brandNames, Pageable pageable) {
+        return findProduct(name, brandNames, pageable, () -> countProduct(name, brandNames));
+    }
 
-        List<Long> findDoneId = queryFactory.select(product.id)
+    /**
+     * 상품 검색 (전체 개수는 필요할 때만 totalCount 로 조회)
+     *
+     * @param name       검색어
+     * @param brandNames 선택할 브랜드
+     * @param pageable   페이지 정보
+     * @param totalCount 검색 결과 전체 개수
+     * @return 검색 결과
+     */
+    @Override
+    public Page<ProductLoadDto> findProduct(String name, List<Long> brandNames, Pageable pageable, LongSupplier totalCount) {
+        return findProduct(nameEq(name), brandNames, pageable, totalCount);
+    }
+
+    /**
+     * 상품 검색 결과 개수
+     *
+     * @param name       검색어
+     * @param brandNames 선택할 브랜드
+     * @return 검색 결과 개수
+     */
+    @Override
+    public long countProduct(String name, List<Long> brandNames) {
+        return queryFactory.select(product.count())
                 .from(product)
-                .join(productSize).on(productSize.product.eq(product))
-                .leftJoin(trade).on(trade.productSize.eq(productSize), trade.tradeState.eq(TradeState.DONE))
                 .where(nameEq(name), brandNamesEq(brandNames))
-                .groupBy(product)
-                .orderBy(trade.count().desc(), product.id.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+                .fetchOne();
+    }
 
-        List<ProductLoadDto> content = queryFactory
-                .select(new QProductLoadDto(product, trade.price.min()))
-                .from(product)
-                .join(productSize).on(productSize.product.eq(product))
-                .leftJoin(trade).on(trade.productSize.eq(productSize), trade.tradeState.eq(TradeState.SELL))
-                .where(findDoneId.isEmpty() ? product.isNull() : product.id.in(findDoneId))
-                .groupBy(product)
-                .orderBy(orderByFieldList(findDoneId))
-                .fetch();
+    /**
+     * 이름 검색 색인으로 찾은 상품 중에서 검색 (전체 개수는 필요할 때만 totalCount 로 조회)
+     *
+     * @param productIds 검색어가 포함된 상품 id
+     * @param brandNames 선택할 브랜드
+     * @param pageable   페이지 정보
+     * @param totalCount 검색 결과 전체 개수
+     * @return 검색 결과
+     */
+    @Override
+    public Page<ProductLoadDto> findProductInIds(Collection<Long> productIds, List<Long> brandNames, Pageable pageable, LongSupplier totalCount) {
+        if (productIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        return findProduct(productIdsIn(productIds), brandNames, pageable, totalCount);
+    }
 
-        Long count = queryFactory.select(product.count())
+    /**
+     * 이름 검색 색인으로 찾은 상품 중 선택한 브랜드의 상품 개수
+     * 브랜드를 선택하지 않으면 조회하지 않고 색인 결과 개수 반환
+     *
+     * @param productIds 검색어가 포함된 상품 id
+     * @param brandNames 선택할 브랜드
+     * @return 검색 결과 개수
+     */
+    @Override
+    public long countProductInIds(Collection<Long> productIds, List<Long> brandNames) {
+        if (productIds.isEmpty() || brandNames.isEmpty()) {
+            return productIds.size();
+        }
+
+        return queryFactory.select(product.count())
                 .from(product)
+                .where(productIdsIn(productIds), brandNamesEq(brandNames))
                 .fetchOne();
+    }
 
-        return new PageImpl<>(content, pageable, count);
+    private Page<ProductLoadDto> findProduct(BooleanExpression nameCondition, List<Long> brandNames, Pageable pageable, LongSupplier totalCount) {
+
+        // 완료된 거래 수, 즉시 구매가는 상품 시세 요약에서 조회
+        // done_count 를 그대로 정렬해야 (done_count, product_id) 인덱스를 사용 (시세 요약 행이 아직 없는 상품은 마지막)
+        List<ProductLoadDto> content = queryFactory
+                .select(new QProductLoadDto(product, productMarketStats.lowestAsk))
+                .from(product)
+                .leftJoin(productMarketStats).on(productMarketStats.productId.eq(product.id))
+                .where(nameCondition, brandNamesEq(brandNames))
+                .orderBy(productMarketStats.doneCount.desc(), product.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        return PageableExecutionUtils.getPage(content, pageable, totalCount);
     }
 
     /**
@@ -75,42 +149,34 @@ public class ProductRepositoryImpl implements ProductRepositoryCustom {
      */
     @Override
     public Optional<ProductDetailDto> findProductDetail(Long productId) {
-        List<ProductDetailDto> content = queryFactory.select(
+        // 최근 거래가, 즉시 판매가, 즉시 구매가는 상품 시세 요약에서 조회
+        ProductDetailDto content = queryFactory.select(
                         new QProductDetailDto(
                                 product,
-                                trade.price,
-                                select(trade.price.max())
-                                        .from(trade)
-                                        .join(trade.productSize, productSize)
-                                        .where(trade.tradeState.eq(TradeState.PURCHASE), productSize.product.id.eq(productId)),
-                                select(trade.price.min())
-                                        .from(trade)
-                                        .join(trade.productSize, productSize)
-                                        .where(trade.tradeState.eq(TradeState.SELL), productSize.product.id.eq(productId)))
+                                productMarketStats.lastPrice,
+                                productMarketStats.highestBid,
+                                productMarketStats.lowestAsk)
                 )
                 .from(product)
-                .join(productSize).on(product.eq(productSize.product))
-                .leftJoin(trade).on(productSize.eq(trade.productSize), trade.tradeState.eq(TradeState.DONE))
+                .leftJoin(productMarketStats).on(productMarketStats.productId.eq(product.id))
                 .where(product.id.eq(productId))
-                .orderBy(trade.lastModifiedDate.desc())
-                .limit(1)
-                .fetch();
-
+                .fetchOne();
 
-        return Optional.ofNullable(content.size() != 0 ? content.get(0) : null);
+        return Optional.ofNullable(content);
     }
 
     private BooleanExpression brandNamesEq(List<Long> brandNames) {
         return brandNames.isEmpty() ? null : product.brand.id.in(brandNames);
     }
 
+    private BooleanExpression productIdsIn(Collection<Long> productIds) {
+        return product.id.in(productIds);
+    }
+
     private BooleanExpression nameEq(String name) {
         return name.isEmpty() ? null : product.korName.contains(name).or(product.engName.contains(name));
     }
 
-    private OrderSpecifier<?> orderByFieldList(List<?> list) {
-        return Expressions.stringTemplate("FIELD({0}, {1})", product.id, list).asc();
-    }
 
 }
 
@@ -7,15 +7,19 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProductSizeRepository extends JpaRepository<ProductSize, Long>, ProductSizeRepositoryCustom {
 
-    @Query("select p from ProductSize p  where p.product.id = :product_id and p.id in :lists")
-    List<ProductSize> findProductSizes(@Param("product_id") Long product_id, @Param("lists") List<Long> lists);
-
     List<ProductSize> findByProduct_Id(Long productId);
 
+    @Query("select p.id from ProductSize p where p.product.id = :productId")
+    List<Long> findIdsByProductId(@Param("productId") Long productId);
+
+    @Query("select p.product.id from ProductSize p where p.id = :id")
+    Optional<Long> findProductIdById(@Param("id") Long id);
+
 
 /*
     @Query("select new com.study.shoestrade.dto.interest.repository.InterestRepoDto(p.id, i.id) " +
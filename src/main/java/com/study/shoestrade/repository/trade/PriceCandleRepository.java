@@ -0,0 +1,37 @@
+package com.study.shoestrade.repository.trade;
+
+import com.study.shoestrade.domain.trade.CandleResolution;
+import com.study.shoestrade.domain.trade.PriceCandle;
+import com.study.shoestrade.dto.trade.response.PriceCandleDto;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PriceCandleRepository extends JpaRepository<PriceCandle, Long> {
+
+    /**
+     * 기간 내 시세 봉 (uk_price_candle 범위 조회)
+     *
+     * @param productId     상품 id
+     * @param productSizeId 상품 사이즈 id (전체 사이즈면 0)
+     * @param resolution    봉 단위
+     * @param from          시작 시각
+     * @param to            끝 시각
+     * @return 시간 순 봉
+     */
+    @Query("select new com.study.shoestrade.dto.trade.response.PriceCandleDto(c.bucketStart, c.openPrice, c.highPrice, c.lowPrice, c.closePrice, c.volume) " +
+            "from PriceCandle c " +
+            "where c.productId = :productId and c.productSizeId = :productSizeId and c.resolution = :resolution " +
+            "and c.bucketStart between :from and :to " +
+            "order by c.bucketStart asc")
+    List<PriceCandleDto> findCandles(@Param("productId") Long productId,
+                                     @Param("productSizeId") Long productSizeId,
+                                     @Param("resolution") CandleResolution resolution,
+                                     @Param("from") LocalDateTime from,
+                                     @Param("to") LocalDateTime to);
+}
@@ -2,10 +2,9 @@ package com.study.shoestrade.repository.trade;
 
 import com.study.shoestrade.domain.member.Member;
 import com.study.shoestrade.domain.trade.Trade;
-import com.study.shoestrade.domain.trade.TradeState;
 import com.study.shoestrade.dto.scheduler.OverdueMember;
+import com.study.shoestrade.dto.trade.OpenTradeDto;
 import com.study.shoestrade.dto.trade.response.TradeDoneDto;
-import com.study.shoestrade.dto.trade.response.TradeTransactionDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -36,19 +35,28 @@ public interface TradeRepository extends JpaRepository<Trade, Long>, TradeReposi
     Page<TradeDoneDto> findDoneTrade(@Param("productId") Long productId, Pageable pageable);
 
     /**
-     * 상품 입찰 내역
+     * 상품 체결 수
      *
-     * @param productId  상품 id
-     * @param tradeState 입찰 상태(구매, 판매)
-     * @param pageable   페이지 정보
-     * @return 검색 결과
+     * @param productId 상품 id
+     * @return 체결 수
      */
-    @Query("select new com.study.shoestrade.dto.trade.response.TradeTransactionDto(p.size, t.price, count(t.price)) " +
+    @Query("select count(t) from Trade t join t.productSize p where p.product.id = :productId and t.tradeState = 'DONE'")
+    long countDoneTrade(@Param("productId") Long productId);
+
+    /**
+     * 호가창 생성용 대기 중인 입찰 목록 (등록 순)
+     *
+     * @return 판매, 구매 입찰
+     */
+    @Query("select new com.study.shoestrade.dto.trade.OpenTradeDto(t.id, p.product.id, p.id, coalesce(t.seller.id, t.purchaser.id), p.size, t.price, t.tradeState) " +
             "from Trade t " +
             "join t.productSize p " +
-            "where t.tradeState= :tradeState and p.product.id = :productId " +
-            "group by t.price, p.size")
-    Page<TradeTransactionDto> findTransactionTrade(@Param("productId") Long productId, @Param("tradeState") TradeState tradeState, Pageable pageable);
+            "where t.tradeState in ('SELL', 'PURCHASE') " +
+            "order by t.lastModifiedDate asc, t.id asc")
+    List<OpenTradeDto> findOpenTrades();
+
+    @Query("select p.product.id from Trade t join t.productSize p where t.id = :tradeId")
+    Optional<Long> findProductIdById(@Param("tradeId") Long tradeId);
 
     @Query("select t.id from Trade t where t.tradeState = 'READY' and t.claimDueDate < :now")
     List<Long> findOverdueTrade(@Param("now") LocalDateTime now);
@@ -58,6 +66,77 @@ public interface TradeRepository extends JpaRepository<Trade, Long>, TradeReposi
             "where t.tradeState = 'READY' and t.claimDueDate < :now group by t.purchaser")
     List<OverdueMember> findOverdueMember(@Param("now") LocalDateTime now);
 
+    /**
+     * 구매 입찰 즉시 판매 체결
+     * 만료되지 않은 구매 입찰 상태일 때만 변경되므로 동시에 요청해도 한 명만 성공
+     *
+     * @param tradeId      입찰 id
+     * @param seller       판매자
+     * @param claimDueDate 결제 기한
+     * @param now          변경 시각
+     * @return 변경된 행 수 (0이면 이미 다른 회원이 체결)
+     */
+    @Modifying
+    @Query("update Trade t set t.tradeState = 'READY', t.seller = :seller, t.claimDueDate = :claimDueDate, t.lastModifiedDate = :now " +
+            "where t.id = :tradeId and t.tradeState = 'PURCHASE' and t.tradeType = 'PURCHASE' " +
+            "and (t.expireDate is null or t.expireDate > :now)")
+    int claimPurchase(@Param("tradeId") Long tradeId, @Param("seller") Member seller,
+                      @Param("claimDueDate") LocalDateTime claimDueDate, @Param("now") LocalDateTime now);
+
+    /**
+     * 판매 입찰 결제 체결
+     * 만료되지 않은 판매 입찰 상태이거나 자신에게 체결된 입찰일 때만 변경되므로 동시에 요청해도 한 명만 성공
+     *
+     * @param tradeId   입찰 id
+     * @param purchaser 구매자
+     * @param now       변경 시각
+     * @return 변경된 행 수 (0이면 이미 다른 회원이 체결)
+     */
+    @Modifying
+    @Query("update Trade t set t.tradeState = 'READY', t.purchaser = :purchaser, t.lastModifiedDate = :now " +
+            "where t.id = :tradeId and (t.tradeState = 'SELL' and (t.expireDate is null or t.expireDate > :now) " +
+            "or (t.tradeState = 'READY' and t.purchaser = :purchaser))")
+    int claimSell(@Param("tradeId") Long tradeId, @Param("purchaser") Member purchaser, @Param("now") LocalDateTime now);
+
+    /**
+     * 판매 입찰 자동 체결
+     * 만료되지 않은 판매 입찰 상태일 때만 변경되므로 즉시 구매, 결제와 동시에 요청해도 한 명만 성공
+     *
+     * @param tradeId      입찰 id
+     * @param purchaser    구매자
+     * @param claimDueDate 결제 기한
+     * @param now          변경 시각
+     * @return 변경된 행 수 (0이면 이미 다른 회원이 체결)
+     */
+    @Modifying
+    @Query("update Trade t set t.tradeState = 'READY', t.purchaser = :purchaser, t.claimDueDate = :claimDueDate, t.lastModifiedDate = :now " +
+            "where t.id = :tradeId and t.tradeState = 'SELL' and t.tradeType = 'SELL' " +
+            "and (t.expireDate is null or t.expireDate > :now)")
+    int matchSell(@Param("tradeId") Long tradeId, @Param("purchaser") Member purchaser,
+                  @Param("claimDueDate") LocalDateTime claimDueDate, @Param("now") LocalDateTime now);
+
+    /**
+     * 만료된 판매, 구매 입찰 id (만료 순)
+     *
+     * @param now      기준 시각
+     * @param pageable 조회할 개수
+     * @return 입찰 id
+     */
+    @Query("select t.id from Trade t where t.tradeState in ('SELL', 'PURCHASE') and t.expireDate <= :now order by t.expireDate asc")
+    List<Long> findExpiredTrade(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 판매, 구매 입찰을 만료 상태로 변경
+     *
+     * @param ids 입찰 id
+     * @param now 기준 시각
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("update Trade t set t.tradeState = 'EXPIRED', t.lastModifiedDate = :now " +
+            "where t.id in :ids and t.tradeState in ('SELL', 'PURCHASE') and t.expireDate <= :now")
+    int expireTrades(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
     @Modifying(clearAutomatically = true)
     @Query("update Trade t set t.tradeState = 'FAIL' where t.id in :list")
     void updateTradeStatesFromReadyToFail(@Param("list") List<Long> list);
@@ -1,13 +1,14 @@
 package com.study.shoestrade.repository.trade;
 
 import com.study.shoestrade.domain.trade.Trade;
-import com.study.shoestrade.domain.trade.TradeState;
 import com.study.shoestrade.domain.trade.TradeType;
+import com.study.shoestrade.dto.trade.DoneTradeDto;
 import com.study.shoestrade.dto.trade.response.TradeBreakdownCountDto;
 import com.study.shoestrade.dto.trade.response.TradeLoadDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface TradeRepositoryCustom {
@@ -25,15 +26,26 @@ public interface TradeRepositoryCustom {
      */
     List<Trade> findByIdAndEmail(String email, Long tradeId, TradeType tradeType);
 
+    TradeBreakdownCountDto findBreakdownCount(String email, TradeType tradeType);
+
     /**
-     * 즉시 거래가
+     * 상품 체결 내역 첫 페이지 (커서 방식)
      *
-     * @param productId  상품 id
-     * @param tradeState 입찰 상태(판매, 구매)
-     * @return 검색 결과
+     * @param productId 상품 id
+     * @param pageable  조회할 개수 (count 쿼리 없음)
+     * @return 최근 체결 순 (거래 완료 날짜, 입찰 id 내림차순)
      */
-    List<TradeLoadDto> findInstantTrade(Long productId, TradeState tradeState);
+    List<DoneTradeDto> findDoneTradeFirst(Long productId, Pageable pageable);
 
-    TradeBreakdownCountDto findBreakdownCount(String email, TradeType tradeType);
+    /**
+     * 상품 체결 내역 커서 이후 페이지
+     *
+     * @param productId           상품 id
+     * @param tradeCompletionDate 커서의 거래 완료 날짜
+     * @param tradeId             커서의 입찰 id
+     * @param pageable            조회할 개수 (count 쿼리 없음)
+     * @return 커서보다 먼저 체결된 거래
+     */
+    List<DoneTradeDto> findDoneTradeAfter(Long productId, LocalDateTime tradeCompletionDate, Long tradeId, Pageable pageable);
 
 }
@@ -1,14 +1,14 @@
 package com.study.shoestrade.repository.trade;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.study.shoestrade.domain.member.QMember;
-import com.study.shoestrade.domain.product.QProductImage;
-import com.study.shoestrade.domain.trade.QTrade;
 import com.study.shoestrade.domain.trade.Trade;
 import com.study.shoestrade.domain.trade.TradeState;
 import com.study.shoestrade.domain.trade.TradeType;
+import com.study.shoestrade.dto.trade.DoneTradeDto;
 import com.study.shoestrade.dto.trade.response.QTradeBreakdownCountDto;
 import com.study.shoestrade.dto.trade.response.QTradeLoadDto;
 import com.study.shoestrade.dto.trade.response.TradeBreakdownCountDto;
@@ -19,13 +19,16 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
 import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static com.querydsl.jpa.JPAExpressions.*;
 import static com.querydsl.jpa.JPAExpressions.select;
 import static com.study.shoestrade.domain.member.QMember.member;
 import static com.study.shoestrade.domain.product.QProduct.product;
-import static com.study.shoestrade.domain.product.QProductImage.productImage;
 import static com.study.shoestrade.domain.product.QProductSize.productSize;
 import static com.study.shoestrade.domain.trade.QTrade.trade;
 
@@ -43,22 +46,20 @@ public class TradeRepositoryImpl implements TradeRepositoryCustom {
         List<TradeLoadDto> content = queryFactory.select(
                 new QTradeLoadDto(
                         trade.id,
+                        product.id,
                         product.korName,
                         productSize.size,
                         trade.price,
                         trade.tradeCompletionDate,
-                        trade.tradeState,
-                        productImage.name)
+                        trade.tradeState)
                 )
                 .from(trade)
                 .join(trade.productSize, productSize)
                 .join(productSize.product, product)
-                .join(productImage).on(product.eq(productImage.product))
                 .join(memberType(tradeType), member)
                 .where(
                         trade.tradeState.in(getStateList(state, tradeType)),
-                        member.email.eq(email), trade.tradeType.eq(tradeType),
-                        productImage.id.in(select(productImage.id.min()).from(productImage).groupBy(productImage.product))
+                        member.email.eq(email), trade.tradeType.eq(tradeType)
                 )
                 .orderBy(trade.id.asc())
                 .offset(pageable.getOffset())
@@ -91,36 +92,6 @@ public class TradeRepositoryImpl implements TradeRepositoryCustom {
                 .fetch();
     }
 
-    /**
-     * 즉시 거래가
-     *
-     * @param productId  상품
-     * @param tradeState 입찰 상태
-     * @return 검색 결과
-     */
-    @Override
-    public List<TradeLoadDto> findInstantTrade(Long productId, TradeState tradeState) {
-        QTrade a = new QTrade("a");
-        QTrade b = new QTrade("b");
-
-
-        return queryFactory.select(new QTradeLoadDto(trade.id, productSize.size, trade.price))
-                .from(trade)
-                .join(trade.productSize, productSize)
-                .where(productSize.product.id.eq(productId), trade.tradeState.eq(tradeState),
-                        trade.id.in(
-                                select(a.id.min())
-                                        .from(a)
-                                        .leftJoin(b)
-                                        .on(a.productSize.eq(b.productSize), compareMinMax(tradeState, a, b))
-                                        .where(b.productSize.isNull())
-                                        .groupBy(a.productSize)
-                        )
-                )
-                .orderBy(productSize.size.asc())
-                .fetch();
-    }
-
     // 거래 내역 수 조회
     @Override
     public TradeBreakdownCountDto findBreakdownCount(String email, TradeType tradeType) {
@@ -144,6 +115,45 @@ public class TradeRepositoryImpl implements TradeRepositoryCustom {
                 .fetchOne();
     }
 
+    @Override
+    public List<DoneTradeDto> findDoneTradeFirst(Long productId, Pageable pageable) {
+        return findDoneTrade(productId, null, pageable);
+    }
+
+    @Override
+    public List<DoneTradeDto> findDoneTradeAfter(Long productId, LocalDateTime tradeCompletionDate, Long tradeId, Pageable pageable) {
+        BooleanExpression after = trade.tradeCompletionDate.lt(tradeCompletionDate)
+                .or(trade.tradeCompletionDate.eq(tradeCompletionDate).and(trade.id.lt(tradeId)));
+        return findDoneTrade(productId, after, pageable);
+    }
+
+    // 사이즈마다 (product_size_id, trade_state, trade_completion_date, trade_id) 인덱스를 역순으로 페이지 크기만큼만 읽고 합침
+    private List<DoneTradeDto> findDoneTrade(Long productId, BooleanExpression after, Pageable pageable) {
+        List<Tuple> sizes = queryFactory.select(productSize.id, productSize.size)
+                .from(productSize)
+                .where(productSize.product.id.eq(productId))
+                .fetch();
+
+        List<DoneTradeDto> trades = new ArrayList<>();
+        for (Tuple size : sizes) {
+            queryFactory.select(trade.id, trade.price, trade.tradeCompletionDate)
+                    .from(trade)
+                    .where(trade.productSize.id.eq(size.get(productSize.id)), trade.tradeState.eq(TradeState.DONE), after)
+                    .orderBy(trade.tradeCompletionDate.desc(), trade.id.desc())
+                    .limit(pageable.getPageSize())
+                    .fetch()
+                    .forEach(row -> trades.add(new DoneTradeDto(row.get(trade.id), size.get(productSize.size),
+                            row.get(trade.price), row.get(trade.tradeCompletionDate))));
+        }
+
+        return trades.stream()
+                .sorted(Comparator.comparing(DoneTradeDto::getTradeCompletionDate)
+                        .thenComparing(DoneTradeDto::getTradeId)
+                        .reversed())
+                .limit(pageable.getPageSize())
+                .collect(Collectors.toList());
+    }
+
     private static List<TradeState> progressTrade(){
         return List.of(TradeState.CENTER_DELIVERY, TradeState.INSPECT, TradeState.FAKE, TradeState.REAL, TradeState.HOME_DELIVERY);
     }
@@ -168,10 +178,4 @@ public class TradeRepositoryImpl implements TradeRepositoryCustom {
     private QMember memberType(TradeType tradeType) {
         return tradeType == TradeType.SELL ? trade.seller : trade.purchaser;
     }
-
-    private BooleanExpression compareMinMax(TradeState tradeState, QTrade a, QTrade b) {
-        return tradeState.equals(TradeState.SELL)
-                ? a.price.lt(b.price).or(a.price.eq(b.price).and(b.lastModifiedDate.lt(a.lastModifiedDate)))
-                : b.price.lt(a.price).or(a.price.eq(b.price).and(a.lastModifiedDate.lt(b.lastModifiedDate)));
-    }
 }
@@ -10,6 +10,7 @@ import com.study.shoestrade.domain.trade.Trade;
 import com.study.shoestrade.domain.trade.TradeState;
 import com.study.shoestrade.dto.member.response.MemberDetailDto;
 import com.study.shoestrade.dto.admin.PageMemberDto;
+import com.study.shoestrade.event.trade.TradeCompletedEvent;
 import com.study.shoestrade.exception.member.MemberNotFoundException;
 import com.study.shoestrade.exception.payment.PaymentNotFoundException;
 import com.study.shoestrade.exception.payment.PaymentUnpaidException;
@@ -23,8 +24,10 @@ import com.study.shoestrade.repository.trade.TradeRepository;
 import com.study.shoestrade.service.payment.PaymentService;
 import com.study.shoestrade.service.policy.grade.GradePolicy;
 import com.study.shoestrade.service.policy.point.PointPolicy;
+import com.study.shoestrade.service.trade.PriceChartService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -48,6 +51,8 @@ public class  AdminService {
     private final PointPolicy pointPolicy;
     private final GradePolicy gradePolicy;
     private final PaymentService paymentService;
+    private final PriceChartService priceChartService;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     @Transactional(readOnly = true)
@@ -117,6 +122,8 @@ public class  AdminService {
             purchaser.upgradeGrade(gradePolicy.upgradeMemberGrade(purchaser));
 
             trade.finishTrade(LocalDateTime.now());
+            priceChartService.addTrade(trade);
+            eventPublisher.publishEvent(TradeCompletedEvent.create(trade));
         }
         else if(tradeState.equals(FAKE)){
             checkPaid(payment);
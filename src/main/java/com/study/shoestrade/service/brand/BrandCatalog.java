@@ -0,0 +1,133 @@
+package com.study.shoestrade.service.brand;
+
+import com.study.shoestrade.dto.brand.BrandDto;
+import com.study.shoestrade.repository.brand.BrandRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 전체 브랜드 메모리 목록
+ * 브랜드는 수가 적고 거의 바뀌지 않으므로 전체를 id 순으로 들고 있다가 검색, 페이지, id 조회를 DB 없이 처리
+ * 등록/수정/삭제 시 커밋 이후 목록을 복사해 바꾼 새 목록으로 교체 (읽는 쪽은 잠금 없이 현재 목록만 사용)
+ * 목록을 만들기 전(시작 중)에는 DB 에서 조회
+ * 반환하는 객체는 요청 간에 공유하므로 수정하지 않고 사용
+ */
+@Slf4j
+@Component
+public class BrandCatalog {
+
+    private final BrandRepository brandRepository;
+
+    private volatile Snapshot snapshot;
+
+    public BrandCatalog(BrandRepository brandRepository) {
+        this.brandRepository = brandRepository;
+    }
+
+    /**
+     * brand 테이블의 전체 브랜드로 목록 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        snapshot = new Snapshot(brandRepository.findAll()
+                .stream()
+                .map(BrandDto::create)
+                .collect(Collectors.toList()));
+
+        log.info("brand catalog rebuilt : {} brands", snapshot.brands.size());
+    }
+
+    /**
+     * 브랜드 id 조회
+     *
+     * @param brandId 브랜드 id
+     * @return 브랜드 정보
+     */
+    public Optional<BrandDto> findById(Long brandId) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return brandRepository.findById(brandId).map(BrandDto::create);
+        }
+        return Optional.ofNullable(current.byId.get(brandId));
+    }
+
+    /**
+     * 한글, 영어 이름에 검색어가 포함된 브랜드 검색 (대소문자 구분 없음, id 순)
+     *
+     * @param name     검색어 (없으면 전체)
+     * @param pageable 페이지 정보
+     * @return 검색 결과
+     */
+    public Page<BrandDto> search(String name, Pageable pageable) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return brandRepository.findByNameContains(name, pageable).map(BrandDto::create);
+        }
+
+        List<BrandDto> matched = name == null || name.isEmpty()
+                ? current.brands
+                : current.brands.stream().filter(brand -> contains(brand, name.toLowerCase())).collect(Collectors.toList());
+
+        int from = (int) Math.min(pageable.getOffset(), matched.size());
+        int to = Math.min(from + pageable.getPageSize(), matched.size());
+        return new PageImpl<>(matched.subList(from, to), pageable, matched.size());
+    }
+
+    /**
+     * 브랜드 추가, 변경
+     *
+     * @param brandDto 브랜드 정보
+     */
+    public synchronized void put(BrandDto brandDto) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        Map<Long, BrandDto> brands = new HashMap<>(current.byId);
+        brands.put(brandDto.getId(), brandDto);
+        snapshot = new Snapshot(brands.values());
+    }
+
+    /**
+     * 브랜드 제거
+     *
+     * @param brandId 브랜드 id
+     */
+    public synchronized void remove(Long brandId) {
+        Snapshot current = snapshot;
+        if (current == null || !current.byId.containsKey(brandId)) {
+            return;
+        }
+        Map<Long, BrandDto> brands = new HashMap<>(current.byId);
+        brands.remove(brandId);
+        snapshot = new Snapshot(brands.values());
+    }
+
+    private boolean contains(BrandDto brand, String lowerName) {
+        return (brand.getKorName() != null && brand.getKorName().toLowerCase().contains(lowerName))
+                || (brand.getEngName() != null && brand.getEngName().toLowerCase().contains(lowerName));
+    }
+
+    // 한 번 만든 뒤 바꾸지 않는 목록
+    private static class Snapshot {
+        private final List<BrandDto> brands;
+        private final Map<Long, BrandDto> byId;
+
+        Snapshot(Collection<BrandDto> brands) {
+            List<BrandDto> sorted = new ArrayList<>(brands);
+            sorted.sort(Comparator.comparing(BrandDto::getId));
+            Map<Long, BrandDto> byId = new HashMap<>();
+            sorted.forEach(brand -> byId.put(brand.getId(), brand));
+            this.brands = Collections.unmodifiableList(sorted);
+            this.byId = Collections.unmodifiableMap(byId);
+        }
+    }
+}
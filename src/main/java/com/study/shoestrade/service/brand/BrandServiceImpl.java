@@ -1,10 +1,18 @@
 package com.study.shoestrade.service.brand;
 
+import com.study.shoestrade.common.transaction.TransactionHooks;
 import com.study.shoestrade.domain.product.Brand;
 import com.study.shoestrade.dto.brand.BrandDto;
 import com.study.shoestrade.exception.brand.BrandDuplicationException;
 import com.study.shoestrade.exception.brand.BrandEmptyResultDataAccessException;
 import com.study.shoestrade.repository.brand.BrandRepository;
+import com.study.shoestrade.repository.jdbc.JdbcRepository;
+import com.study.shoestrade.service.product.cache.ProductDetailCache;
+import com.study.shoestrade.service.product.search.ProductCountCache;
+import com.study.shoestrade.service.product.search.ProductFacetIndex;
+import com.study.shoestrade.service.product.search.ProductNameIndex;
+import com.study.shoestrade.service.product.search.ProductTrendingRanking;
+import com.study.shoestrade.service.product.search.ProductTypeahead;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.data.domain.Page;
@@ -18,6 +26,14 @@ import org.springframework.transaction.annotation.Transactional;
 public class BrandServiceImpl implements BrandService {
 
     private final BrandRepository brandRepository;
+    private final BrandCatalog brandCatalog;
+    private final ProductNameIndex productNameIndex;
+    private final ProductCountCache productCountCache;
+    private final ProductDetailCache productDetailCache;
+    private final ProductFacetIndex productFacetIndex;
+    private final ProductTypeahead productTypeahead;
+    private final ProductTrendingRanking productTrendingRanking;
+    private final JdbcRepository jdbcRepository;
 
     /**
      * 브랜드 등록
@@ -28,9 +44,14 @@ public class BrandServiceImpl implements BrandService {
     @Transactional
     public BrandDto saveBrand(BrandDto brandDto) {
         duplicateBrandEngName(brandDto);
-        return BrandDto.create(brandRepository.save(
+        BrandDto saveBrand = BrandDto.create(brandRepository.save(
                 Brand.builder().korName(brandDto.getKorName()).engName(brandDto.getEngName()).build())
         );
+        TransactionHooks.afterCommit(() -> {
+            brandCatalog.put(saveBrand);
+            productTypeahead.putBrand(saveBrand.getId(), saveBrand.getKorName(), saveBrand.getEngName());
+        });
+        return saveBrand;
     }
 
     /**
@@ -56,6 +77,14 @@ public class BrandServiceImpl implements BrandService {
         }
 
         findBrand.changeBrandName(brandDto.getKorName(), brandDto.getEngName());
+        jdbcRepository.updateWishlistBrand(id, brandDto.getEngName());
+        // 상품 상세 정보에 브랜드 이름이 들어가므로 전체 무효화
+        BrandDto changeBrand = BrandDto.create(findBrand);
+        TransactionHooks.afterCommit(() -> {
+            brandCatalog.put(changeBrand);
+            productTypeahead.putBrand(changeBrand.getId(), changeBrand.getKorName(), changeBrand.getEngName());
+            productDetailCache.invalidateAll();
+        });
     }
 
     /**
@@ -71,6 +100,17 @@ public class BrandServiceImpl implements BrandService {
         } catch (EmptyResultDataAccessException e) {
             throw new BrandEmptyResultDataAccessException(id.toString(), 1);
         }
+        jdbcRepository.deleteWishlistBrand(id);
+        // 브랜드의 상품도 함께 삭제되므로 이름 색인을 다시 생성
+        TransactionHooks.afterCommit(() -> {
+            brandCatalog.remove(id);
+            productNameIndex.rebuild();
+            productCountCache.invalidate();
+            productDetailCache.invalidateAll();
+            productFacetIndex.rebuild();
+            productTypeahead.rebuild();
+            productTrendingRanking.rebuild();
+        });
     }
 
     /**
@@ -81,8 +121,7 @@ public class BrandServiceImpl implements BrandService {
      */
     @Override
     public Page<BrandDto> findByBrandName(String name, Pageable pageable) {
-        return brandRepository.findByNameContains(name, pageable)
-                .map(BrandDto::create);
+        return brandCatalog.search(name, pageable);
     }
 
 
@@ -0,0 +1,130 @@
+package com.study.shoestrade.service.interest;
+
+import com.study.shoestrade.repository.jdbc.JdbcRepository;
+import com.study.shoestrade.service.product.cache.ProductDetailCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상품별 관심 상품 수 증감 카운터
+ * 관심 상품 등록/삭제 때마다 product 행을 수정하면 인기 상품에 요청이 몰릴 때 같은 행 잠금을 기다리므로
+ * 증감분은 상품별 LongAdder 에 모아 두고 flush-ms 마다 변경된 상품만 update 배치 하나로 더함
+ * 조회 시에는 DB 값에 아직 저장하지 않은 증감분을 더해서 반환
+ * 누적값은 줄이지 않고 저장한 값만 따로 기록해 저장 중에 들어온 증감분도 잃지 않음 (상품 삭제 시 제거)
+ * 저장 중인 증감분은 커밋 여부를 알 수 없으므로 조회 시 더하지 않음 (잠깐 적게 보일 수는 있어도 두 번 더해지지 않음)
+ * 서버가 여러 대여도 각자 자기 증감분만 더하므로 합계는 맞고, 다른 서버의 저장 전 증감분은 저장 이후에 보임
+ */
+@Slf4j
+@Component
+public class InterestCounter {
+
+    private final JdbcRepository jdbcRepository;
+    private final ProductDetailCache productDetailCache;
+
+    // 상품 id -> 증감분
+    private final ConcurrentMap<Long, Counter> counters = new ConcurrentHashMap<>();
+
+    public InterestCounter(JdbcRepository jdbcRepository, ProductDetailCache productDetailCache) {
+        this.jdbcRepository = jdbcRepository;
+        this.productDetailCache = productDetailCache;
+    }
+
+    /**
+     * 관심 상품 수 증감
+     *
+     * @param productId 상품 id
+     * @param delta     늘어난 수 (줄었으면 음수)
+     */
+    public void add(Long productId, long delta) {
+        if (delta != 0) {
+            counters.computeIfAbsent(productId, id -> new Counter()).total.add(delta);
+        }
+    }
+
+    /**
+     * 아직 저장하지 않은 증감분
+     *
+     * @param productId 상품 id
+     * @return 증감분
+     */
+    public long pending(Long productId) {
+        Counter counter = counters.get(productId);
+        return counter == null ? 0 : counter.pending();
+    }
+
+    /**
+     * DB 에 저장된 관심 상품 수에 저장하지 않은 증감분을 더한 값
+     *
+     * @param productId 상품 id
+     * @param persisted DB 에 저장된 관심 상품 수
+     * @return 관심 상품 수
+     */
+    public int merge(Long productId, int persisted) {
+        return (int) (persisted + pending(productId));
+    }
+
+    public void remove(Long productId) {
+        counters.remove(productId);
+    }
+
+    /**
+     * 저장하지 않은 증감분을 product.interest 에 더함 (실패하면 다음 주기에 다시 시도)
+     */
+    @Scheduled(fixedDelayString = "${product.interest.flush-ms:1000}")
+    @PreDestroy
+    public synchronized void flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        List<Runnable> commits = new ArrayList<>();
+        List<Runnable> rollbacks = new ArrayList<>();
+        counters.forEach((productId, counter) -> {
+            long total = counter.total.sum();
+            long delta = total - counter.flushed;
+            if (delta != 0) {
+                deltas.put(productId, delta);
+                counter.inFlight = delta;
+                commits.add(() -> {
+                    counter.flushed = total;
+                    counter.inFlight = 0;
+                });
+                rollbacks.add(() -> counter.inFlight = 0);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcRepository.addAllInterest(deltas);
+        } catch (RuntimeException e) {
+            log.warn("interest count flush failed : {} products", deltas.size(), e);
+            rollbacks.forEach(Runnable::run);
+            return;
+        }
+        commits.forEach(Runnable::run);
+        deltas.keySet().forEach(productDetailCache::invalidate);
+    }
+
+    private static class Counter {
+        private final LongAdder total = new LongAdder();
+        // 저장한 누적값 (flush 에서만 변경)
+        private volatile long flushed;
+        // 저장 중인 증감분 (flush 에서만 변경, flushed 를 바꾼 뒤에 0 으로 되돌림)
+        private volatile long inFlight;
+
+        // inFlight 를 먼저 읽어야 저장이 끝나는 중에 읽어도 저장한 증감분을 두 번 더하지 않음
+        long pending() {
+            long writing = inFlight;
+            return total.sum() - flushed - writing;
+        }
+    }
+}
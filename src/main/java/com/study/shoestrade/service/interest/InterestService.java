@@ -1,5 +1,6 @@
 package com.study.shoestrade.service.interest;
 
+import com.study.shoestrade.common.transaction.TransactionHooks;
 import com.study.shoestrade.domain.interest.InterestProduct;
 import com.study.shoestrade.domain.member.Member;
 import com.study.shoestrade.domain.product.Product;
@@ -8,17 +9,25 @@ import com.study.shoestrade.dto.interest.request.InterestProductRequestDto;
 import com.study.shoestrade.dto.interest.response.InterestProductResponseDto;
 import com.study.shoestrade.dto.interest.response.InterestProductResponseSizeDto;
 import com.study.shoestrade.dto.interest.response.MyInterest;
+import com.study.shoestrade.dto.interest.response.MyInterestSliceDto;
+import com.study.shoestrade.dto.interest.response.PriceAlertDto;
 import com.study.shoestrade.exception.interest.InterestNotFoundException;
 import com.study.shoestrade.exception.member.MemberNotFoundException;
 import com.study.shoestrade.exception.product.ProductEmptyResultDataAccessException;
 import com.study.shoestrade.repository.interest.InterestProductRepository;
+import com.study.shoestrade.repository.interest.PriceAlertRepository;
+import com.study.shoestrade.repository.interest.WishlistItemRepository;
 import com.study.shoestrade.repository.jdbc.JdbcRepository;
 import com.study.shoestrade.repository.member.MemberRepository;
 import com.study.shoestrade.repository.product.ProductRepository;
 import com.study.shoestrade.repository.product.ProductSizeRepository;
+import com.study.shoestrade.service.interest.alert.PriceAlertWatchers;
+import com.study.shoestrade.service.interest.cache.MemberWishlistCache;
+import com.study.shoestrade.service.product.search.ProductTrendingRanking;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -38,8 +47,15 @@ public class InterestService {
     private final ProductSizeRepository productSizeRepository;
     private final InterestProductRepository interestProductRepository;
     private final JdbcRepository jdbcRepository;
+    private final InterestCounter interestCounter;
+    private final WishlistItemRepository wishlistItemRepository;
+    private final ProductTrendingRanking productTrendingRanking;
+    private final PriceAlertWatchers priceAlertWatchers;
+    private final PriceAlertRepository priceAlertRepository;
+    private final MemberWishlistCache memberWishlistCache;
 
     // 관심 상품 추가 및 수정
+    // 기존 관심 상품을 읽지 않고, 상품의 사이즈 중 요청에 없는 사이즈는 delete 한 번, 요청된 사이즈는 없을 때만 insert 한 번
     public void addWishList(String email, Long productId, InterestProductRequestDto requestDto){
         Member findMember = memberRepository.findByEmail(email)
                 .orElseThrow(MemberNotFoundException::new);
@@ -47,70 +63,74 @@ public class InterestService {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new ProductEmptyResultDataAccessException(productId.toString(), 1));
 
-        // 기존에 등록되어 있는 관심 상품
-        List<InterestProduct> preInterests = interestProductRepository.findPreInterests(email, productId);
-        // 기존 관심 상품 toMap
-        Map<ProductSize, Long> preProducts = preInterests.stream()
-                .collect(Collectors.toMap(InterestProduct::getProductSize, InterestProduct::getId));
-
-        // 입력 받은 ProductSize의 Id로 ProductSize들 찾기
-        List<ProductSize> productSizes = productSizeRepository.findProductSizes(productId, requestDto.getInterests());
-        // ProductSize -> toSet
-        Set<ProductSize> newProducts = new HashSet<>(productSizes);
-
-        // 삭제할 기존 관심 상품
-        List<InterestProduct> deleteInterests = preProducts.entrySet().stream()
-                .filter(entry -> !newProducts.contains(entry.getKey()))
-                .map(entry ->
-                        InterestProduct.builder()
-                                .id(entry.getValue())
-                                .member(findMember)
-                                .productSize(entry.getKey())
-                                .build())
+        // 상품의 사이즈 중 요청된 사이즈는 유지, 나머지는 삭제 (다른 상품의 사이즈 id 는 무시)
+        Set<Long> requested = requestDto.getInterests() == null ? Collections.emptySet() : new HashSet<>(requestDto.getInterests());
+        List<Long> productSizeIds = productSizeRepository.findIdsByProductId(productId);
+        List<Long> keepSizeIds = productSizeIds.stream()
+                .filter(requested::contains)
                 .collect(Collectors.toList());
-
-        // 추가할 새로운 관심 상품
-        List<InterestProduct> insertInterests = newProducts.stream()
-                .filter(p -> !preProducts.containsKey(p))
-                .map(productSize ->
-                        InterestProduct.builder()
-                                .member(findMember)
-                                .productSize(productSize)
-                                .build())
+        List<Long> removeSizeIds = productSizeIds.stream()
+                .filter(id -> !requested.contains(id))
                 .collect(Collectors.toList());
 
-        // 삭제된 관심 상품 삭제
-        interestProductRepository.deleteAllInBatch(deleteInterests);
-        // 새로운 관심 상품 리스트 추가 (벌크)
-        jdbcRepository.saveAllInterest(insertInterests);
-
-        product.subInterest(deleteInterests.size());
-        product.addInterest(insertInterests.size());
+        int deleted = jdbcRepository.deleteInterests(findMember.getId(), removeSizeIds);
+        int inserted = jdbcRepository.saveAllInterestIfAbsent(findMember.getId(), keepSizeIds);
+        // 마이페이지 관심 상품 목록도 같은 트랜잭션에서 반영
+        jdbcRepository.syncWishlistItems(findMember.getId(), product.getId());
+
+        // 관심 상품 수는 실제로 바뀐 행 수만큼, product 행을 잠그지 않도록 카운터에 모았다가 주기적으로 저장
+        int delta = inserted - deleted;
+        TransactionHooks.afterCommit(() -> {
+            interestCounter.add(product.getId(), delta);
+            productTrendingRanking.addInterest(product.getId(), delta);
+            removeSizeIds.forEach(productSizeId -> priceAlertWatchers.remove(findMember.getId(), productSizeId));
+            keepSizeIds.forEach(productSizeId -> priceAlertWatchers.add(findMember.getId(), productSizeId));
+            memberWishlistCache.update(email, removeSizeIds, keepSizeIds);
+        });
     }
 
     // 상품페이지에서 관심 상품 목록 보기
+    // 관심 상품 여부는 DB 조회 없이 회원별 관심 사이즈 캐시로 판단
     public InterestProductResponseDto getProductWishList(String email, Long productId){
+        MemberWishlistCache.WishlistSizes wishlist = memberWishlistCache.get(email, () -> interestProductRepository.findSizeIdsByEmail(email));
         List<ProductSize> productSizes = productSizeRepository.findByProduct_Id(productId);
 
-        Set<Long> collect = interestProductRepository.findPreInterests(email, productId).stream()
-                .map(InterestProduct::getProductSize)
-                .map(ProductSize::getId)
-                .collect(Collectors.toSet());
-
         return InterestProductResponseDto.builder()
                 .interestProductSizes(
                         productSizes.stream()
                                 .map(p -> InterestProductResponseSizeDto.builder()
                                         .productSizeId(p.getId())
-                                        .checked(collect.contains(p.getId()))
+                                        .checked(wishlist.contains(p.getId()))
                                         .build())
                                 .collect(Collectors.toList()))
                 .build();
     }
 
     // 마이페이지에서 관심 상품 목록 보기
+    // 상품, 사이즈, 대표 이미지, 즉시 구매가를 미리 합쳐 둔 wishlist_item 에서 최근 등록 순으로 조회
+    @Transactional(readOnly = true)
     public Page<MyInterest> getMyWishList(String email, Pageable pageable){
-        return interestProductRepository.findMyInterests(email, pageable);
+        return wishlistItemRepository.findMyInterests(email, pageable);
+    }
+
+    // 마이페이지에서 관심 상품 목록 보기 (커서 방식, 한 건 더 읽어 다음 페이지 존재 여부 판단)
+    @Transactional(readOnly = true)
+    public MyInterestSliceDto getMyWishList(String email, Long cursor, int size){
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<MyInterest> interests = cursor == null
+                ? wishlistItemRepository.findMyInterestsFirst(email, limit)
+                : wishlistItemRepository.findMyInterestsAfter(email, cursor, limit);
+
+        boolean hasNext = interests.size() > size;
+        if (hasNext) {
+            interests = interests.subList(0, size);
+        }
+
+        return MyInterestSliceDto.builder()
+                .content(interests)
+                .nextCursor(hasNext ? interests.get(interests.size() - 1).getInterestId() : null)
+                .hasNext(hasNext)
+                .build();
     }
 
     // 마이페이지에서 관심 상품 삭제
@@ -119,8 +139,23 @@ public class InterestService {
                 .orElseThrow(InterestNotFoundException::new);
 
         Product product = interestProduct.getProductSize().getProduct();
+        Long memberId = interestProduct.getMember().getId();
+        Long productSizeId = interestProduct.getProductSize().getId();
 
-        product.subInterest(1);
         interestProductRepository.delete(interestProduct);
+        interestProductRepository.flush();
+        jdbcRepository.syncWishlistItems(memberId, product.getId());
+        TransactionHooks.afterCommit(() -> {
+            interestCounter.add(product.getId(), -1);
+            productTrendingRanking.addInterest(product.getId(), -1);
+            priceAlertWatchers.remove(memberId, productSizeId);
+            memberWishlistCache.update(email, List.of(productSizeId), List.of());
+        });
+    }
+
+    // 마이페이지에서 관심 상품 즉시 구매가 하락 알림 보기
+    @Transactional(readOnly = true)
+    public Page<PriceAlertDto> getMyPriceAlerts(String email, Pageable pageable){
+        return priceAlertRepository.findMyAlerts(email, pageable);
     }
 }
@@ -0,0 +1,98 @@
+package com.study.shoestrade.service.interest;
+
+import com.study.shoestrade.domain.trade.TradeState;
+import com.study.shoestrade.event.trade.DepthChangedEvent;
+import com.study.shoestrade.repository.jdbc.JdbcRepository;
+import com.study.shoestrade.service.trade.book.OrderBook;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 관심 상품 목록(wishlist_item)의 즉시 구매가 갱신
+ * 판매 호가가 바뀐 상품은 모아 두었다가 주기마다 호가창에서 사이즈별 즉시 구매가를 읽어 바뀐 사이즈만 한 번에 저장
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WishlistItemUpdater {
+
+    private final JdbcRepository jdbcRepository;
+    private final OrderBook orderBook;
+
+    // 상품 id -> 판매 호가가 바뀐 사이즈
+    private final ConcurrentMap<Long, Set<Integer>> dirtySizes = new ConcurrentHashMap<>();
+    // 상품 id -> 마지막으로 저장한 사이즈별 즉시 구매가 (판매 입찰이 없으면 null)
+    private final ConcurrentMap<Long, Map<Integer, Integer>> written = new ConcurrentHashMap<>();
+
+    /**
+     * interest_product, trade 테이블로 관심 상품 목록 전체를 다시 맞춤
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        jdbcRepository.rebuildWishlistItems();
+        written.clear();
+        log.info("wishlist items rebuilt");
+    }
+
+    @EventListener
+    public void onDepthChanged(DepthChangedEvent event) {
+        if (event.getTradeState() == TradeState.SELL) {
+            addDirty(event.getProductId(), Set.of(event.getSize()));
+        }
+    }
+
+    /**
+     * 판매 호가가 바뀐 상품의 사이즈별 즉시 구매가 저장
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void flush() {
+        for (Long productId : dirtySizes.keySet()) {
+            Set<Integer> sizes = dirtySizes.remove(productId);
+            if (sizes == null) {
+                continue;
+            }
+
+            Map<Integer, Integer> lowestAsks = new HashMap<>();
+            orderBook.findInstantTrade(productId, TradeState.SELL)
+                    .forEach(best -> lowestAsks.put(best.getSize(), best.getPrice()));
+
+            Map<Integer, Integer> previous = written.computeIfAbsent(productId, id -> new HashMap<>());
+            Map<Integer, Integer> changed = new HashMap<>();
+            sizes.forEach(size -> {
+                Integer price = lowestAsks.get(size);
+                if (!previous.containsKey(size) || !Objects.equals(previous.get(size), price)) {
+                    changed.put(size, price);
+                }
+            });
+            if (changed.isEmpty()) {
+                continue;
+            }
+
+            try {
+                jdbcRepository.updateAllWishlistLowestAsk(productId, changed);
+                previous.putAll(changed);
+            } catch (RuntimeException e) {
+                // 저장하지 못한 사이즈는 다음 주기에 다시 저장
+                addDirty(productId, changed.keySet());
+                log.warn("wishlist lowest ask flush failed : productId={}, {}", productId, e.getMessage());
+            }
+        }
+    }
+
+    // 꺼내는 중인 집합에 추가되어 잃지 않도록 compute 안에서 추가
+    private void addDirty(Long productId, Set<Integer> sizes) {
+        dirtySizes.compute(productId, (id, dirty) -> {
+            Set<Integer> result = dirty == null ? new HashSet<>() : dirty;
+            result.addAll(sizes);
+            return result;
+        });
+    }
+}
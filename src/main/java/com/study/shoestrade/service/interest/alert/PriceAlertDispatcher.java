@@ -0,0 +1,134 @@
+package com.study.shoestrade.service.interest.alert;
+
+import com.study.shoestrade.event.trade.LowestAskDroppedEvent;
+import com.study.shoestrade.repository.jdbc.JdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 즉시 구매가 하락 알림 전송
+ * 입찰 등록/수정 스레드는 사이즈별 대기 목록에 최신 가격만 남기고 바로 돌아가고, 알림 스레드 하나가 모아서 저장
+ * - 대기 목록은 사이즈 단위라 같은 사이즈의 하락이 여러 번 와도 한 번만 전송 (max-pending 개가 넘으면 새 사이즈는 버림)
+ * - cooldown-ms 안에는 마지막으로 알린 가격보다 더 낮아진 경우에만 다시 전송
+ * - 관심 회원은 id 순으로 batch-size 명씩 잘라 회원 id 범위마다 insert 문 하나로 저장
+ */
+@Slf4j
+@Component
+public class PriceAlertDispatcher {
+
+    private final PriceAlertWatchers priceAlertWatchers;
+    private final JdbcRepository jdbcRepository;
+    private final Executor worker;
+    private final int maxPending;
+    private final long cooldownMillis;
+    private final int batchSize;
+
+    // 상품 사이즈 id -> 전송할 하락 (최신 가격만)
+    private final ConcurrentMap<Long, LowestAskDroppedEvent> pending = new ConcurrentHashMap<>();
+    // 상품 사이즈 id -> 마지막으로 알린 가격, 시각 (알림 스레드에서만 변경)
+    private final ConcurrentMap<Long, Alerted> alerted = new ConcurrentHashMap<>();
+    // 알림 스레드에 전송 작업이 대기 중인지 (대기열에는 작업이 하나만 쌓임)
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    @Autowired
+    public PriceAlertDispatcher(PriceAlertWatchers priceAlertWatchers, JdbcRepository jdbcRepository,
+                                @Value("${interest.alert.max-pending:10000}") int maxPending,
+                                @Value("${interest.alert.cooldown-ms:600000}") long cooldownMillis,
+                                @Value("${interest.alert.batch-size:1000}") int batchSize) {
+        this(priceAlertWatchers, jdbcRepository, new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "price-alert");
+                    thread.setDaemon(true);
+                    return thread;
+                }), maxPending, cooldownMillis, batchSize);
+    }
+
+    public PriceAlertDispatcher(PriceAlertWatchers priceAlertWatchers, JdbcRepository jdbcRepository, Executor worker,
+                                int maxPending, long cooldownMillis, int batchSize) {
+        this.priceAlertWatchers = priceAlertWatchers;
+        this.jdbcRepository = jdbcRepository;
+        this.worker = worker;
+        this.maxPending = maxPending;
+        this.cooldownMillis = cooldownMillis;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener
+    public void onLowestAskDropped(LowestAskDroppedEvent event) {
+        Long productSizeId = event.getProductSizeId();
+        if (!priceAlertWatchers.isWatched(productSizeId)) {
+            return;
+        }
+        if (pending.size() >= maxPending && !pending.containsKey(productSizeId)) {
+            log.warn("price alert queue full, dropped : productSizeId={}, price={}", productSizeId, event.getPrice());
+            return;
+        }
+
+        pending.put(productSizeId, event);
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                worker.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+                log.warn("price alert worker rejected", e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (worker instanceof ExecutorService) {
+            ((ExecutorService) worker).shutdownNow();
+        }
+    }
+
+    // 전송 중에 들어온 하락은 다음 작업에서 보내도록 먼저 대기 상태를 해제
+    private void drain() {
+        scheduled.set(false);
+        for (Long productSizeId : pending.keySet()) {
+            LowestAskDroppedEvent event = pending.remove(productSizeId);
+            if (event != null) {
+                dispatch(event);
+            }
+        }
+    }
+
+    private void dispatch(LowestAskDroppedEvent event) {
+        long now = System.currentTimeMillis();
+        Alerted last = alerted.get(event.getProductSizeId());
+        if (last != null && event.getPrice() >= last.price && now - last.time < cooldownMillis) {
+            return;
+        }
+
+        long[] members = priceAlertWatchers.find(event.getProductSizeId());
+        int saved = 0;
+        for (int from = 0; from < members.length; from += batchSize) {
+            int to = Math.min(from + batchSize, members.length) - 1;
+            try {
+                saved += jdbcRepository.saveAllPriceAlert(event.getProductSizeId(), event.getPrice(), members[from], members[to]);
+            } catch (RuntimeException e) {
+                log.warn("price alert save failed : productSizeId={}, members {} ~ {}", event.getProductSizeId(), members[from], members[to], e);
+            }
+        }
+        alerted.put(event.getProductSizeId(), new Alerted(event.getPrice(), now));
+
+        log.debug("price alert sent : productSizeId={}, price={}, {} members", event.getProductSizeId(), event.getPrice(), saved);
+    }
+
+    private static class Alerted {
+        private final int price;
+        private final long time;
+
+        Alerted(int price, long time) {
+            this.price = price;
+            this.time = time;
+        }
+    }
+}
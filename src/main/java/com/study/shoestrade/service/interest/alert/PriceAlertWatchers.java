@@ -0,0 +1,77 @@
+package com.study.shoestrade.service.interest.alert;
+
+import com.study.shoestrade.dto.interest.InterestWatcherDto;
+import com.study.shoestrade.repository.interest.InterestProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 상품 사이즈별 관심 상품으로 등록한 회원 (메모리)
+ * 즉시 구매가가 낮아질 때마다 DB 를 조회하지 않고 알림 대상이 있는지, 몇 명인지 판단
+ * 시작 시 DB 에서 만들고, 관심 상품 등록/삭제 커밋 이후 반영
+ */
+@Slf4j
+@Component
+public class PriceAlertWatchers {
+
+    private final InterestProductRepository interestProductRepository;
+
+    // 상품 사이즈 id -> 회원 id
+    private final ConcurrentMap<Long, Set<Long>> watchers = new ConcurrentHashMap<>();
+
+    public PriceAlertWatchers(InterestProductRepository interestProductRepository) {
+        this.interestProductRepository = interestProductRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<InterestWatcherDto> rows = interestProductRepository.findAllWatchers();
+
+        watchers.clear();
+        rows.forEach(row -> add(row.getMemberId(), row.getProductSizeId()));
+
+        log.info("price alert watchers rebuilt : {} interests, {} sizes", rows.size(), watchers.size());
+    }
+
+    public void add(Long memberId, Long productSizeId) {
+        // 빈 집합을 지우는 remove 와 겹쳐도 잃지 않도록 compute 안에서 추가
+        watchers.compute(productSizeId, (id, members) -> {
+            Set<Long> result = members == null ? ConcurrentHashMap.newKeySet() : members;
+            result.add(memberId);
+            return result;
+        });
+    }
+
+    public void remove(Long memberId, Long productSizeId) {
+        watchers.computeIfPresent(productSizeId, (id, members) -> {
+            members.remove(memberId);
+            return members.isEmpty() ? null : members;
+        });
+    }
+
+    public boolean isWatched(Long productSizeId) {
+        return watchers.containsKey(productSizeId);
+    }
+
+    /**
+     * 사이즈를 관심 상품으로 등록한 회원
+     *
+     * @param productSizeId 상품 사이즈 id
+     * @return 회원 id (오름차순)
+     */
+    public long[] find(Long productSizeId) {
+        Set<Long> members = watchers.get(productSizeId);
+        if (members == null) {
+            return new long[0];
+        }
+        long[] result = members.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(result);
+        return result;
+    }
+}
@@ -0,0 +1,164 @@
+package com.study.shoestrade.service.interest.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * 회원별 관심 상품 사이즈 캐시
+ * 상품 페이지의 관심 상품 표시는 DB 를 조회하지 않고 이 캐시의 사이즈 id 로 판단
+ * 처음 조회할 때 DB 에서 읽고, 관심 상품 등록/삭제 시 커밋 이후 캐시에 있는 회원만 반영
+ * 사이즈 id 는 정렬된 long 배열로 저장하고 바뀔 때마다 새 배열로 교체 (반환한 배열은 바뀌지 않음)
+ * 메모리 : 회원 한 명당 약 ENTRY_BYTES + 이메일 길이 * 2 + 관심 사이즈 수 * 8 바이트
+ * - 관심 사이즈가 max-sizes(기본 4096, 약 32KB) 개를 넘는 회원은 캐시하지 않고 매번 DB 조회
+ * - 전체 추정 크기가 max-bytes(기본 16MB) 를 넘으면 오래 조회하지 않은 회원부터 제거
+ */
+@Component
+public class MemberWishlistCache {
+
+    // 해시 테이블 항목, 연결 리스트, 배열 헤더, 문자열 헤더
+    private static final long ENTRY_BYTES = 160;
+
+    private final long maxWeightBytes;
+    private final int maxSizes;
+
+    // 이메일 -> 관심 사이즈 (조회 순)
+    private final LinkedHashMap<String, WishlistSizes> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weightBytes;
+
+    // 이메일 -> 진행 중인 DB 조회 (조회 중에 관심 상품이 바뀌면 제거되어 조회 결과를 저장하지 않음, entries 와 같은 락으로 변경)
+    private final Map<String, Object> loading = new HashMap<>();
+
+    @Autowired
+    public MemberWishlistCache(@Value("${interest.wishlist-cache.max-bytes:16777216}") long maxWeightBytes,
+                               @Value("${interest.wishlist-cache.max-sizes:4096}") int maxSizes) {
+        this.maxWeightBytes = maxWeightBytes;
+        this.maxSizes = maxSizes;
+    }
+
+    /**
+     * 회원의 관심 사이즈 (캐시에 없으면 loader 로 조회 후 저장)
+     *
+     * @param email  회원 이메일
+     * @param loader 관심 사이즈 id DB 조회
+     * @return 관심 사이즈
+     */
+    public WishlistSizes get(String email, Supplier<List<Long>> loader) {
+        Object flight = new Object();
+        synchronized (this) {
+            WishlistSizes sizes = entries.get(email);
+            if (sizes != null) {
+                return sizes;
+            }
+            loading.put(email, flight);
+        }
+
+        WishlistSizes sizes = WishlistSizes.of(loader.get());
+        // 확인과 저장 사이에 변경, 무효화되지 않도록 같은 락에서 처리
+        synchronized (this) {
+            if (loading.remove(email, flight) && sizes.size() <= maxSizes) {
+                put(email, sizes);
+            }
+        }
+        return sizes;
+    }
+
+    /**
+     * 관심 사이즈 변경 (캐시에 없는 회원은 다음 조회 때 DB 에서 읽음)
+     *
+     * @param email   회원 이메일
+     * @param removed 삭제된 사이즈 id
+     * @param added   추가된 사이즈 id
+     */
+    public void update(String email, Collection<Long> removed, Collection<Long> added) {
+        synchronized (this) {
+            loading.remove(email);
+            WishlistSizes sizes = entries.get(email);
+            if (sizes == null) {
+                return;
+            }
+
+            WishlistSizes changed = sizes.change(removed, added);
+            if (changed.size() > maxSizes) {
+                invalidate(email);
+            } else {
+                put(email, changed);
+            }
+        }
+    }
+
+    public synchronized void invalidate(String email) {
+        loading.remove(email);
+        WishlistSizes sizes = entries.remove(email);
+        if (sizes != null) {
+            weightBytes -= weigh(email, sizes);
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long weightBytes() {
+        return weightBytes;
+    }
+
+    // 호출하는 쪽에서 락을 잡고 호출
+    private void put(String email, WishlistSizes sizes) {
+        WishlistSizes previous = entries.put(email, sizes);
+        weightBytes += weigh(email, sizes) - (previous == null ? 0 : weigh(email, previous));
+
+        Iterator<Map.Entry<String, WishlistSizes>> eldest = entries.entrySet().iterator();
+        while (weightBytes > maxWeightBytes && eldest.hasNext()) {
+            Map.Entry<String, WishlistSizes> evicted = eldest.next();
+            eldest.remove();
+            weightBytes -= weigh(evicted.getKey(), evicted.getValue());
+        }
+    }
+
+    private static long weigh(String email, WishlistSizes sizes) {
+        return ENTRY_BYTES + 2L * email.length() + 8L * sizes.size();
+    }
+
+    /**
+     * 회원의 관심 사이즈 id (정렬된 배열, 변경 불가)
+     */
+    public static final class WishlistSizes {
+
+        private final long[] productSizeIds;
+
+        private WishlistSizes(long[] productSizeIds) {
+            this.productSizeIds = productSizeIds;
+        }
+
+        public static WishlistSizes of(Collection<Long> productSizeIds) {
+            return new WishlistSizes(productSizeIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray());
+        }
+
+        public boolean contains(long productSizeId) {
+            return Arrays.binarySearch(productSizeIds, productSizeId) >= 0;
+        }
+
+        public int size() {
+            return productSizeIds.length;
+        }
+
+        WishlistSizes change(Collection<Long> removed, Collection<Long> added) {
+            long[] removedIds = removed.stream().mapToLong(Long::longValue).sorted().toArray();
+            long[] result = Arrays.copyOf(productSizeIds, productSizeIds.length + added.size());
+            int length = 0;
+            for (long id : productSizeIds) {
+                if (Arrays.binarySearch(removedIds, id) < 0) {
+                    result[length++] = id;
+                }
+            }
+            for (Long id : added) {
+                result[length++] = id;
+            }
+            return new WishlistSizes(Arrays.stream(result, 0, length).sorted().distinct().toArray());
+        }
+    }
+}
@@ -13,10 +13,12 @@ import com.study.shoestrade.dto.payment.request.PaymentRequestDto;
 import com.study.shoestrade.dto.payment.request.PaymentVerifyRequestDto;
 import com.study.shoestrade.exception.member.MemberNotFoundException;
 import com.study.shoestrade.exception.payment.*;
+import com.study.shoestrade.exception.trade.TradeAlreadyClaimedException;
 import com.study.shoestrade.exception.trade.TradeEmptyResultDataAccessException;
 import com.study.shoestrade.repository.member.MemberRepository;
 import com.study.shoestrade.repository.payment.PaymentRepository;
 import com.study.shoestrade.repository.trade.TradeRepository;
+import com.study.shoestrade.service.trade.book.OrderBook;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.json.simple.JSONObject;
@@ -47,6 +49,7 @@ public class PaymentService {
     private final MemberRepository memberRepository;
     private final TradeRepository tradeRepository;
     private final PaymentRepository paymentRepository;
+    private final OrderBook orderBook;
 
     @Value("${spring.pgmodule.app-id}")
     private String apiKey;
@@ -71,8 +74,14 @@ public class PaymentService {
             throw new PaymentPriceNotMatchedException();
         }
 
+        // 판매 입찰이거나 자신에게 체결된 입찰일 때만 변경 (동시에 결제 요청 시 한 명만 성공)
+        if (tradeRepository.claimSell(trade.getId(), member, LocalDateTime.now()) == 0) {
+            throw new TradeAlreadyClaimedException(trade.getId().toString());
+        }
+
         trade.changeState(TradeState.READY);
         trade.changePurchaser(member);
+        orderBook.remove(trade.getId());
 
         Payment payment = Payment.builder()
                 .trade(trade)
@@ -0,0 +1,110 @@
+package com.study.shoestrade.service.product;
+
+import com.study.shoestrade.domain.product.ProductMarketStats;
+import com.study.shoestrade.domain.trade.TradeState;
+import com.study.shoestrade.dto.trade.response.TradeLoadDto;
+import com.study.shoestrade.event.trade.DepthChangedEvent;
+import com.study.shoestrade.event.trade.TradeCompletedEvent;
+import com.study.shoestrade.repository.jdbc.JdbcRepository;
+import com.study.shoestrade.service.product.cache.ProductDetailCache;
+import com.study.shoestrade.service.trade.book.OrderBook;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 상품 시세 요약(product_market_stats) 갱신
+ * 거래 완료 시 완료 거래 수와 최근 거래가를 바로 누적하고,
+ * 호가창이 바뀐 상품은 모아 두었다가 주기마다 즉시 구매가, 즉시 판매가가 바뀐 상품만 한 번에 저장
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductMarketStatsService {
+
+    private final JdbcRepository jdbcRepository;
+    private final OrderBook orderBook;
+    private final ProductDetailCache productDetailCache;
+
+    // 호가창이 바뀐 상품 id
+    private final Set<Long> dirtyProducts = ConcurrentHashMap.newKeySet();
+    // 상품 id -> 마지막으로 저장한 {즉시 구매가, 즉시 판매가}
+    private final ConcurrentMap<Long, List<Integer>> written = new ConcurrentHashMap<>();
+
+    /**
+     * trade 테이블로 시세 요약 전체를 다시 계산
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        jdbcRepository.rebuildMarketStats();
+        written.clear();
+        productDetailCache.invalidateAll();
+        log.info("product market stats rebuilt");
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTradeCompleted(TradeCompletedEvent event) {
+        jdbcRepository.addDoneTrade(event.getProductId(), event.getPrice(), event.getTradeCompletionDate());
+        productDetailCache.invalidate(event.getProductId());
+    }
+
+    @EventListener
+    public void onDepthChanged(DepthChangedEvent event) {
+        dirtyProducts.add(event.getProductId());
+    }
+
+    /**
+     * 호가창이 바뀐 상품의 즉시 구매가, 즉시 판매가 저장
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void flush() {
+        List<ProductMarketStats> changed = new ArrayList<>();
+
+        for (Iterator<Long> iterator = dirtyProducts.iterator(); iterator.hasNext(); ) {
+            Long productId = iterator.next();
+            iterator.remove();
+
+            Integer lowestAsk = orderBook.findInstantTrade(productId, TradeState.SELL).stream()
+                    .map(TradeLoadDto::getPrice)
+                    .min(Integer::compare)
+                    .orElse(null);
+            Integer highestBid = orderBook.findInstantTrade(productId, TradeState.PURCHASE).stream()
+                    .map(TradeLoadDto::getPrice)
+                    .max(Integer::compare)
+                    .orElse(null);
+
+            List<Integer> best = Arrays.asList(lowestAsk, highestBid);
+            if (!best.equals(written.put(productId, best))) {
+                changed.add(ProductMarketStats.builder()
+                        .productId(productId)
+                        .lowestAsk(lowestAsk)
+                        .highestBid(highestBid)
+                        .build());
+            }
+        }
+
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcRepository.upsertAllBestPrice(changed);
+            changed.forEach(stats -> productDetailCache.invalidate(stats.getProductId()));
+        } catch (RuntimeException e) {
+            // 저장하지 못한 상품은 다음 주기에 다시 저장
+            changed.forEach(stats -> {
+                written.remove(stats.getProductId());
+                dirtyProducts.add(stats.getProductId());
+            });
+            log.warn("product market stats flush failed : {}", e.getMessage());
+        }
+    }
+}
@@ -3,9 +3,12 @@ package com.study.shoestrade.service.product;
 import com.study.shoestrade.dto.product.ProductImageDto;
 import com.study.shoestrade.dto.product.request.ProductSaveDto;
 import com.study.shoestrade.dto.product.ProductImageAddDto;
+import com.study.shoestrade.dto.product.request.ProductFacetSearchDto;
 import com.study.shoestrade.dto.product.request.ProductSearchDto;
 import com.study.shoestrade.dto.product.response.ProductDetailDto;
+import com.study.shoestrade.dto.product.response.ProductFacetResultDto;
 import com.study.shoestrade.dto.product.response.ProductLoadDto;
+import com.study.shoestrade.dto.product.response.TypeaheadDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -37,6 +40,24 @@ public interface ProductService {
      */
     Page<ProductLoadDto> findProductByNameInBrand(ProductSearchDto productSearchDto, Pageable pageable);
 
+    /**
+     * 상품 필터 검색
+     *
+     * @param productFacetSearchDto 검색어, 브랜드, 사이즈, 즉시 구매가 범위, 발매가 범위
+     * @param pageable              페이지 정보
+     * @return 검색 결과, 브랜드/사이즈별 상품 수
+     */
+    ProductFacetResultDto findProductByFacet(ProductFacetSearchDto productFacetSearchDto, Pageable pageable);
+
+    /**
+     * 상품, 브랜드 이름 자동완성
+     *
+     * @param keyword 입력 중인 검색어 (한글, 초성, 영어)
+     * @param size    결과 수
+     * @return 인기순 상품, 브랜드
+     */
+    List<TypeaheadDto> autocomplete(String keyword, int size);
+
     /**
      * 상품 정보 변경
      *
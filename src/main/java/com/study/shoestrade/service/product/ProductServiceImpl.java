@@ -1,15 +1,20 @@
 package com.study.shoestrade.service.product;
 
+import com.study.shoestrade.common.transaction.TransactionHooks;
 import com.study.shoestrade.domain.product.Brand;
 import com.study.shoestrade.domain.product.Product;
 import com.study.shoestrade.domain.product.ProductImage;
 import com.study.shoestrade.domain.product.ProductSize;
+import com.study.shoestrade.dto.brand.BrandDto;
 import com.study.shoestrade.dto.product.request.ProductSaveDto;
 import com.study.shoestrade.dto.product.ProductImageAddDto;
 import com.study.shoestrade.dto.product.ProductImageDto;
+import com.study.shoestrade.dto.product.request.ProductFacetSearchDto;
 import com.study.shoestrade.dto.product.request.ProductSearchDto;
 import com.study.shoestrade.dto.product.response.ProductDetailDto;
+import com.study.shoestrade.dto.product.response.ProductFacetResultDto;
 import com.study.shoestrade.dto.product.response.ProductLoadDto;
+import com.study.shoestrade.dto.product.response.TypeaheadDto;
 import com.study.shoestrade.exception.brand.BrandEmptyResultDataAccessException;
 import com.study.shoestrade.exception.product.ProductDuplicationException;
 import com.study.shoestrade.exception.product.ProductEmptyResultDataAccessException;
@@ -19,15 +24,24 @@ import com.study.shoestrade.repository.brand.BrandRepository;
 import com.study.shoestrade.repository.jdbc.JdbcRepository;
 import com.study.shoestrade.repository.product.ProductImageRepository;
 import com.study.shoestrade.repository.product.ProductRepository;
+import com.study.shoestrade.service.brand.BrandCatalog;
+import com.study.shoestrade.service.interest.InterestCounter;
+import com.study.shoestrade.service.product.cache.ProductDetailCache;
+import com.study.shoestrade.service.product.cache.ProductThumbnailCache;
+import com.study.shoestrade.service.product.search.ProductCountCache;
+import com.study.shoestrade.service.product.search.ProductFacetIndex;
+import com.study.shoestrade.service.product.search.ProductNameIndex;
+import com.study.shoestrade.service.product.search.ProductTrendingRanking;
+import com.study.shoestrade.service.product.search.ProductTypeahead;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
@@ -35,10 +49,22 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ProductServiceImpl implements ProductService {
 
+    // 이름 색인 결과가 이보다 많으면 IN 목록이 너무 길어지므로 메모리에서 페이지를 나눠 한 페이지의 id 만 조회
+    private static final int MAX_NAME_MATCH_IDS = 1000;
+
     private final ProductRepository productRepository;
     private final BrandRepository brandRepository;
+    private final BrandCatalog brandCatalog;
     private final ProductImageRepository productImageRepository;
     private final JdbcRepository jdbcRepository;
+    private final ProductNameIndex productNameIndex;
+    private final ProductCountCache productCountCache;
+    private final ProductDetailCache productDetailCache;
+    private final ProductThumbnailCache productThumbnailCache;
+    private final ProductFacetIndex productFacetIndex;
+    private final ProductTypeahead productTypeahead;
+    private final ProductTrendingRanking productTrendingRanking;
+    private final InterestCounter interestCounter;
 
     /**
      * 상품 등록
@@ -51,12 +77,18 @@ public class ProductServiceImpl implements ProductService {
         DuplicateProductKorName(productSaveDto.getKorName());
         DuplicateProductEngName(productSaveDto.getEngName());
 
-        Brand brand = brandRepository.findById(productSaveDto.getBrandId()).orElseThrow(() ->
-                new BrandEmptyResultDataAccessException(productSaveDto.getBrandId().toString(), 1)
-        );
+        Brand brand = findBrand(productSaveDto.getBrandId());
 
         Product product = productSaveDto.toEntity(brand);
         Product saveProduct = productRepository.save(product);
+        TransactionHooks.afterCommit(() -> {
+            productNameIndex.put(saveProduct.getId(), saveProduct.getKorName(), saveProduct.getEngName());
+            productCountCache.invalidate();
+            productThumbnailCache.refresh(saveProduct.getId());
+            productFacetIndex.put(saveProduct.getId(), brand.getId(), saveProduct.getReleasePrice());
+            productTypeahead.putProduct(saveProduct.getId(), saveProduct.getKorName(), saveProduct.getEngName());
+            productTrendingRanking.put(saveProduct.getId());
+        });
 
         List<ProductSize> list = new ArrayList<>();
 
@@ -91,6 +123,17 @@ public class ProductServiceImpl implements ProductService {
         } catch (EmptyResultDataAccessException e) {
             throw new ProductEmptyResultDataAccessException(productId.toString(), 1);
         }
+        jdbcRepository.deleteWishlistProduct(productId);
+        TransactionHooks.afterCommit(() -> {
+            productNameIndex.remove(productId);
+            productCountCache.invalidate();
+            productDetailCache.invalidate(productId);
+            productThumbnailCache.remove(productId);
+            productFacetIndex.remove(productId);
+            productTypeahead.removeProduct(productId);
+            productTrendingRanking.remove(productId);
+            interestCounter.remove(productId);
+        });
     }
 
     /**
@@ -102,8 +145,108 @@ public class ProductServiceImpl implements ProductService {
      */
     @Override
     public Page<ProductLoadDto> findProductByNameInBrand(ProductSearchDto productSearchDto, Pageable pageable) {
-        return productRepository.findProduct(productSearchDto.getName(),
-                productSearchDto.getBrandIdList(), pageable);
+        String name = productSearchDto.getName();
+        List<Long> brandIds = productSearchDto.getBrandIdList();
+
+        // 검색 조건이 없으면 (홈 목록) 인기 순위에서 한 페이지의 상품 id 만 읽어 조회
+        if (name.isEmpty() && brandIds.isEmpty() && productTrendingRanking.isReady()) {
+            return mergeInterest(findTrendingProduct(pageable));
+        }
+
+        // 검색어가 있으면 이름 색인으로 찾은 상품 id 안에서 검색 (색인 생성 전에만 LIKE 검색)
+        // 전체 개수는 검색 조건별로 캐시
+        if (!name.isEmpty() && productNameIndex.isReady()) {
+            Set<Long> productIds = productNameIndex.search(name);
+            if (productIds.isEmpty()) {
+                return Page.empty(pageable);
+            }
+            if (productIds.size() > MAX_NAME_MATCH_IDS) {
+                return mergeInterest(findLatestProductInIds(productIds, brandIds, pageable));
+            }
+            return mergeInterest(productRepository.findProductInIds(productIds, brandIds, pageable,
+                    () -> productCountCache.get(name, brandIds, () -> productRepository.countProductInIds(productIds, brandIds))));
+        }
+        return mergeInterest(productRepository.findProduct(name, brandIds, pageable,
+                () -> productCountCache.get(name, brandIds, () -> productRepository.countProduct(name, brandIds))));
+    }
+
+    private Page<ProductLoadDto> findTrendingProduct(Pageable pageable) {
+        List<Long> productIds = productTrendingRanking.findPage(pageable.getOffset(), pageable.getPageSize());
+        return PageableExecutionUtils.getPage(findProductInOrder(productIds), pageable, productTrendingRanking::size);
+    }
+
+    // 브랜드 조건은 필터 색인으로 거르고, 최신 등록 순(id 내림차순) 한 페이지의 상품만 조회
+    private Page<ProductLoadDto> findLatestProductInIds(Set<Long> productIds, List<Long> brandIds, Pageable pageable) {
+        List<Long> matched = productFacetIndex.search(ProductFacetSearchDto.builder().brandIdList(brandIds).build(), productIds)
+                .getProductIds();
+        return PageableExecutionUtils.getPage(findProductInOrder(latestPage(matched, pageable)), pageable, matched::size);
+    }
+
+    // 페이지의 상품 id 만 조회해서 id 순서대로 정렬 (그 사이 삭제된 상품은 제외)
+    private List<ProductLoadDto> findProductInOrder(List<Long> productIds) {
+        Map<Long, ProductLoadDto> products = productRepository.findProductByIds(productIds)
+                .stream()
+                .collect(Collectors.toMap(ProductLoadDto::getId, p -> p));
+
+        return productIds.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    // 아직 저장하지 않은 관심 상품 수 증감분 반영
+    private Page<ProductLoadDto> mergeInterest(Page<ProductLoadDto> products) {
+        products.forEach(p -> p.setInterest(interestCounter.merge(p.getId(), p.getInterest())));
+        return products;
+    }
+
+    /**
+     * 상품 필터 검색
+     * 필터 색인으로 조건을 만족하는 상품 id 와 브랜드/사이즈별 상품 수를 구한 뒤
+     * 최신 등록 순(id 내림차순)으로 메모리에서 페이지를 나누고 해당 페이지의 상품만 조회
+     *
+     * @param productFacetSearchDto 검색어, 브랜드, 사이즈, 즉시 구매가 범위, 발매가 범위
+     * @param pageable              페이지 정보
+     * @return 검색 결과, 브랜드/사이즈별 상품 수
+     */
+    @Override
+    public ProductFacetResultDto findProductByFacet(ProductFacetSearchDto productFacetSearchDto, Pageable pageable) {
+        String name = productFacetSearchDto.getName();
+        Set<Long> nameMatch = name == null || name.isEmpty() ? null : productNameIndex.search(name);
+
+        ProductFacetIndex.Result result = productFacetIndex.search(productFacetSearchDto, nameMatch);
+        List<Long> productIds = result.getProductIds();
+        List<Long> pageIds = latestPage(productIds, pageable);
+
+        return ProductFacetResultDto.builder()
+                .products(mergeInterest(PageableExecutionUtils.getPage(findProductInOrder(pageIds), pageable, productIds::size)))
+                .brandCounts(result.getBrandCounts())
+                .sizeCounts(result.getSizeCounts())
+                .build();
+    }
+
+    // id 오름차순 목록에서 id 내림차순 페이지
+    private static List<Long> latestPage(List<Long> ascendingIds, Pageable pageable) {
+        long end = ascendingIds.size() - pageable.getOffset();
+        long start = Math.max(0, end - pageable.getPageSize());
+
+        List<Long> page = new ArrayList<>();
+        for (long i = end - 1; i >= start; i--) {
+            page.add(ascendingIds.get((int) i));
+        }
+        return page;
+    }
+
+    /**
+     * 상품, 브랜드 이름 자동완성
+     *
+     * @param keyword 입력 중인 검색어 (한글, 초성, 영어)
+     * @param size    결과 수
+     * @return 인기순 상품, 브랜드
+     */
+    @Override
+    public List<TypeaheadDto> autocomplete(String keyword, int size) {
+        return productTypeahead.search(keyword, size);
     }
 
     /**
@@ -127,12 +270,20 @@ public class ProductServiceImpl implements ProductService {
             DuplicateProductEngName(productSaveDto.getEngName());
         }
 
-        Brand brand = brandRepository.findById(productSaveDto.getBrandId()).orElseThrow(() ->
-                new BrandEmptyResultDataAccessException(productSaveDto.getBrandId().toString(), 1)
-        );
+        // 브랜드 이름은 브랜드 목록에서 읽어 프록시를 초기화하지 않음
+        BrandDto brandDto = findBrandDto(productSaveDto.getBrandId());
+        Brand brand = brandRepository.getById(brandDto.getId());
 
         product.changeProduct(productSaveDto);
         product.changeProductBrand(brand);
+        jdbcRepository.updateWishlistProduct(product.getId(), productSaveDto.getKorName(), brandDto.getId(), brandDto.getEngName());
+        TransactionHooks.afterCommit(() -> {
+            productNameIndex.put(product.getId(), product.getKorName(), product.getEngName());
+            productCountCache.invalidate();
+            productDetailCache.invalidate(product.getId());
+            productFacetIndex.put(product.getId(), brand.getId(), product.getReleasePrice());
+            productTypeahead.putProduct(product.getId(), product.getKorName(), product.getEngName());
+        });
     }
 
 
@@ -169,6 +320,11 @@ public class ProductServiceImpl implements ProductService {
                         .map(name -> ProductImageDto.builder().name(name).build().toEntity(product))
                         .collect(Collectors.toList())
         );
+        jdbcRepository.updateWishlistThumbnail(productId);
+        TransactionHooks.afterCommit(() -> {
+            productDetailCache.invalidate(productId);
+            productThumbnailCache.refresh(productId);
+        });
     }
 
     /**
@@ -179,11 +335,22 @@ public class ProductServiceImpl implements ProductService {
     @Override
     @Transactional
     public void deleteProductImage(Long productImageId) {
+        Optional<Long> productId = productImageRepository.findProductIdById(productImageId);
         try {
             productImageRepository.deleteById(productImageId);
         } catch (EmptyResultDataAccessException e) {
             throw new ProductImageEmptyResultDataAccessException(productImageId.toString(), 1);
         }
+        productId.ifPresent(id -> {
+            // 삭제를 먼저 반영한 뒤 남은 이미지로 대표 이미지 다시 지정
+            productImageRepository.flush();
+            jdbcRepository.updateThumbnail(id);
+            jdbcRepository.updateWishlistThumbnail(id);
+            TransactionHooks.afterCommit(() -> {
+                productDetailCache.invalidate(id);
+                productThumbnailCache.refresh(id);
+            });
+        });
     }
 
 
@@ -195,8 +362,28 @@ public class ProductServiceImpl implements ProductService {
      */
     @Override
     public ProductDetailDto findProductDetailById(Long productId) {
-        return productRepository.findProductDetail(productId)
-                .orElseThrow(() -> new ProductEmptyResultDataAccessException(productId.toString(), 1));
+        ProductDetailDto productDetail = productDetailCache.get(productId, () -> productRepository.findProductDetail(productId)
+                .orElseThrow(() -> new ProductEmptyResultDataAccessException(productId.toString(), 1)));
+
+        // 캐시의 객체는 공유하므로 저장하지 않은 관심 상품 수 증감분이 있으면 복사본에 반영
+        long pending = interestCounter.pending(productId);
+        return pending == 0 ? productDetail : productDetail.withInterest((int) (productDetail.getInterest() + pending));
+    }
+
+    /**
+     * 브랜드 목록에서 브랜드 존재 확인 후 브랜드 참조 (select 없이 id 만 가진 프록시)
+     *
+     * @param brandId 브랜드 id
+     * @return 브랜드
+     */
+    private Brand findBrand(Long brandId) {
+        return brandRepository.getById(findBrandDto(brandId).getId());
+    }
+
+    private BrandDto findBrandDto(Long brandId) {
+        return brandCatalog.findById(brandId).orElseThrow(() ->
+                new BrandEmptyResultDataAccessException(brandId.toString(), 1)
+        );
     }
 
     /**
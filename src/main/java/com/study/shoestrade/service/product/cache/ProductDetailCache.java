@@ -0,0 +1,186 @@
+package com.study.shoestrade.service.product.cache;
+
+import com.study.shoestrade.dto.product.response.ProductDetailCacheStatsDto;
+import com.study.shoestrade.dto.product.response.ProductDetailDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 상품 상세 정보 캐시
+ * 추정 크기 합이 최대 크기를 넘으면 오래 조회하지 않은 상품부터 제거하고,
+ * 같은 상품을 동시에 조회하면 DB 조회는 한 번만 실행
+ * 상품의 거래 시세, 이미지, 상품/브랜드 정보가 바뀌면 커밋 이후 해당 상품만 무효화
+ * 관심 수는 InterestCounter 가 저장하지 않은 증감분을 조회 시 더하고, 저장한 뒤에 해당 상품만 무효화
+ * 반환하는 객체는 요청 간에 공유하므로 수정하지 않고 사용
+ */
+@Component
+public class ProductDetailCache {
+
+    private final long maxWeightBytes;
+
+    // 상품 id -> 상세 정보 (조회 순)
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weightBytes;
+
+    // 상품 id -> 진행 중인 DB 조회 (entries 와 같은 락으로 변경)
+    private final Map<Long, CompletableFuture<ProductDetailDto>> loading = new HashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    @Autowired
+    public ProductDetailCache(@Value("${product.detail-cache.max-bytes:8388608}") long maxWeightBytes) {
+        this.maxWeightBytes = maxWeightBytes;
+    }
+
+    /**
+     * 상품 상세 정보 (캐시에 없으면 loader 로 조회 후 저장)
+     *
+     * @param productId 상품 id
+     * @param loader    DB 조회
+     * @return 상품 상세 정보
+     */
+    public ProductDetailDto get(Long productId, Supplier<ProductDetailDto> loader) {
+        CompletableFuture<ProductDetailDto> flight = new CompletableFuture<>();
+        CompletableFuture<ProductDetailDto> running;
+        synchronized (this) {
+            Entry entry = entries.get(productId);
+            if (entry != null) {
+                hits.increment();
+                return entry.detail;
+            }
+            running = loading.putIfAbsent(productId, flight);
+        }
+        misses.increment();
+
+        if (running != null) {
+            return await(running);
+        }
+
+        try {
+            ProductDetailDto detail = loader.get();
+            loads.increment();
+
+            // 조회 중에 무효화되었으면 저장하지 않음 (확인과 저장 사이에 무효화되지 않도록 같은 락에서 처리)
+            synchronized (this) {
+                if (loading.remove(productId, flight)) {
+                    put(productId, detail);
+                }
+            }
+            flight.complete(detail);
+            return detail;
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                loading.remove(productId, flight);
+            }
+            flight.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 상품 무효화
+     *
+     * @param productId 상품 id
+     */
+    public void invalidate(Long productId) {
+        synchronized (this) {
+            loading.remove(productId);
+            Entry entry = entries.remove(productId);
+            if (entry != null) {
+                weightBytes -= entry.weight;
+                invalidations.increment();
+            }
+        }
+    }
+
+    /**
+     * 전체 무효화 (브랜드 변경, 삭제)
+     */
+    public void invalidateAll() {
+        synchronized (this) {
+            loading.clear();
+            invalidations.add(entries.size());
+            entries.clear();
+            weightBytes = 0;
+        }
+    }
+
+    public synchronized ProductDetailCacheStatsDto stats() {
+        return ProductDetailCacheStatsDto.builder()
+                .size(entries.size())
+                .weightBytes(weightBytes)
+                .maxWeightBytes(maxWeightBytes)
+                .hits(hits.sum())
+                .misses(misses.sum())
+                .loads(loads.sum())
+                .evictions(evictions.sum())
+                .invalidations(invalidations.sum())
+                .build();
+    }
+
+    // 호출하는 쪽에서 락을 잡고 호출
+    private void put(Long productId, ProductDetailDto detail) {
+        long weight = weigh(detail);
+        Entry previous = entries.put(productId, new Entry(detail, weight));
+        weightBytes += weight - (previous == null ? 0 : previous.weight);
+
+        Iterator<Map.Entry<Long, Entry>> eldest = entries.entrySet().iterator();
+        while (weightBytes > maxWeightBytes && eldest.hasNext()) {
+            Map.Entry<Long, Entry> evicted = eldest.next();
+            eldest.remove();
+            weightBytes -= evicted.getValue().weight;
+            evictions.increment();
+        }
+    }
+
+    private static ProductDetailDto await(CompletableFuture<ProductDetailDto> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    // 객체 헤더, 숫자 필드와 문자열(UTF-16) 크기로 추정
+    private static long weigh(ProductDetailDto detail) {
+        long bytes = 128 + length(detail.getKorName()) + length(detail.getEngName()) + length(detail.getCode())
+                + length(detail.getColor()) + length(detail.getBrandName());
+        if (detail.getImageList() != null) {
+            for (String image : detail.getImageList()) {
+                bytes += 16 + length(image);
+            }
+        }
+        return bytes;
+    }
+
+    private static long length(String value) {
+        return value == null ? 0 : 40 + 2L * value.length();
+    }
+
+    private static class Entry {
+        private final ProductDetailDto detail;
+        private final long weight;
+
+        Entry(ProductDetailDto detail, long weight) {
+            this.detail = detail;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.study.shoestrade.service.product.cache;
+
+import com.study.shoestrade.dto.product.ProductThumbnailDto;
+import com.study.shoestrade.repository.jdbc.JdbcRepository;
+import com.study.shoestrade.repository.product.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 상품 대표 이미지 캐시
+ * 대표 이미지는 product.thumbnail 에 저장 (이미지 등록/삭제 시 JdbcRepository 가 변경)
+ * 거래 내역, 관심 상품 목록은 product_image 를 조인하지 않고 이 캐시에서 대표 이미지를 채움
+ * 시작 시 product 테이블에서 만들고, 이미지 등록/삭제, 상품 삭제 시 커밋 이후 해당 상품만 다시 조회
+ */
+@Slf4j
+@Component
+public class ProductThumbnailCache {
+
+    private final ProductRepository productRepository;
+    private final JdbcRepository jdbcRepository;
+
+    // 상품 id -> 대표 이미지 이름
+    private volatile ConcurrentMap<Long, String> thumbnails = new ConcurrentHashMap<>();
+
+    public ProductThumbnailCache(ProductRepository productRepository, JdbcRepository jdbcRepository) {
+        this.productRepository = productRepository;
+        this.jdbcRepository = jdbcRepository;
+    }
+
+    /**
+     * 대표 이미지가 없는 상품의 대표 이미지를 지정한 뒤 전체 상품의 대표 이미지로 캐시 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        jdbcRepository.rebuildThumbnail();
+        List<ProductThumbnailDto> products = productRepository.findAllThumbnails();
+
+        ConcurrentMap<Long, String> newThumbnails = new ConcurrentHashMap<>();
+        products.forEach(p -> newThumbnails.put(p.getId(), p.getThumbnail()));
+        thumbnails = newThumbnails;
+
+        log.info("product thumbnail cache rebuilt : {} products", newThumbnails.size());
+    }
+
+    /**
+     * 상품 대표 이미지
+     *
+     * @param productId 상품 id
+     * @return 대표 이미지 이름 (없으면 null)
+     */
+    public String get(Long productId) {
+        return productId == null ? null : thumbnails.get(productId);
+    }
+
+    /**
+     * DB 에서 상품 대표 이미지를 다시 조회
+     *
+     * @param productId 상품 id
+     */
+    public void refresh(Long productId) {
+        String thumbnail = productRepository.findThumbnailById(productId).orElse(null);
+        if (thumbnail == null) {
+            thumbnails.remove(productId);
+        } else {
+            thumbnails.put(productId, thumbnail);
+        }
+    }
+
+    /**
+     * 대표 이미지 지정 (새로 등록된 상품의 첫 이미지)
+     *
+     * @param productId 상품 id
+     * @param thumbnail 대표 이미지 이름
+     */
+    public void put(Long productId, String thumbnail) {
+        thumbnails.put(productId, thumbnail);
+    }
+
+    public void remove(Long productId) {
+        thumbnails.remove(productId);
+    }
+}
@@ -0,0 +1,212 @@
+package com.study.shoestrade.service.product.importer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.shoestrade.dto.product.request.ProductSaveDto;
+import com.study.shoestrade.exception.product.WrongImportFormatException;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 일괄 등록 파일을 상품 한 건씩 읽는 스트림 (파일 전체를 메모리에 올리지 않음)
+ * JSON : 상품 객체 배열 [{"korName": ..., "engName": ..., "brandId": 1, "imageList": [...]}, ...]
+ * CSV  : 첫 줄은 헤더 (korName, engName, code, color, releasePrice, brandId, imageList), 이미지는 | 로 구분
+ * 형식이 잘못된 상품은 실패한 행으로 돌려주고 계속 읽으며, 파일 구조가 깨지면 UncheckedIOException
+ */
+public abstract class ProductImportReader implements Iterator<ProductImportRow>, Closeable {
+
+    public static final String JSON = "json";
+    public static final String CSV = "csv";
+
+    private ProductImportRow next;
+    private long row;
+
+    /**
+     * @param in           파일 내용
+     * @param format       json, csv
+     * @param objectMapper JSON 변환
+     * @return 상품 스트림
+     */
+    public static ProductImportReader open(InputStream in, String format, ObjectMapper objectMapper) {
+        try {
+            if (JSON.equals(format)) {
+                return new JsonReader(in, objectMapper);
+            }
+            if (CSV.equals(format)) {
+                return new CsvReader(in);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        throw new WrongImportFormatException(format);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = read(row + 1);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public ProductImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ProductImportRow current = next;
+        next = null;
+        row = current.getRow();
+        return current;
+    }
+
+    /**
+     * 다음 상품 (없으면 null)
+     */
+    protected abstract ProductImportRow read(long row) throws IOException;
+
+    private static class JsonReader extends ProductImportReader {
+        private final JsonParser parser;
+        private final ObjectMapper objectMapper;
+
+        JsonReader(InputStream in, ObjectMapper objectMapper) throws IOException {
+            this.objectMapper = objectMapper;
+            this.parser = objectMapper.getFactory().createParser(in);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("상품 일괄 등록 JSON 은 배열이어야 합니다.");
+            }
+        }
+
+        @Override
+        protected ProductImportRow read(long row) throws IOException {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                return null;
+            }
+            // 상품 하나씩 트리로 읽은 뒤 변환해 잘못된 값이 있어도 다음 상품부터 계속 읽음
+            JsonNode node = parser.readValueAsTree();
+            try {
+                return ProductImportRow.of(row, objectMapper.treeToValue(node, ProductSaveDto.class));
+            } catch (IOException | IllegalArgumentException e) {
+                return ProductImportRow.failed(row, "상품 정보를 읽을 수 없습니다. " + e.getMessage());
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+
+    private static class CsvReader extends ProductImportReader {
+        private static final List<String> REQUIRED = List.of("korName", "engName", "releasePrice", "brandId");
+
+        private final BufferedReader reader;
+        private final Map<String, Integer> columns = new HashMap<>();
+
+        CsvReader(InputStream in) throws IOException {
+            this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            List<String> header = readRecord();
+            if (header == null) {
+                throw new IOException("상품 일괄 등록 CSV 에 헤더가 없습니다.");
+            }
+            for (int i = 0; i < header.size(); i++) {
+                // UTF-8 BOM 제거
+                columns.put(header.get(i).replace("\uFEFF", "").trim(), i);
+            }
+            for (String column : REQUIRED) {
+                if (!columns.containsKey(column)) {
+                    throw new IOException("상품 일괄 등록 CSV 헤더에 " + column + " 열이 없습니다.");
+                }
+            }
+        }
+
+        @Override
+        protected ProductImportRow read(long row) throws IOException {
+            List<String> record;
+            do {
+                record = readRecord();
+                if (record == null) {
+                    return null;
+                }
+            } while (record.size() == 1 && record.get(0).isBlank());
+
+            try {
+                String images = column(record, "imageList");
+                return ProductImportRow.of(row, ProductSaveDto.builder()
+                        .korName(column(record, "korName"))
+                        .engName(column(record, "engName"))
+                        .code(column(record, "code"))
+                        .color(column(record, "color"))
+                        .releasePrice(Integer.parseInt(column(record, "releasePrice")))
+                        .brandId(Long.parseLong(column(record, "brandId")))
+                        .imageList(images == null || images.isEmpty() ? new ArrayList<>() : new ArrayList<>(Arrays.asList(images.split("\\|"))))
+                        .build());
+            } catch (NumberFormatException e) {
+                return ProductImportRow.failed(row, "숫자가 아닌 값이 있습니다. " + e.getMessage());
+            }
+        }
+
+        private String column(List<String> record, String name) {
+            Integer index = columns.get(name);
+            return index == null || index >= record.size() ? null : record.get(index).trim();
+        }
+
+        // 따옴표로 감싼 값 안의 쉼표, 줄바꿈, 두 번 쓴 따옴표("") 처리
+        private List<String> readRecord() throws IOException {
+            String line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+
+            List<String> values = new ArrayList<>();
+            StringBuilder value = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                for (int i = 0; i < line.length(); i++) {
+                    char c = line.charAt(i);
+                    if (quoted) {
+                        if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                            value.append('"');
+                            i++;
+                        } else if (c == '"') {
+                            quoted = false;
+                        } else {
+                            value.append(c);
+                        }
+                    } else if (c == '"') {
+                        quoted = true;
+                    } else if (c == ',') {
+                        values.add(value.toString());
+                        value.setLength(0);
+                    } else {
+                        value.append(c);
+                    }
+                }
+                if (!quoted) {
+                    break;
+                }
+                line = reader.readLine();
+                if (line == null) {
+                    throw new IOException("닫히지 않은 따옴표가 있습니다.");
+                }
+                value.append('\n');
+            }
+            values.add(value.toString());
+            return values;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.study.shoestrade.service.product.importer;
+
+import com.study.shoestrade.dto.product.request.ProductSaveDto;
+import lombok.Getter;
+
+/**
+ * 일괄 등록 파일의 상품 한 건
+ * 읽지 못한 상품은 product 없이 실패 사유만 가짐
+ */
+@Getter
+public class ProductImportRow {
+
+    // 파일의 상품 순번 (1부터 시작)
+    private final long row;
+    private final ProductSaveDto product;
+    private final String error;
+
+    private ProductImportRow(long row, ProductSaveDto product, String error) {
+        this.row = row;
+        this.product = product;
+        this.error = error;
+    }
+
+    public static ProductImportRow of(long row, ProductSaveDto product) {
+        return new ProductImportRow(row, product, null);
+    }
+
+    public static ProductImportRow failed(long row, String error) {
+        return new ProductImportRow(row, null, error);
+    }
+
+    public boolean isFailed() {
+        return error != null;
+    }
+
+    public String getKorName() {
+        return product == null ? null : product.getKorName();
+    }
+}
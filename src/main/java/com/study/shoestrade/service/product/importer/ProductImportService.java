@@ -0,0 +1,227 @@
+package com.study.shoestrade.service.product.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.shoestrade.dto.product.response.ProductImportErrorDto;
+import com.study.shoestrade.dto.product.response.ProductImportStatusDto;
+import com.study.shoestrade.exception.product.ProductImportJobNotFoundException;
+import com.study.shoestrade.exception.product.WrongImportFormatException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품 일괄 등록 (JSON, CSV)
+ * 업로드한 파일을 임시 파일로 옮긴 뒤 별도 스레드에서 상품을 한 건씩 읽어 chunkSize 개씩 묶어 저장
+ * 묶음마다 트랜잭션이 나뉘어 실패한 묶음만 되돌리고, 진행 상황과 실패한 상품은 작업 id 로 조회
+ */
+@Slf4j
+@Service
+public class ProductImportService {
+
+    private static final int MAX_ERRORS = 1000;
+    private static final int MAX_JOBS = 100;
+
+    private final ProductImportWriter productImportWriter;
+    private final ObjectMapper objectMapper;
+    private final Executor executor;
+    private final int chunkSize;
+
+    // 작업 id -> 작업 (최근 MAX_JOBS 개)
+    private final Map<String, ImportJob> jobs = Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ImportJob> eldest) {
+            return size() > MAX_JOBS;
+        }
+    });
+
+    @Autowired
+    public ProductImportService(ProductImportWriter productImportWriter, ObjectMapper objectMapper,
+                                @Value("${product.import.chunk-size:500}") int chunkSize) {
+        this(productImportWriter, objectMapper, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "product-import");
+            thread.setDaemon(true);
+            return thread;
+        }), chunkSize);
+    }
+
+    public ProductImportService(ProductImportWriter productImportWriter, ObjectMapper objectMapper, Executor executor, int chunkSize) {
+        this.productImportWriter = productImportWriter;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 일괄 등록 시작
+     *
+     * @param file 상품 파일 (확장자 json, csv)
+     * @return 작업 상태
+     */
+    public ProductImportStatusDto startImport(MultipartFile file) {
+        String fileName = Objects.requireNonNullElse(file.getOriginalFilename(), "");
+        String format = fileName.substring(fileName.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+        if (!format.equals(ProductImportReader.JSON) && !format.equals(ProductImportReader.CSV)) {
+            throw new WrongImportFormatException(fileName);
+        }
+
+        Path path;
+        try {
+            path = Files.createTempFile("product-import-", "." + format);
+            file.transferTo(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), fileName);
+        jobs.put(job.id, job);
+        executor.execute(() -> run(job, path, format));
+        return job.toDto();
+    }
+
+    /**
+     * 작업 상태 조회
+     *
+     * @param jobId 작업 id
+     * @return 작업 상태
+     */
+    public ProductImportStatusDto findImport(String jobId) {
+        ImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ProductImportJobNotFoundException(jobId);
+        }
+        return job.toDto();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ExecutorService) {
+            ((ExecutorService) executor).shutdownNow();
+        }
+    }
+
+    private void run(ImportJob job, Path path, String format) {
+        try (InputStream in = Files.newInputStream(path);
+             ProductImportReader reader = ProductImportReader.open(in, format, objectMapper)) {
+            // 파일 안에서 이름이 겹치는 상품은 먼저 나온 상품만 저장
+            Set<String> names = new HashSet<>();
+            List<ProductImportRow> chunk = new ArrayList<>(chunkSize);
+
+            while (reader.hasNext()) {
+                ProductImportRow row = reader.next();
+                job.processed.incrementAndGet();
+                if (row.isFailed()) {
+                    job.fail(new ProductImportErrorDto(row.getRow(), null, row.getError()));
+                    continue;
+                }
+                String korName = "kor:" + row.getProduct().getKorName();
+                String engName = "eng:" + row.getProduct().getEngName();
+                if (names.contains(korName) || names.contains(engName)) {
+                    job.fail(new ProductImportErrorDto(row.getRow(), row.getKorName(), "파일 안에 같은 이름의 상품이 있습니다."));
+                    continue;
+                }
+                names.add(korName);
+                names.add(engName);
+
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    write(job, chunk);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                write(job, chunk);
+            }
+            job.finish("DONE", null);
+        } catch (RuntimeException | IOException e) {
+            log.warn("product import failed : {}", job.fileName, e);
+            job.finish("FAILED", e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("product import temp file not deleted : {}", path, e);
+            }
+        }
+        log.info("product import {} : {} rows, {} imported, {} failed",
+                job.state, job.processed.get(), job.imported.get(), job.failed.get());
+    }
+
+    private void write(ImportJob job, List<ProductImportRow> chunk) {
+        List<ProductImportErrorDto> errors;
+        try {
+            errors = productImportWriter.writeChunk(chunk);
+        } catch (RuntimeException e) {
+            // 묶음 트랜잭션이 되돌려졌으므로 묶음 전체를 실패로 기록
+            log.warn("product import chunk failed : rows {} ~ {}", chunk.get(0).getRow(), chunk.get(chunk.size() - 1).getRow(), e);
+            chunk.forEach(row -> job.fail(new ProductImportErrorDto(row.getRow(), row.getKorName(), "저장하지 못했습니다. " + e.getMessage())));
+            return;
+        }
+        errors.forEach(job::fail);
+        job.imported.addAndGet(chunk.size() - errors.size());
+    }
+
+    private static class ImportJob {
+        private final String id;
+        private final String fileName;
+        private final LocalDateTime startedDate = LocalDateTime.now();
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final List<ProductImportErrorDto> errors = Collections.synchronizedList(new ArrayList<>());
+        private volatile String state = "RUNNING";
+        private volatile String message;
+        private volatile LocalDateTime finishedDate;
+
+        ImportJob(String id, String fileName) {
+            this.id = id;
+            this.fileName = fileName;
+        }
+
+        void fail(ProductImportErrorDto error) {
+            failed.incrementAndGet();
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(error);
+            }
+        }
+
+        void finish(String state, String message) {
+            this.message = message;
+            this.finishedDate = LocalDateTime.now();
+            this.state = state;
+        }
+
+        ProductImportStatusDto toDto() {
+            List<ProductImportErrorDto> snapshot;
+            synchronized (errors) {
+                snapshot = new ArrayList<>(errors);
+            }
+            return ProductImportStatusDto.builder()
+                    .jobId(id)
+                    .fileName(fileName)
+                    .state(state)
+                    .processedRows(processed.get())
+                    .importedRows(imported.get())
+                    .failedRows(failed.get())
+                    .startedDate(startedDate)
+                    .finishedDate(finishedDate)
+                    .message(message)
+                    .errors(snapshot)
+                    .build();
+        }
+    }
+}
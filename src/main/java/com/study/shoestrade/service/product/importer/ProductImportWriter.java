@@ -0,0 +1,149 @@
+package com.study.shoestrade.service.product.importer;
+
+import com.study.shoestrade.common.transaction.TransactionHooks;
+import com.study.shoestrade.domain.product.Brand;
+import com.study.shoestrade.domain.product.Product;
+import com.study.shoestrade.domain.product.ProductImage;
+import com.study.shoestrade.domain.product.ProductSize;
+import com.study.shoestrade.dto.product.ProductNameDto;
+import com.study.shoestrade.dto.product.request.ProductSaveDto;
+import com.study.shoestrade.dto.product.response.ProductImportErrorDto;
+import com.study.shoestrade.repository.jdbc.JdbcRepository;
+import com.study.shoestrade.repository.product.ProductRepository;
+import com.study.shoestrade.service.brand.BrandCatalog;
+import com.study.shoestrade.service.product.cache.ProductThumbnailCache;
+import com.study.shoestrade.service.product.search.ProductCountCache;
+import com.study.shoestrade.service.product.search.ProductFacetIndex;
+import com.study.shoestrade.service.product.search.ProductNameIndex;
+import com.study.shoestrade.service.product.search.ProductTrendingRanking;
+import com.study.shoestrade.service.product.search.ProductTypeahead;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 일괄 등록 한 묶음 저장
+ * 묶음마다 짧은 트랜잭션 하나로 이름 중복을 한 번에 검사하고 상품, 사이즈, 이미지를 JDBC 배치로 저장
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ProductImportWriter {
+
+    private static final int MIN_SIZE = 220;
+    private static final int MAX_SIZE = 300;
+    private static final int SIZE_STEP = 5;
+
+    private final ProductRepository productRepository;
+    private final JdbcRepository jdbcRepository;
+    private final BrandCatalog brandCatalog;
+    private final ProductNameIndex productNameIndex;
+    private final ProductCountCache productCountCache;
+    private final ProductFacetIndex productFacetIndex;
+    private final ProductThumbnailCache productThumbnailCache;
+    private final ProductTypeahead productTypeahead;
+    private final ProductTrendingRanking productTrendingRanking;
+
+    /**
+     * 상품 한 묶음 저장 (실패한 상품을 뺀 나머지만 저장)
+     *
+     * @param rows 파일에서 읽은 상품
+     * @return 실패한 상품
+     */
+    public List<ProductImportErrorDto> writeChunk(List<ProductImportRow> rows) {
+        List<ProductImportErrorDto> errors = new ArrayList<>();
+        List<ProductImportRow> valid = new ArrayList<>();
+        rows.forEach(row -> {
+            String error = validate(row.getProduct());
+            if (error == null) {
+                valid.add(row);
+            } else {
+                errors.add(error(row, error));
+            }
+        });
+
+        // 이름 중복은 묶음 전체를 쿼리 한 번으로 검사
+        Set<String> korNames = new HashSet<>();
+        Set<String> engNames = new HashSet<>();
+        if (!valid.isEmpty()) {
+            List<ProductNameDto> duplicates = productRepository.findAllNamesIn(
+                    valid.stream().map(row -> row.getProduct().getKorName()).collect(Collectors.toSet()),
+                    valid.stream().map(row -> row.getProduct().getEngName()).collect(Collectors.toSet()));
+            duplicates.forEach(p -> {
+                korNames.add(p.getKorName());
+                engNames.add(p.getEngName());
+            });
+        }
+
+        List<ProductSaveDto> products = new ArrayList<>();
+        for (ProductImportRow row : valid) {
+            ProductSaveDto product = row.getProduct();
+            if (korNames.contains(product.getKorName()) || engNames.contains(product.getEngName())) {
+                errors.add(error(row, "이미 등록된 상품 이름입니다."));
+            } else {
+                products.add(product);
+            }
+        }
+        if (products.isEmpty()) {
+            return errors;
+        }
+
+        List<Long> ids = jdbcRepository.saveAllProduct(products.stream()
+                .map(product -> product.toEntity(Brand.builder().id(product.getBrandId()).build()))
+                .collect(Collectors.toList()));
+
+        List<ProductSize> sizes = new ArrayList<>();
+        List<ProductImage> images = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Product saved = Product.builder().id(ids.get(i)).build();
+            for (int size = MIN_SIZE; size <= MAX_SIZE; size += SIZE_STEP) {
+                sizes.add(ProductSize.builder().size(size).product(saved).build());
+            }
+            products.get(i).getImageList().forEach(name -> images.add(ProductImage.builder().name(name).product(saved).build()));
+        }
+        jdbcRepository.saveAllSize(sizes);
+        jdbcRepository.saveAllImage(images);
+
+        TransactionHooks.afterCommit(() -> {
+            for (int i = 0; i < ids.size(); i++) {
+                ProductSaveDto product = products.get(i);
+                productNameIndex.put(ids.get(i), product.getKorName(), product.getEngName());
+                productFacetIndex.put(ids.get(i), product.getBrandId(), product.getReleasePrice());
+                productTypeahead.putProduct(ids.get(i), product.getKorName(), product.getEngName());
+                productTrendingRanking.put(ids.get(i));
+                if (!product.getImageList().isEmpty()) {
+                    productThumbnailCache.put(ids.get(i), product.getImageList().get(0));
+                }
+            }
+            productCountCache.invalidate();
+        });
+        return errors;
+    }
+
+    private String validate(ProductSaveDto product) {
+        if (isBlank(product.getKorName()) || isBlank(product.getEngName())) {
+            return "상품 이름이 없습니다.";
+        }
+        if (product.getReleasePrice() < 0) {
+            return "발매가는 0 이상이어야 합니다.";
+        }
+        if (product.getBrandId() == null || brandCatalog.findById(product.getBrandId()).isEmpty()) {
+            return product.getBrandId() + " : 해당 id의 브랜드를 찾을 수 없습니다.";
+        }
+        if (product.getImageList() == null) {
+            product.setImageList(new ArrayList<>());
+        }
+        return null;
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private ProductImportErrorDto error(ProductImportRow row, String message) {
+        return new ProductImportErrorDto(row.getRow(), row.getKorName(), message);
+    }
+}
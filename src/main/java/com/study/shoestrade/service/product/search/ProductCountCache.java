@@ -0,0 +1,100 @@
+package com.study.shoestrade.service.product.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.LongSupplier;
+
+/**
+ * 상품 검색 결과 개수 캐시
+ * (소문자로 바꾼 검색어, 브랜드 id 집합) 마다 개수를 저장하고 상품, 브랜드가 바뀌면 전체 무효화
+ * 다른 서버에서 바뀐 상품은 알 수 없으므로 저장한 개수는 최대 TTL 동안만 사용
+ */
+@Component
+public class ProductCountCache {
+
+    private static final int MAX_SIZE = 1000;
+    private static final long TTL_MILLIS = 10 * 60 * 1000L;
+
+    // 오래 조회하지 않은 검색 조건부터 제거
+    private final Map<Key, Entry> counts = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+    // 무효화할 때마다 증가 (무효화 전에 조회한 개수는 저장하지 않음)
+    private long version;
+
+    /**
+     * 검색 결과 개수 (캐시에 없으면 loader 로 조회 후 저장)
+     *
+     * @param name     검색어
+     * @param brandIds 선택한 브랜드 id
+     * @param loader   개수 조회
+     * @return 검색 결과 개수
+     */
+    public long get(String name, List<Long> brandIds, LongSupplier loader) {
+        Key key = new Key(name.toLowerCase(Locale.ROOT), new TreeSet<>(brandIds));
+        long now = System.currentTimeMillis();
+        long loadVersion;
+
+        synchronized (this) {
+            Entry entry = counts.get(key);
+            if (entry != null && now - entry.loadedAt < TTL_MILLIS) {
+                return entry.count;
+            }
+            loadVersion = version;
+        }
+
+        long count = loader.getAsLong();
+
+        synchronized (this) {
+            if (loadVersion == version) {
+                counts.put(key, new Entry(count, now));
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 상품 등록, 수정, 삭제 또는 브랜드 삭제 시 전체 무효화
+     */
+    public synchronized void invalidate() {
+        version++;
+        counts.clear();
+    }
+
+    private static class Key {
+        private final String name;
+        private final Set<Long> brandIds;
+
+        Key(String name, Set<Long> brandIds) {
+            this.name = name;
+            this.brandIds = brandIds;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return name.equals(key.name) && brandIds.equals(key.brandIds);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, brandIds);
+        }
+    }
+
+    private static class Entry {
+        private final long count;
+        private final long loadedAt;
+
+        Entry(long count, long loadedAt) {
+            this.count = count;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
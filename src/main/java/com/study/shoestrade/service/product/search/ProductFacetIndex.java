@@ -0,0 +1,330 @@
+package com.study.shoestrade.service.product.search;
+
+import com.study.shoestrade.domain.trade.TradeState;
+import com.study.shoestrade.dto.product.ProductFacetDto;
+import com.study.shoestrade.dto.product.request.ProductFacetSearchDto;
+import com.study.shoestrade.dto.trade.response.TradeLoadDto;
+import com.study.shoestrade.event.trade.DepthChangedEvent;
+import com.study.shoestrade.repository.product.ProductRepository;
+import com.study.shoestrade.service.trade.book.OrderBook;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * 상품 검색 필터 비트맵 색인
+ * 상품 id 를 비트 위치로 쓰는 비트맵을 브랜드, 판매 입찰이 있는 사이즈, 즉시 구매가 구간, 발매가 구간마다 두고
+ * 여러 필터를 비트맵 AND 로 계산 (가격 범위는 구간 비트맵 OR 후 경계 구간만 실제 가격 비교)
+ * 브랜드, 사이즈별 상품 수는 해당 필터만 뺀 나머지 조건의 비트맵과 AND 한 개수
+ * 시작 시 product 테이블로 만들고, 상품 등록/수정/삭제는 커밋 이후 반영,
+ * 판매 호가가 바뀐 상품은 모아 두었다가 주기마다 호가창에서 사이즈, 즉시 구매가를 다시 읽음
+ */
+@Slf4j
+@Component
+public class ProductFacetIndex {
+
+    // 가격 구간 크기 (원)
+    static final int PRICE_BUCKET = 10000;
+
+    private final ProductRepository productRepository;
+    private final OrderBook orderBook;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 상품 id -> 색인된 값
+    private final Map<Long, Facet> facets = new HashMap<>();
+    private final BitSet all = new BitSet();
+    private final Map<Long, BitSet> brands = new HashMap<>();
+    private final Map<Integer, BitSet> sizes = new HashMap<>();
+    private final NavigableMap<Integer, BitSet> lowestAsks = new TreeMap<>();
+    private final NavigableMap<Integer, BitSet> releasePrices = new TreeMap<>();
+
+    // 판매 호가가 바뀐 상품 id
+    private final Set<Long> dirtyProducts = ConcurrentHashMap.newKeySet();
+
+    public ProductFacetIndex(ProductRepository productRepository, OrderBook orderBook) {
+        this.productRepository = productRepository;
+        this.orderBook = orderBook;
+    }
+
+    /**
+     * product 테이블의 전체 상품으로 색인 생성 (사이즈, 즉시 구매가는 다음 주기에 호가창에서 채움)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<ProductFacetDto> products = productRepository.findAllFacets();
+
+        lock.writeLock().lock();
+        try {
+            facets.clear();
+            all.clear();
+            brands.clear();
+            sizes.clear();
+            lowestAsks.clear();
+            releasePrices.clear();
+            products.forEach(p -> index(p.getId(), new Facet(p.getBrandId(), p.getReleasePrice(), null, new int[0])));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        products.forEach(p -> dirtyProducts.add(p.getId()));
+
+        log.info("product facet index rebuilt : {} products", products.size());
+    }
+
+    /**
+     * 상품 추가, 변경 (사이즈, 즉시 구매가는 유지)
+     *
+     * @param productId    상품 id
+     * @param brandId      브랜드 id
+     * @param releasePrice 발매가
+     */
+    public void put(Long productId, Long brandId, int releasePrice) {
+        lock.writeLock().lock();
+        try {
+            Facet old = unindex(productId);
+            index(productId, old == null
+                    ? new Facet(brandId, releasePrice, null, new int[0])
+                    : new Facet(brandId, releasePrice, old.lowestAsk, old.sizes));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        dirtyProducts.add(productId);
+    }
+
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            unindex(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onDepthChanged(DepthChangedEvent event) {
+        if (event.getTradeState() == TradeState.SELL) {
+            dirtyProducts.add(event.getProductId());
+        }
+    }
+
+    /**
+     * 판매 호가가 바뀐 상품의 판매 입찰 사이즈, 즉시 구매가 갱신
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void flush() {
+        for (Iterator<Long> iterator = dirtyProducts.iterator(); iterator.hasNext(); ) {
+            Long productId = iterator.next();
+            iterator.remove();
+
+            List<TradeLoadDto> asks = orderBook.findInstantTrade(productId, TradeState.SELL);
+            int[] askSizes = asks.stream().mapToInt(TradeLoadDto::getSize).toArray();
+            Integer lowestAsk = asks.stream().map(TradeLoadDto::getPrice).min(Integer::compare).orElse(null);
+
+            lock.writeLock().lock();
+            try {
+                Facet old = facets.get(productId);
+                if (old != null && (!Objects.equals(old.lowestAsk, lowestAsk) || !Arrays.equals(old.sizes, askSizes))) {
+                    unindex(productId);
+                    index(productId, new Facet(old.brandId, old.releasePrice, lowestAsk, askSizes));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 필터 검색
+     *
+     * @param searchDto 브랜드, 사이즈, 즉시 구매가 범위, 발매가 범위
+     * @param nameMatch 이름 검색 결과 상품 id (검색어가 없으면 null)
+     * @return 조건을 모두 만족하는 상품 id, 브랜드/사이즈별 상품 수
+     */
+    public Result search(ProductFacetSearchDto searchDto, Set<Long> nameMatch) {
+        lock.readLock().lock();
+        try {
+            BitSet base = (BitSet) all.clone();
+            if (nameMatch != null) {
+                base.and(toBitSet(nameMatch));
+            }
+            and(base, range(lowestAsks, searchDto.getMinLowestAsk(), searchDto.getMaxLowestAsk(), facet -> facet.lowestAsk));
+            and(base, range(releasePrices, searchDto.getMinReleasePrice(), searchDto.getMaxReleasePrice(), facet -> facet.releasePrice));
+
+            BitSet brandFilter = union(brands, searchDto.getBrandIdList());
+            BitSet sizeFilter = union(sizes, searchDto.getSizeList());
+
+            // 브랜드별 개수는 브랜드 조건을, 사이즈별 개수는 사이즈 조건을 빼고 계산
+            BitSet withoutBrand = (BitSet) base.clone();
+            and(withoutBrand, sizeFilter);
+            BitSet withoutSize = (BitSet) base.clone();
+            and(withoutSize, brandFilter);
+            BitSet matched = (BitSet) withoutBrand.clone();
+            and(matched, brandFilter);
+
+            List<Long> productIds = new ArrayList<>(matched.cardinality());
+            matched.stream().forEach(id -> productIds.add((long) id));
+
+            return new Result(productIds, count(brands, withoutBrand), count(sizes, withoutSize));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void index(Long productId, Facet facet) {
+        int bit = Math.toIntExact(productId);
+        facets.put(productId, facet);
+        all.set(bit);
+        if (facet.brandId != null) {
+            brands.computeIfAbsent(facet.brandId, b -> new BitSet()).set(bit);
+        }
+        for (int size : facet.sizes) {
+            sizes.computeIfAbsent(size, s -> new BitSet()).set(bit);
+        }
+        if (facet.lowestAsk != null) {
+            lowestAsks.computeIfAbsent(facet.lowestAsk / PRICE_BUCKET, b -> new BitSet()).set(bit);
+        }
+        releasePrices.computeIfAbsent(facet.releasePrice / PRICE_BUCKET, b -> new BitSet()).set(bit);
+    }
+
+    private Facet unindex(Long productId) {
+        Facet facet = facets.remove(productId);
+        if (facet == null) {
+            return null;
+        }
+        int bit = Math.toIntExact(productId);
+        all.clear(bit);
+        if (facet.brandId != null) {
+            clear(brands, facet.brandId, bit);
+        }
+        for (int size : facet.sizes) {
+            clear(sizes, size, bit);
+        }
+        if (facet.lowestAsk != null) {
+            clear(lowestAsks, facet.lowestAsk / PRICE_BUCKET, bit);
+        }
+        clear(releasePrices, facet.releasePrice / PRICE_BUCKET, bit);
+        return facet;
+    }
+
+    private <K> void clear(Map<K, BitSet> bitmaps, K key, int bit) {
+        BitSet bitmap = bitmaps.get(key);
+        if (bitmap != null) {
+            bitmap.clear(bit);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    /**
+     * 가격 범위에 속한 상품 (범위가 없으면 null)
+     * 범위에 완전히 포함된 구간은 비트맵을 그대로 OR, 경계 구간은 상품별 실제 가격 비교
+     */
+    private BitSet range(NavigableMap<Integer, BitSet> buckets, Integer min, Integer max, Function<Facet, Integer> price) {
+        if (min == null && max == null) {
+            return null;
+        }
+        int low = min == null ? Integer.MIN_VALUE : min;
+        int high = max == null ? Integer.MAX_VALUE : max;
+        BitSet result = new BitSet();
+        if (low > high) {
+            return result;
+        }
+
+        buckets.subMap(low / PRICE_BUCKET, true, high / PRICE_BUCKET, true).forEach((bucket, bitmap) -> {
+            long bucketLow = (long) bucket * PRICE_BUCKET;
+            long bucketHigh = bucketLow + PRICE_BUCKET - 1;
+            if (low <= bucketLow && bucketHigh <= high) {
+                result.or(bitmap);
+                return;
+            }
+            bitmap.stream().forEach(bit -> {
+                Integer value = price.apply(facets.get((long) bit));
+                if (value != null && low <= value && value <= high) {
+                    result.set(bit);
+                }
+            });
+        });
+        return result;
+    }
+
+    // 선택한 값 중 하나라도 가진 상품 (선택하지 않으면 null)
+    private <K> BitSet union(Map<K, BitSet> bitmaps, List<K> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return null;
+        }
+        BitSet result = new BitSet();
+        keys.forEach(key -> {
+            BitSet bitmap = bitmaps.get(key);
+            if (bitmap != null) {
+                result.or(bitmap);
+            }
+        });
+        return result;
+    }
+
+    private void and(BitSet target, BitSet filter) {
+        if (filter != null) {
+            target.and(filter);
+        }
+    }
+
+    private <K extends Comparable<K>> Map<K, Integer> count(Map<K, BitSet> bitmaps, BitSet base) {
+        Map<K, Integer> counts = new TreeMap<>();
+        bitmaps.forEach((key, bitmap) -> {
+            int count = bitmap.intersects(base) ? intersectionCount(bitmap, base) : 0;
+            if (count > 0) {
+                counts.put(key, count);
+            }
+        });
+        return counts;
+    }
+
+    private int intersectionCount(BitSet bitmap, BitSet base) {
+        BitSet intersection = (BitSet) bitmap.clone();
+        intersection.and(base);
+        return intersection.cardinality();
+    }
+
+    private BitSet toBitSet(Set<Long> productIds) {
+        BitSet result = new BitSet();
+        productIds.forEach(id -> result.set(Math.toIntExact(id)));
+        return result;
+    }
+
+    private static class Facet {
+        private final Long brandId;
+        private final int releasePrice;
+        private final Integer lowestAsk;
+        private final int[] sizes;
+
+        Facet(Long brandId, int releasePrice, Integer lowestAsk, int[] sizes) {
+            this.brandId = brandId;
+            this.releasePrice = releasePrice;
+            this.lowestAsk = lowestAsk;
+            this.sizes = sizes;
+        }
+    }
+
+    @Getter
+    public static class Result {
+        private final List<Long> productIds;
+        private final Map<Long, Integer> brandCounts;
+        private final Map<Integer, Integer> sizeCounts;
+
+        Result(List<Long> productIds, Map<Long, Integer> brandCounts, Map<Integer, Integer> sizeCounts) {
+            this.productIds = productIds;
+            this.brandCounts = brandCounts;
+            this.sizeCounts = sizeCounts;
+        }
+    }
+}
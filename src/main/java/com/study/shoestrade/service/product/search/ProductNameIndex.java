@@ -0,0 +1,187 @@
+package com.study.shoestrade.service.product.search;
+
+import com.study.shoestrade.dto.product.ProductNameDto;
+import com.study.shoestrade.repository.product.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 상품 이름(한글, 영어) n-gram 역색인
+ * 소문자로 바꾼 이름을 2, 3 글자 단위로 잘라 상품 id 를 색인하고
+ * 검색어의 n-gram 을 모두 가진 상품 중 이름에 검색어가 포함된 상품 id 만 반환 (LIKE '%검색어%' 와 같은 결과)
+ * 시작 시 product 테이블에서 만들고, 상품 등록/수정/삭제 시 커밋 이후 반영
+ */
+@Slf4j
+@Component
+public class ProductNameIndex {
+
+    private static final int MIN_GRAM = 2;
+    private static final int MAX_GRAM = 3;
+
+    private final ProductRepository productRepository;
+
+    // 상품 id -> 소문자로 바꾼 이름 (한글, 영어)
+    private volatile ConcurrentMap<Long, String[]> names = new ConcurrentHashMap<>();
+    // n-gram -> 상품 id
+    private volatile ConcurrentMap<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    public ProductNameIndex(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    /**
+     * product 테이블의 모든 상품 이름으로 색인 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        List<ProductNameDto> products = productRepository.findAllNames();
+
+        ConcurrentMap<Long, String[]> newNames = new ConcurrentHashMap<>();
+        ConcurrentMap<String, Set<Long>> newPostings = new ConcurrentHashMap<>();
+        products.forEach(p -> {
+            String[] folded = fold(p.getKorName(), p.getEngName());
+            newNames.put(p.getId(), folded);
+            grams(folded).forEach(gram -> newPostings.computeIfAbsent(gram, g -> ConcurrentHashMap.newKeySet()).add(p.getId()));
+        });
+
+        names = newNames;
+        postings = newPostings;
+        ready = true;
+
+        log.info("product name index rebuilt : {} products, {} grams", newNames.size(), newPostings.size());
+    }
+
+    /**
+     * 상품 이름 색인 (이미 있으면 교체)
+     *
+     * @param productId 상품 id
+     * @param korName   한글 이름
+     * @param engName   영어 이름
+     */
+    public synchronized void put(Long productId, String korName, String engName) {
+        remove(productId);
+
+        String[] folded = fold(korName, engName);
+        grams(folded).forEach(gram -> postings.computeIfAbsent(gram, g -> ConcurrentHashMap.newKeySet()).add(productId));
+        names.put(productId, folded);
+    }
+
+    /**
+     * 상품 이름 색인 제거
+     *
+     * @param productId 상품 id
+     */
+    public synchronized void remove(Long productId) {
+        String[] folded = names.remove(productId);
+        if (folded == null) {
+            return;
+        }
+
+        grams(folded).forEach(gram -> {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(productId);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        });
+    }
+
+    /**
+     * 이름에 검색어가 포함된 상품 id
+     *
+     * @param keyword 검색어
+     * @return 상품 id
+     */
+    public Set<Long> search(String keyword) {
+        String query = keyword.toLowerCase(Locale.ROOT);
+        ConcurrentMap<Long, String[]> currentNames = names;
+
+        // 검색어가 한 글자면 색인 없이 이름을 직접 비교
+        if (query.length() < MIN_GRAM) {
+            Set<Long> result = new HashSet<>();
+            currentNames.forEach((id, folded) -> {
+                if (matches(folded, query)) {
+                    result.add(id);
+                }
+            });
+            return result;
+        }
+
+        List<Set<Long>> candidates = new ArrayList<>();
+        for (String gram : grams(query, Math.min(query.length(), MAX_GRAM))) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null) {
+                return Collections.emptySet();
+            }
+            candidates.add(ids);
+        }
+        candidates.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = new HashSet<>();
+        for (Long id : candidates.get(0)) {
+            if (containsAll(candidates, id)) {
+                String[] folded = currentNames.get(id);
+                if (folded != null && matches(folded, query)) {
+                    result.add(id);
+                }
+            }
+        }
+        return result;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private static boolean containsAll(List<Set<Long>> candidates, Long id) {
+        for (int i = 1; i < candidates.size(); i++) {
+            if (!candidates.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matches(String[] folded, String query) {
+        for (String name : folded) {
+            if (name.contains(query)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String[] fold(String korName, String engName) {
+        return new String[]{
+                korName == null ? "" : korName.toLowerCase(Locale.ROOT),
+                engName == null ? "" : engName.toLowerCase(Locale.ROOT)
+        };
+    }
+
+    private static Set<String> grams(String[] folded) {
+        Set<String> result = new HashSet<>();
+        for (String name : folded) {
+            for (int n = MIN_GRAM; n <= MAX_GRAM; n++) {
+                result.addAll(grams(name, n));
+            }
+        }
+        return result;
+    }
+
+    private static Set<String> grams(String text, int n) {
+        Set<String> result = new HashSet<>();
+        for (int i = 0; i + n <= text.length(); i++) {
+            result.add(text.substring(i, i + n));
+        }
+        return result;
+    }
+}
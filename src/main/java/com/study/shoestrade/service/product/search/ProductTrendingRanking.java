@@ -0,0 +1,224 @@
+package com.study.shoestrade.service.product.search;
+
+import com.study.shoestrade.dto.product.ProductTrendingDto;
+import com.study.shoestrade.event.trade.TradeCompletedEvent;
+import com.study.shoestrade.repository.jdbc.JdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 상품 인기 순위 (메모리)
+ * 점수 = 완료된 거래 수(거래마다 반감기가 지날 때마다 절반으로 감소) + 관심 상품 수
+ * 거래 점수는 기준 시각(landmark)의 값으로 저장해 거래 완료 시 해당 상품만 2 ^ ((완료 시각 - 기준 시각) / 반감기) 를 더하고 순위를 옮김
+ * 관심 상품 수는 줄지 않으므로 rebase-ms 마다 기준 시각을 지금으로 옮겨 전체 거래 점수를 줄이고 순위를 다시 정렬
+ * 점수가 같으면 최근 등록된 상품(id 가 큰 상품)이 앞
+ * 시작 시 DB 에서 만들고, 상품 등록/삭제, 거래 완료, 관심 상품 변경 시 해당 상품만 반영
+ */
+@Slf4j
+@Component
+public class ProductTrendingRanking {
+
+    // 반감기가 이만큼 지난 거래는 처음 만들 때 읽지 않음 (0.1% 미만)
+    private static final int WINDOW_HALF_LIVES = 10;
+
+    private static final Comparator<Entry> ORDER = Comparator.comparingDouble(Entry::score).reversed()
+            .thenComparing(Comparator.comparingLong((Entry e) -> e.productId).reversed());
+
+    private final JdbcRepository jdbcRepository;
+    private final double halfLifeSeconds;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 상품 id -> 점수
+    private final Map<Long, Entry> entries = new HashMap<>();
+    // 점수 순
+    private final TreeSet<Entry> ranking = new TreeSet<>(ORDER);
+    // 거래 점수의 기준 시각 (epoch 초)
+    private double landmark = epochSeconds(LocalDateTime.now());
+    private volatile boolean ready;
+
+    public ProductTrendingRanking(JdbcRepository jdbcRepository,
+                                  @Value("${product.trending.half-life-hours:24}") double halfLifeHours) {
+        this.jdbcRepository = jdbcRepository;
+        this.halfLifeSeconds = halfLifeHours * 3600;
+    }
+
+    /**
+     * 전체 상품의 관심 상품 수, 완료된 거래로 순위 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        double now = epochSeconds(LocalDateTime.now());
+        List<ProductTrendingDto> products = jdbcRepository.findAllTrending(halfLifeSeconds, (long) (halfLifeSeconds * WINDOW_HALF_LIVES));
+
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            ranking.clear();
+            landmark = now;
+            products.forEach(p -> {
+                Entry entry = new Entry(p.getId(), p.getDoneScore(), p.getInterest());
+                entries.put(entry.productId, entry);
+                ranking.add(entry);
+            });
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("product trending ranking rebuilt : {} products", products.size());
+    }
+
+    /**
+     * 기준 시각을 지금으로 옮기고 거래 점수를 줄여 다시 정렬
+     */
+    @Scheduled(fixedDelayString = "${product.trending.rebase-ms:60000}")
+    public void rebase() {
+        double now = epochSeconds(LocalDateTime.now());
+
+        lock.writeLock().lock();
+        try {
+            double factor = Math.pow(0.5, (now - landmark) / halfLifeSeconds);
+            ranking.clear();
+            entries.values().forEach(entry -> {
+                entry.trades *= factor;
+                ranking.add(entry);
+            });
+            landmark = now;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTradeCompleted(TradeCompletedEvent event) {
+        LocalDateTime completed = event.getTradeCompletionDate() == null ? LocalDateTime.now() : event.getTradeCompletionDate();
+        update(event.getProductId(), false, entry -> entry.trades += Math.pow(2, (epochSeconds(completed) - landmark) / halfLifeSeconds));
+    }
+
+    /**
+     * 관심 상품 수 변경
+     *
+     * @param productId 상품 id
+     * @param delta     늘어난 수 (줄었으면 음수)
+     */
+    public void addInterest(Long productId, int delta) {
+        if (delta != 0) {
+            update(productId, false, entry -> entry.interest += delta);
+        }
+    }
+
+    /**
+     * 새로 등록된 상품 (점수 0)
+     *
+     * @param productId 상품 id
+     */
+    public void put(Long productId) {
+        update(productId, true, entry -> {
+        });
+    }
+
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.remove(productId);
+            if (entry != null) {
+                ranking.remove(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 인기순 상품 id 한 페이지
+     *
+     * @param offset 건너뛸 상품 수
+     * @param size   페이지 크기
+     * @return 상품 id
+     */
+    public List<Long> findPage(long offset, int size) {
+        List<Long> result = new ArrayList<>(size);
+        lock.readLock().lock();
+        try {
+            Iterator<Entry> iterator = ranking.iterator();
+            for (long i = 0; i < offset && iterator.hasNext(); i++) {
+                iterator.next();
+            }
+            while (result.size() < size && iterator.hasNext()) {
+                result.add(iterator.next().productId);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    /**
+     * 순위에 있는 전체 상품 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 순위에서 꺼내 바꾼 뒤 다시 넣음 (없는 상품은 create 일 때만 추가, 삭제된 상품이 다시 들어오지 않도록)
+    private void update(Long productId, boolean create, Consumer<Entry> change) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.get(productId);
+            if (entry == null) {
+                if (!create) {
+                    return;
+                }
+                entry = new Entry(productId, 0, 0);
+                entries.put(productId, entry);
+            } else {
+                ranking.remove(entry);
+            }
+            change.accept(entry);
+            ranking.add(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static double epochSeconds(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() / 1000.0;
+    }
+
+    private static class Entry {
+        private final long productId;
+        private double trades;
+        private int interest;
+
+        Entry(long productId, double trades, int interest) {
+            this.productId = productId;
+            this.trades = trades;
+            this.interest = interest;
+        }
+
+        double score() {
+            return trades + interest;
+        }
+    }
+}
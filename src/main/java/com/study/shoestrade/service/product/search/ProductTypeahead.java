@@ -0,0 +1,389 @@
+package com.study.shoestrade.service.product.search;
+
+import com.study.shoestrade.dto.brand.BrandDto;
+import com.study.shoestrade.dto.product.ProductTypeaheadDto;
+import com.study.shoestrade.dto.product.response.TypeaheadDto;
+import com.study.shoestrade.repository.brand.BrandRepository;
+import com.study.shoestrade.repository.product.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 상품, 브랜드 이름 자동완성 (메모리 trie)
+ * 이름의 각 단어 시작부터 자모로 분해한 키와 초성 키를 trie 에 넣어 "에어맥", "ㅇㅇㅁㅅ", "ㄴ", "air" 모두 앞부분으로 찾음
+ * 겹받침, 이중 모음도 나누어 넣으므로 입력 중인 글자("달" -> "닭")도 일치
+ * 노드마다 인기도(관심 상품 수 + 완료된 거래 수, 브랜드는 소속 상품의 합) 상위 MAX_SIZE 개를 미리 들고 있어 검색어 길이만큼만 따라가면 결과가 나옴
+ * 키는 MAX_DEPTH 글자(자모)까지만 넣어 메모리를 제한하고 (상품 1만 개 기준 노드 수십만 개), 더 긴 검색어는 해당 노드 아래에서 다시 걸러냄
+ * 시작 시 만들고 상품, 브랜드 등록/수정/삭제 시 커밋 이후 해당 항목만 반영, 인기도는 refresh-ms 마다 전체를 다시 만들어 반영
+ */
+@Slf4j
+@Component
+public class ProductTypeahead {
+
+    public static final String PRODUCT = "PRODUCT";
+    public static final String BRAND = "BRAND";
+
+    static final int MAX_SIZE = 10;
+    static final int MAX_DEPTH = 24;
+
+    private static final char SYLLABLE_BEGIN = 0xAC00;
+    private static final char SYLLABLE_END = 0xD7A3;
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+            "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    // 따로 입력한 겹받침, 이중 모음
+    private static final String COMPOUND = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_JAMO = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+    };
+
+    private static final Comparator<Entry> RANKING = Comparator.comparingLong((Entry e) -> e.popularity).reversed()
+            .thenComparingInt(e -> e.korName.length())
+            .thenComparing(e -> e.type)
+            .thenComparingLong(e -> e.id);
+
+    private final ProductRepository productRepository;
+    private final BrandRepository brandRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Trie trie = new Trie();
+
+    public ProductTypeahead(ProductRepository productRepository, BrandRepository brandRepository) {
+        this.productRepository = productRepository;
+        this.brandRepository = brandRepository;
+    }
+
+    /**
+     * 전체 상품, 브랜드로 trie 생성 (인기도 갱신)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${product.typeahead.refresh-ms:600000}", fixedDelayString = "${product.typeahead.refresh-ms:600000}")
+    public synchronized void rebuild() {
+        List<ProductTypeaheadDto> products = productRepository.findAllTypeahead();
+        List<BrandDto> brands = brandRepository.findAll().stream().map(BrandDto::create).collect(Collectors.toList());
+
+        Map<Long, Long> brandPopularity = new HashMap<>();
+        products.forEach(p -> brandPopularity.merge(p.getBrandId(), p.getPopularity(), Long::sum));
+
+        Trie newTrie = new Trie();
+        products.forEach(p -> newTrie.put(new Entry(PRODUCT, p.getId(), p.getKorName(), p.getEngName(), p.getPopularity())));
+        brands.forEach(b -> newTrie.put(new Entry(BRAND, b.getId(), b.getKorName(), b.getEngName(), brandPopularity.getOrDefault(b.getId(), 0L))));
+
+        lock.writeLock().lock();
+        try {
+            trie = newTrie;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("product typeahead rebuilt : {} products, {} brands, {} nodes", products.size(), brands.size(), newTrie.nodeCount);
+    }
+
+    /**
+     * 상품 색인 (이미 있으면 이름만 바꾸고 인기도는 유지)
+     *
+     * @param productId 상품 id
+     * @param korName   한글 이름
+     * @param engName   영어 이름
+     */
+    public synchronized void putProduct(Long productId, String korName, String engName) {
+        put(PRODUCT, productId, korName, engName);
+    }
+
+    public synchronized void removeProduct(Long productId) {
+        remove(PRODUCT, productId);
+    }
+
+    /**
+     * 브랜드 색인 (이미 있으면 이름만 바꾸고 인기도는 유지)
+     *
+     * @param brandId 브랜드 id
+     * @param korName 한글 이름
+     * @param engName 영어 이름
+     */
+    public synchronized void putBrand(Long brandId, String korName, String engName) {
+        put(BRAND, brandId, korName, engName);
+    }
+
+    public synchronized void removeBrand(Long brandId) {
+        remove(BRAND, brandId);
+    }
+
+    /**
+     * 검색어로 시작하는 단어가 이름에 있는 상품, 브랜드 (인기순)
+     *
+     * @param keyword 검색어 (한글, 초성, 영어)
+     * @param size    결과 수 (최대 MAX_SIZE)
+     * @return 자동완성 결과
+     */
+    public List<TypeaheadDto> search(String keyword, int size) {
+        String query = keyword == null ? "" : jamo(keyword);
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+        if (query.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Entry> result;
+        lock.readLock().lock();
+        try {
+            Node node = trie.find(query);
+            if (node == null) {
+                return Collections.emptyList();
+            }
+            if (query.length() <= MAX_DEPTH) {
+                result = Arrays.asList(node.top);
+            } else {
+                // 키를 자른 깊이보다 긴 검색어는 아래 항목을 전부 모아 전체 키로 다시 비교
+                Set<Entry> entries = Collections.newSetFromMap(new IdentityHashMap<>());
+                node.collect(entries);
+                result = entries.stream()
+                        .filter(e -> e.keys.stream().anyMatch(key -> key.startsWith(query)))
+                        .sorted(RANKING)
+                        .collect(Collectors.toList());
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return result.stream()
+                .limit(limit)
+                .map(e -> new TypeaheadDto(e.type, e.id, e.korName, e.engName))
+                .collect(Collectors.toList());
+    }
+
+    private void put(String type, Long id, String korName, String engName) {
+        lock.writeLock().lock();
+        try {
+            Entry old = trie.remove(type, id);
+            trie.put(new Entry(type, id, korName, engName, old == null ? 0 : old.popularity));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(String type, Long id) {
+        lock.writeLock().lock();
+        try {
+            trie.remove(type, id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 한글 음절을 자모로 분해 (겹받침, 이중 모음은 나눔), 영어는 소문자, 공백 제거
+     */
+    static String jamo(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) {
+                int index = c - SYLLABLE_BEGIN;
+                sb.append(CHOSEONG.charAt(index / 588))
+                        .append(JUNGSEONG[index % 588 / 28])
+                        .append(JONGSEONG[index % 28]);
+            } else if (COMPOUND.indexOf(c) >= 0) {
+                sb.append(COMPOUND_JAMO[COMPOUND.indexOf(c)]);
+            } else if (!Character.isWhitespace(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 한글 음절은 초성만, 영어는 소문자, 공백 제거
+     */
+    static String choseong(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) {
+                sb.append(CHOSEONG.charAt((c - SYLLABLE_BEGIN) / 588));
+            } else if (!Character.isWhitespace(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    // 이름의 각 단어부터 끝까지를 자모 키, 초성 키로
+    private static Set<String> keys(String korName, String engName) {
+        Set<String> keys = new HashSet<>();
+        for (String name : new String[]{korName, engName}) {
+            if (name == null) {
+                continue;
+            }
+            for (int i = 0; i < name.length(); i++) {
+                if (Character.isLetterOrDigit(name.charAt(i)) && (i == 0 || !Character.isLetterOrDigit(name.charAt(i - 1)))) {
+                    String word = name.substring(i);
+                    keys.add(jamo(word));
+                    keys.add(choseong(word));
+                }
+            }
+        }
+        keys.remove("");
+        return keys;
+    }
+
+    private static class Entry {
+        private final String type;
+        private final Long id;
+        private final String korName;
+        private final String engName;
+        private final long popularity;
+        private final Set<String> keys;
+
+        Entry(String type, Long id, String korName, String engName, long popularity) {
+            this.type = type;
+            this.id = id;
+            this.korName = korName == null ? "" : korName;
+            this.engName = engName;
+            this.popularity = popularity;
+            this.keys = keys(korName, engName);
+        }
+    }
+
+    private static class Node {
+        private static final Entry[] EMPTY = new Entry[0];
+
+        private final Node parent;
+        private final char c;
+        private final int depth;
+        private Map<Character, Node> children;
+        // 키가 이 노드에서 끝나는 항목
+        private List<Entry> terminals;
+        // 이 노드 아래 항목 중 인기도 상위 MAX_SIZE 개
+        private Entry[] top = EMPTY;
+
+        Node(Node parent, char c, int depth) {
+            this.parent = parent;
+            this.c = c;
+            this.depth = depth;
+        }
+
+        void offer(Entry entry) {
+            for (Entry e : top) {
+                if (e == entry) {
+                    return;
+                }
+            }
+            if (top.length == MAX_SIZE && RANKING.compare(entry, top[MAX_SIZE - 1]) >= 0) {
+                return;
+            }
+            Entry[] next = Arrays.copyOf(top, Math.min(top.length + 1, MAX_SIZE));
+            int i = Math.min(top.length, MAX_SIZE - 1);
+            while (i > 0 && RANKING.compare(entry, next[i - 1]) < 0) {
+                next[i] = next[i - 1];
+                i--;
+            }
+            next[i] = entry;
+            top = next;
+        }
+
+        // 자식 노드의 상위 항목과 여기서 끝나는 항목으로 상위 항목을 다시 계산
+        void recompute() {
+            Set<Entry> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+            if (terminals != null) {
+                candidates.addAll(terminals);
+            }
+            if (children != null) {
+                children.values().forEach(child -> candidates.addAll(Arrays.asList(child.top)));
+            }
+            top = candidates.stream().sorted(RANKING).limit(MAX_SIZE).toArray(Entry[]::new);
+        }
+
+        boolean isEmpty() {
+            return (children == null || children.isEmpty()) && (terminals == null || terminals.isEmpty());
+        }
+
+        void collect(Set<Entry> entries) {
+            if (terminals != null) {
+                entries.addAll(terminals);
+            }
+            if (children != null) {
+                children.values().forEach(child -> child.collect(entries));
+            }
+        }
+    }
+
+    private static class Trie {
+        private final Node root = new Node(null, '\0', 0);
+        private final Map<String, Entry> entries = new HashMap<>();
+        private int nodeCount;
+
+        Node find(String query) {
+            Node node = root;
+            for (int i = 0; i < Math.min(query.length(), MAX_DEPTH) && node != null; i++) {
+                node = node.children == null ? null : node.children.get(query.charAt(i));
+            }
+            return node;
+        }
+
+        void put(Entry entry) {
+            entries.put(entry.type + entry.id, entry);
+            for (String key : entry.keys) {
+                Node node = root;
+                for (int i = 0; i < Math.min(key.length(), MAX_DEPTH); i++) {
+                    if (node.children == null) {
+                        node.children = new HashMap<>(4);
+                    }
+                    Node parent = node;
+                    char c = key.charAt(i);
+                    node = node.children.computeIfAbsent(c, ch -> {
+                        nodeCount++;
+                        return new Node(parent, ch, parent.depth + 1);
+                    });
+                    node.offer(entry);
+                }
+                if (node.terminals == null) {
+                    node.terminals = new ArrayList<>(1);
+                }
+                node.terminals.add(entry);
+            }
+        }
+
+        // 경로의 노드를 깊은 노드부터 다시 계산하고 빈 노드는 떼어냄
+        Entry remove(String type, Long id) {
+            Entry entry = entries.remove(type + id);
+            if (entry == null) {
+                return null;
+            }
+
+            Set<Node> path = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (String key : entry.keys) {
+                Node node = find(key);
+                if (node != null && node.terminals != null) {
+                    node.terminals.removeIf(e -> e == entry);
+                }
+                for (; node != null && node != root; node = node.parent) {
+                    path.add(node);
+                }
+            }
+
+            path.stream()
+                    .sorted(Comparator.comparingInt((Node n) -> n.depth).reversed())
+                    .forEach(node -> {
+                        node.recompute();
+                        if (node.isEmpty()) {
+                            node.parent.children.remove(node.c);
+                            nodeCount--;
+                        }
+                    });
+            return entry;
+        }
+    }
+}
@@ -8,10 +8,12 @@ import com.study.shoestrade.exception.token.InvalidRefreshTokenException;
 import com.study.shoestrade.repository.member.MemberRepository;
 import com.study.shoestrade.repository.member.TokenRepository;
 import com.study.shoestrade.repository.trade.TradeRepository;
+import com.study.shoestrade.service.trade.TradeExpireService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -24,9 +26,31 @@ import java.util.stream.Collectors;
 @Transactional
 public class SchedulerService {
 
+    private static final int EXPIRE_CHUNK_SIZE = 500;
+
     private final TradeRepository tradeRepository;
     private final MemberRepository memberRepository;
     private final TokenRepository tokenRepository;
+    private final TradeExpireService tradeExpireService;
+
+    /**
+     * 유효 기간이 지난 입찰을 묶음 단위로 만료 (묶음마다 별도 트랜잭션)
+     */
+    @Scheduled(fixedDelay = 60000)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void expireScheduler() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int expired;
+        do {
+            expired = tradeExpireService.expireChunk(now, EXPIRE_CHUNK_SIZE);
+            total += expired;
+        } while (expired == EXPIRE_CHUNK_SIZE);
+
+        if (total > 0) {
+            log.info("expired trades total = {}", total);
+        }
+    }
 
     @Scheduled(cron = "00 00 00 * * *", zone = "Asia/Seoul")
     public void notPaidScheduler() {
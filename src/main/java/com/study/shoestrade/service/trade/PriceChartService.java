@@ -0,0 +1,76 @@
+package com.study.shoestrade.service.trade;
+
+import com.study.shoestrade.domain.product.ProductSize;
+import com.study.shoestrade.domain.trade.CandleResolution;
+import com.study.shoestrade.domain.trade.PriceCandle;
+import com.study.shoestrade.domain.trade.Trade;
+import com.study.shoestrade.dto.trade.response.PriceCandleDto;
+import com.study.shoestrade.exception.product.ProductEmptyResultDataAccessException;
+import com.study.shoestrade.repository.jdbc.JdbcRepository;
+import com.study.shoestrade.repository.product.ProductRepository;
+import com.study.shoestrade.repository.trade.PriceCandleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시세 차트
+ * 거래가 완료될 때마다 상품, 사이즈별 1시간/1일/1주 봉에 누적하고 차트는 봉만 조회
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class PriceChartService {
+
+    // 기간을 지정하지 않으면 최근 봉 개수
+    private static final int DEFAULT_CANDLE_COUNT = 200;
+
+    private final PriceCandleRepository priceCandleRepository;
+    private final ProductRepository productRepository;
+    private final JdbcRepository jdbcRepository;
+
+    /**
+     * 완료된 거래를 상품 전체, 사이즈별 봉에 누적
+     *
+     * @param trade DONE 상태가 된 거래
+     */
+    public void addTrade(Trade trade) {
+        ProductSize productSize = trade.getProductSize();
+        Long productId = productSize.getProduct().getId();
+        List<PriceCandle> candles = new ArrayList<>();
+
+        for (CandleResolution resolution : CandleResolution.values()) {
+            candles.add(PriceCandle.of(productId, PriceCandle.ALL_SIZE, resolution, trade.getTradeCompletionDate(), trade.getPrice()));
+            candles.add(PriceCandle.of(productId, productSize.getId(), resolution, trade.getTradeCompletionDate(), trade.getPrice()));
+        }
+        jdbcRepository.upsertAllCandle(candles);
+    }
+
+    /**
+     * 시세 차트 조회
+     *
+     * @param productId     상품 id
+     * @param productSizeId 상품 사이즈 id (null이면 전체 사이즈)
+     * @param resolution    봉 단위(1h, 1d, 1w)
+     * @param from          시작 시각 (null이면 최근 200개 봉)
+     * @param to            끝 시각 (null이면 현재)
+     * @return 시간 순 봉
+     */
+    @Transactional(readOnly = true)
+    public List<PriceCandleDto> findChart(Long productId, Long productSizeId, String resolution, LocalDateTime from, LocalDateTime to) {
+        productRepository.findById(productId).orElseThrow(() ->
+                new ProductEmptyResultDataAccessException(productId.toString(), 1)
+        );
+
+        CandleResolution candleResolution = CandleResolution.of(resolution);
+        LocalDateTime end = to == null ? LocalDateTime.now() : to;
+        LocalDateTime start = from == null ? candleResolution.bucketOf(candleResolution.minus(end, DEFAULT_CANDLE_COUNT - 1)) : from;
+
+        return priceCandleRepository.findCandles(productId, productSizeId == null ? PriceCandle.ALL_SIZE : productSizeId,
+                candleResolution, start, end);
+    }
+}
@@ -0,0 +1,46 @@
+package com.study.shoestrade.service.trade;
+
+import com.study.shoestrade.repository.trade.TradeRepository;
+import com.study.shoestrade.service.trade.book.OrderBook;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 유효 기간이 지난 판매, 구매 입찰 만료
+ * 한 번에 chunkSize 개씩 짧은 트랜잭션으로 처리해 잠금을 오래 잡지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class TradeExpireService {
+
+    private final TradeRepository tradeRepository;
+    private final OrderBook orderBook;
+
+    /**
+     * 만료된 입찰 한 묶음을 만료 상태로 변경하고 호가창에서 제거
+     *
+     * @param now       기준 시각
+     * @param chunkSize 한 번에 처리할 입찰 수
+     * @return 조회된 만료 입찰 수 (chunkSize 보다 작으면 남은 입찰 없음)
+     */
+    public int expireChunk(LocalDateTime now, int chunkSize) {
+        List<Long> ids = tradeRepository.findExpiredTrade(now, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        int expired = tradeRepository.expireTrades(ids, now);
+        ids.forEach(orderBook::remove);
+
+        log.info("expired trades = {} / {}", expired, ids.size());
+        return ids.size();
+    }
+}
@@ -1,8 +1,11 @@
 package com.study.shoestrade.service.trade;
 
+import com.study.shoestrade.dto.trade.request.TradeBatchDto;
 import com.study.shoestrade.dto.trade.request.TradeDto;
+import com.study.shoestrade.dto.trade.response.TradeBatchResultDto;
 import com.study.shoestrade.dto.trade.response.TradeBreakdownCountDto;
 import com.study.shoestrade.dto.trade.response.TradeDoneDto;
+import com.study.shoestrade.dto.trade.response.TradeDoneSliceDto;
 import com.study.shoestrade.dto.trade.response.TradeLoadDto;
 import com.study.shoestrade.dto.trade.response.TradeTransactionDto;
 import org.springframework.data.domain.Page;
@@ -20,6 +23,15 @@ public interface TradeService {
      */
     void TradeSave(String email, TradeDto tradeSaveDto);
 
+    /**
+     * 입찰 일괄 등록
+     *
+     * @param email         사용자 이메일
+     * @param tradeBatchDto 사이즈별 입찰 정보
+     * @return 입찰별 처리 결과 (요청 순서)
+     */
+    List<TradeBatchResultDto> saveTrades(String email, TradeBatchDto tradeBatchDto);
+
     // 거래 내역 수 조회
     TradeBreakdownCountDto getBreakdownCount(String email, String tradeType);
 
@@ -51,15 +63,28 @@ public interface TradeService {
      */
     Page<TradeDoneDto> findDoneTrade(Long productId, Pageable pageable);
 
+    /**
+     * 상품의 체결 거래 내역 (커서 방식)
+     *
+     * @param productId 상품 id
+     * @param cursor    이전 페이지의 다음 커서 (첫 페이지면 null)
+     * @param size      페이지 크기
+     * @param withCount 전체 체결 수 조회 여부
+     * @return 검색 결과
+     */
+    TradeDoneSliceDto findDoneTrade(Long productId, String cursor, int size, boolean withCount);
+
     /**
      * 상품의 입찰 내역
      *
      * @param productId  상품 id
      * @param tradeState 입찰 상태(판매, 구매)
+     * @param afterSize  이전 페이지 마지막 사이즈 (첫 페이지거나 페이지 번호로 조회하면 null)
+     * @param afterPrice 이전 페이지 마지막 가격
      * @param pageable   페이지 정보
      * @return 검색 결과
      */
-    Page<TradeTransactionDto> findTransactionTrade(Long productId, String tradeState, Pageable pageable);
+    Page<TradeTransactionDto> findTransactionTrade(Long productId, String tradeState, Integer afterSize, Integer afterPrice, Pageable pageable);
 
     /**
      * 즉시 거래가
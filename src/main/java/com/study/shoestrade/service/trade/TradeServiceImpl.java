@@ -1,29 +1,42 @@
 package com.study.shoestrade.service.trade;
 
 import com.study.shoestrade.domain.member.Member;
+import com.study.shoestrade.domain.product.ProductSize;
 import com.study.shoestrade.domain.trade.Trade;
 import com.study.shoestrade.domain.trade.TradeState;
 import com.study.shoestrade.domain.trade.TradeType;
+import com.study.shoestrade.dto.trade.DoneTradeCursor;
+import com.study.shoestrade.dto.trade.DoneTradeDto;
+import com.study.shoestrade.dto.trade.request.TradeBatchDto;
 import com.study.shoestrade.dto.trade.request.TradeDto;
+import com.study.shoestrade.dto.trade.response.TradeBatchResultDto;
 import com.study.shoestrade.dto.trade.response.TradeBreakdownCountDto;
 import com.study.shoestrade.dto.trade.response.TradeDoneDto;
+import com.study.shoestrade.dto.trade.response.TradeDoneSliceDto;
 import com.study.shoestrade.dto.trade.response.TradeLoadDto;
 import com.study.shoestrade.dto.trade.response.TradeTransactionDto;
 import com.study.shoestrade.exception.member.MemberNotFoundException;
 import com.study.shoestrade.exception.payment.MyTradeException;
 import com.study.shoestrade.exception.product.ProductEmptyResultDataAccessException;
 import com.study.shoestrade.exception.product.ProductSizeNoSuchElementException;
+import com.study.shoestrade.exception.trade.TradeAlreadyClaimedException;
 import com.study.shoestrade.exception.trade.TradeEmptyResultDataAccessException;
 import com.study.shoestrade.exception.trade.WrongStateException;
+import com.study.shoestrade.exception.trade.WrongTradeBatchException;
 import com.study.shoestrade.exception.trade.WrongTradeTypeException;
+import com.study.shoestrade.repository.jdbc.JdbcRepository;
 import com.study.shoestrade.repository.member.MemberRepository;
 import com.study.shoestrade.repository.product.ProductRepository;
 import com.study.shoestrade.repository.product.ProductSizeRepository;
 import com.study.shoestrade.repository.trade.TradeRepository;
 import com.study.shoestrade.service.member.MailService;
+import com.study.shoestrade.service.product.cache.ProductThumbnailCache;
+import com.study.shoestrade.service.trade.book.MatchingEngine;
+import com.study.shoestrade.service.trade.book.OrderBook;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,7 +44,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -39,6 +54,11 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class TradeServiceImpl implements TradeService {
 
+    private static final int DEFAULT_VALID_DAYS = 30;
+    private static final int MAX_VALID_DAYS = 180;
+    // 한 번에 등록할 수 있는 입찰 수
+    private static final int MAX_BATCH_SIZE = 100;
+
     private final TradeRepository tradeRepository;
 
     private final ProductRepository productRepository;
@@ -47,9 +67,14 @@ public class TradeServiceImpl implements TradeService {
 
     private final ProductSizeRepository productSizeRepository;
     private final MailService mailService;
+    private final OrderBook orderBook;
+    private final MatchingEngine matchingEngine;
+    private final JdbcRepository jdbcRepository;
+    private final ProductThumbnailCache productThumbnailCache;
 
     /**
      * 입찰 등록
+     * 반대편에 체결 가능한 입찰이 있으면 등록하지 않고 바로 체결
      *
      * @param email    사용자 이메일
      * @param tradeDto 입찰 정보
@@ -57,19 +82,119 @@ public class TradeServiceImpl implements TradeService {
     @Transactional
     @Override
     public void TradeSave(String email, TradeDto tradeDto) {
+        Member member = memberRepository.findByEmail(email).orElseThrow(MemberNotFoundException::new);
+        ProductSize productSize = productSizeRepository.findById(tradeDto.getProductSizeId())
+                .orElseThrow(() -> new ProductSizeNoSuchElementException(String.valueOf(tradeDto.getProductSizeId())));
+
+        if (matchingEngine.match(member, productSize, tradeDto.getTradeType(), tradeDto.getPrice()).isPresent()) {
+            return;
+        }
 
-        tradeRepository.save(
+        Trade trade = tradeRepository.save(
                 Trade.builder()
                         .price(tradeDto.getPrice())
-                        .productSize(productSizeRepository.findById(tradeDto.getProductSizeId())
-                                .orElseThrow(() -> new ProductSizeNoSuchElementException(String.valueOf(tradeDto.getProductSizeId()))))
-                        .purchaser(tradeDto.getTradeType() == TradeType.SELL ? null : memberRepository.findByEmail(email)
-                                .orElseThrow(MemberNotFoundException::new))
-                        .seller(tradeDto.getTradeType() == TradeType.SELL ? memberRepository.findByEmail(email)
-                                .orElseThrow(MemberNotFoundException::new) : null)
+                        .productSize(productSize)
+                        .purchaser(tradeDto.getTradeType() == TradeType.SELL ? null : member)
+                        .seller(tradeDto.getTradeType() == TradeType.SELL ? member : null)
                         .tradeState(tradeDto.getTradeType() == TradeType.SELL ? TradeState.SELL : TradeState.PURCHASE)
                         .tradeType(tradeDto.getTradeType())
+                        .expireDate(getExpireDate(tradeDto))
                         .build());
+
+        orderBook.add(trade);
+    }
+
+    /**
+     * 입찰 일괄 등록
+     * 회원과 사이즈를 한 번에 조회하고, 바로 체결되지 않은 입찰은 한 번의 배치로 저장
+     *
+     * @param email         사용자 이메일
+     * @param tradeBatchDto 사이즈별 입찰 정보
+     * @return 입찰별 처리 결과 (요청 순서)
+     */
+    @Transactional
+    @Override
+    public List<TradeBatchResultDto> saveTrades(String email, TradeBatchDto tradeBatchDto) {
+        List<TradeDto> trades = tradeBatchDto.getTrades();
+        if (trades == null || trades.isEmpty() || trades.size() > MAX_BATCH_SIZE) {
+            throw new WrongTradeBatchException(String.valueOf(MAX_BATCH_SIZE));
+        }
+
+        Member member = memberRepository.findByEmail(email).orElseThrow(MemberNotFoundException::new);
+
+        Map<Long, ProductSize> productSizes = productSizeRepository.findAllById(trades.stream()
+                        .map(TradeDto::getProductSizeId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(ProductSize::getId, Function.identity()));
+
+        List<TradeBatchResultDto> results = new ArrayList<>();
+        List<Trade> newTrades = new ArrayList<>();
+        List<TradeBatchResultDto> newResults = new ArrayList<>();
+
+        for (TradeDto tradeDto : trades) {
+            TradeBatchResultDto result = TradeBatchResultDto.builder()
+                    .productSizeId(tradeDto.getProductSizeId())
+                    .price(tradeDto.getPrice())
+                    .tradeType(tradeDto.getTradeType())
+                    .build();
+            results.add(result);
+
+            ProductSize productSize = productSizes.get(tradeDto.getProductSizeId());
+            if (productSize == null) {
+                result.setStatus(TradeBatchResultDto.Status.FAILED);
+                result.setMessage("해당 id의 신발사이즈를 찾을 수 없습니다.");
+                continue;
+            }
+            if (tradeDto.getTradeType() == null) {
+                result.setStatus(TradeBatchResultDto.Status.FAILED);
+                result.setMessage("잘못된 거래 타입입니다.");
+                continue;
+            }
+
+            Optional<Trade> matched = matchingEngine.match(member, productSize, tradeDto.getTradeType(), tradeDto.getPrice());
+            if (matched.isPresent()) {
+                result.setStatus(TradeBatchResultDto.Status.MATCHED);
+                result.setTradeId(matched.get().getId());
+                continue;
+            }
+
+            newTrades.add(Trade.builder()
+                    .price(tradeDto.getPrice())
+                    .productSize(productSize)
+                    .purchaser(tradeDto.getTradeType() == TradeType.SELL ? null : member)
+                    .seller(tradeDto.getTradeType() == TradeType.SELL ? member : null)
+                    .tradeState(tradeDto.getTradeType() == TradeType.SELL ? TradeState.SELL : TradeState.PURCHASE)
+                    .tradeType(tradeDto.getTradeType())
+                    .expireDate(getExpireDate(tradeDto))
+                    .build());
+            newResults.add(result);
+        }
+
+        List<Long> ids = jdbcRepository.saveAllTrade(newTrades);
+        // 생성된 id 와 입찰을 순서로 짝지으므로 개수가 다르면 배치 전체를 롤백
+        if (ids.size() != newTrades.size()) {
+            throw new IllegalStateException("saved " + newTrades.size() + " trades but got " + ids.size() + " ids");
+        }
+        for (int i = 0; i < ids.size(); i++) {
+            Trade trade = newTrades.get(i);
+            newResults.get(i).setStatus(TradeBatchResultDto.Status.CREATED);
+            newResults.get(i).setTradeId(ids.get(i));
+
+            orderBook.add(Trade.builder()
+                    .id(ids.get(i))
+                    .price(trade.getPrice())
+                    .productSize(trade.getProductSize())
+                    .purchaser(trade.getPurchaser())
+                    .seller(trade.getSeller())
+                    .tradeState(trade.getTradeState())
+                    .tradeType(trade.getTradeType())
+                    .expireDate(trade.getExpireDate())
+                    .build());
+        }
+
+        return results;
     }
 
     // 거래 내역 수 조회
@@ -82,7 +207,9 @@ public class TradeServiceImpl implements TradeService {
     @Override
     public Page<TradeLoadDto> getBreakdown(String email, String tradeType, String state, Pageable pageable) {
         checkState(state);
-        return tradeRepository.findBreakdown(email, getTradeType(tradeType), state, pageable);
+        Page<TradeLoadDto> breakdown = tradeRepository.findBreakdown(email, getTradeType(tradeType), state, pageable);
+        breakdown.forEach(trade -> trade.setImage(productThumbnailCache.get(trade.getProductId())));
+        return breakdown;
     }
 
     /**
@@ -101,6 +228,7 @@ public class TradeServiceImpl implements TradeService {
         }
 
         findTrade.get(0).changePrice(tradeDto.getPrice());
+        orderBook.reprice(findTrade.get(0).getId(), tradeDto.getPrice());
     }
 
     /**
@@ -119,6 +247,7 @@ public class TradeServiceImpl implements TradeService {
         }
 
         tradeRepository.delete(findTrade.get(0));
+        orderBook.remove(findTrade.get(0).getId());
     }
 
     /**
@@ -137,20 +266,63 @@ public class TradeServiceImpl implements TradeService {
         return tradeRepository.findDoneTrade(productId, pageable);
     }
 
+    /**
+     * 상품의 체결 거래 내역 (커서 방식)
+     * 한 건 더 읽어 다음 페이지 존재 여부를 판단하고, 전체 수는 요청한 경우에만 조회
+     *
+     * @param productId 상품 id
+     * @param cursor    이전 페이지의 다음 커서 (첫 페이지면 null)
+     * @param size      페이지 크기
+     * @param withCount 전체 체결 수 조회 여부
+     * @return 검색 결과
+     */
+    @Override
+    public TradeDoneSliceDto findDoneTrade(Long productId, String cursor, int size, boolean withCount) {
+        productRepository.findById(productId).orElseThrow(() ->
+                new ProductEmptyResultDataAccessException(productId.toString(), 1)
+        );
+
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<DoneTradeDto> trades;
+        if (cursor == null || cursor.isBlank()) {
+            trades = tradeRepository.findDoneTradeFirst(productId, limit);
+        } else {
+            DoneTradeCursor after = DoneTradeCursor.decode(cursor);
+            trades = tradeRepository.findDoneTradeAfter(productId, after.getTradeCompletionDate(), after.getTradeId(), limit);
+        }
+
+        boolean hasNext = trades.size() > size;
+        if (hasNext) {
+            trades = trades.subList(0, size);
+        }
+
+        return TradeDoneSliceDto.builder()
+                .content(trades.stream().map(DoneTradeDto::toResponse).collect(Collectors.toList()))
+                .nextCursor(hasNext ? trades.get(trades.size() - 1).toCursor().encode() : null)
+                .hasNext(hasNext)
+                .totalCount(withCount ? tradeRepository.countDoneTrade(productId) : null)
+                .build();
+    }
+
     /**
      * 상품의 입찰 내역
      *
      * @param productId  상품 id
      * @param tradeState 입찰 상태(판매, 구매)
+     * @param afterSize  이전 페이지 마지막 사이즈 (첫 페이지거나 페이지 번호로 조회하면 null)
+     * @param afterPrice 이전 페이지 마지막 가격
      * @param pageable   페이지 정보
      * @return 검색 결과
      */
     @Override
-    public Page<TradeTransactionDto> findTransactionTrade(Long productId, String tradeState, Pageable pageable) {
+    public Page<TradeTransactionDto> findTransactionTrade(Long productId, String tradeState, Integer afterSize, Integer afterPrice, Pageable pageable) {
         productRepository.findById(productId).orElseThrow(() ->
                 new ProductEmptyResultDataAccessException(productId.toString(), 1)
         );
-        return tradeRepository.findTransactionTrade(productId, getTradeState(tradeState), pageable);
+        if (afterSize != null && afterPrice != null) {
+            return orderBook.findTransactionTradeAfter(productId, getTradeState(tradeState), afterSize, afterPrice, pageable);
+        }
+        return orderBook.findTransactionTrade(productId, getTradeState(tradeState), pageable);
     }
 
     /**
@@ -165,7 +337,7 @@ public class TradeServiceImpl implements TradeService {
         productRepository.findById(productId).orElseThrow(() ->
                 new ProductEmptyResultDataAccessException(productId.toString(), 1)
         );
-        return tradeRepository.findInstantTrade(productId, getTradeState(tradeState));
+        return orderBook.findInstantTrade(productId, getTradeState(tradeState));
     }
 
     // 거래 타입 반환
@@ -207,13 +379,27 @@ public class TradeServiceImpl implements TradeService {
         LocalDate now = LocalDate.now();
         LocalDateTime deadline = LocalDateTime.of(now.plusDays(2), LocalTime.MAX.minusSeconds(1));
 
+        // 구매 입찰 상태일 때만 변경 (동시에 체결 요청 시 한 명만 성공)
+        if (tradeRepository.claimPurchase(tradeId, member, deadline, LocalDateTime.now()) == 0) {
+            throw new TradeAlreadyClaimedException(tradeId.toString());
+        }
+
         trade.changeState(TradeState.READY);
         trade.changeSeller(member);
         trade.changeClaimDueDate(deadline);
+        orderBook.remove(trade.getId());
 
         mailService.sendClaimMail(trade.getPurchaser().getEmail(), deadline);
     }
 
+    // 입찰 만료 시각 (유효 기간 마지막 날 23:59:58)
+    private LocalDateTime getExpireDate(TradeDto tradeDto) {
+        int validDays = tradeDto.getValidDays() == null
+                ? DEFAULT_VALID_DAYS
+                : Math.max(1, Math.min(tradeDto.getValidDays(), MAX_VALID_DAYS));
+        return LocalDateTime.of(LocalDate.now().plusDays(validDays), LocalTime.MAX.minusSeconds(1));
+    }
+
     private void checkTradeStateAndTradeType(Trade trade) {
         if(!trade.getTradeState().equals(TradeState.PURCHASE) || !trade.getTradeType().equals(TradeType.PURCHASE)){
             throw new WrongTradeTypeException();
@@ -0,0 +1,148 @@
+package com.study.shoestrade.service.trade.book;
+
+import com.study.shoestrade.domain.trade.TradeState;
+import com.study.shoestrade.dto.trade.OpenTradeDto;
+import com.study.shoestrade.dto.trade.response.TradeTransactionDto;
+import com.study.shoestrade.event.trade.DepthChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 상품별 (사이즈, 가격) 단위 입찰 수량
+ * 호가창의 가격별 입찰 수가 바뀔 때마다 갱신하고 변경 이벤트 발행
+ */
+class DepthTable {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 상품 id -> (사이즈, 가격) -> 수량
+    private final ConcurrentMap<Long, TreeMap<DepthKey, Long>> asks = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, TreeMap<DepthKey, Long>> bids = new ConcurrentHashMap<>();
+
+    DepthTable(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 가격별 수량 변경
+     *
+     * @param order    변경된 가격의 입찰
+     * @param quantity 변경된 수량 (0이면 제거)
+     */
+    void change(OpenTradeDto order, long quantity) {
+        TreeMap<DepthKey, Long> levels = side(order.getTradeState())
+                .computeIfAbsent(order.getProductId(), id -> new TreeMap<>());
+        DepthKey key = DepthKey.of(order.getTradeState(), order.getSize(), order.getPrice());
+
+        synchronized (levels) {
+            if (quantity == 0) {
+                levels.remove(key);
+            } else {
+                levels.put(key, quantity);
+            }
+        }
+
+        eventPublisher.publishEvent(new DepthChangedEvent(order.getProductId(), order.getTradeState(),
+                order.getSize(), order.getPrice(), quantity));
+    }
+
+    /**
+     * 상품의 입찰 내역 (사이즈 오름차순, 같은 사이즈는 우선 순위가 높은 가격부터)
+     *
+     * @param productId  상품 id
+     * @param tradeState 입찰 상태(판매, 구매)
+     * @param pageable   페이지 정보
+     * @return 검색 결과
+     */
+    Page<TradeTransactionDto> find(Long productId, TradeState tradeState, Pageable pageable) {
+        TreeMap<DepthKey, Long> levels = side(tradeState).get(productId);
+        if (levels == null) {
+            return new PageImpl<>(Collections.emptyList(), pageable, 0);
+        }
+
+        List<TradeTransactionDto> content = new ArrayList<>();
+        long total;
+
+        synchronized (levels) {
+            total = levels.size();
+            Iterator<Map.Entry<DepthKey, Long>> iterator = levels.entrySet().iterator();
+            for (long skip = pageable.getOffset(); skip > 0 && iterator.hasNext(); skip--) {
+                iterator.next();
+            }
+            while (content.size() < pageable.getPageSize() && iterator.hasNext()) {
+                Map.Entry<DepthKey, Long> level = iterator.next();
+                content.add(new TradeTransactionDto(level.getKey().size, Math.abs(level.getKey().price), level.getValue()));
+            }
+        }
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * 커서 다음 입찰 내역
+     * 앞의 페이지를 건너뛰지 않고 커서의 (사이즈, 가격) 다음부터 tailMap 으로 바로 읽음
+     *
+     * @param productId  상품 id
+     * @param tradeState 입찰 상태(판매, 구매)
+     * @param size       이전 페이지 마지막 사이즈
+     * @param price      이전 페이지 마지막 가격
+     * @param pageable   페이지 크기 (페이지 번호는 사용하지 않음)
+     * @return 검색 결과
+     */
+    Page<TradeTransactionDto> findAfter(Long productId, TradeState tradeState, int size, int price, Pageable pageable) {
+        TreeMap<DepthKey, Long> levels = side(tradeState).get(productId);
+        if (levels == null) {
+            return new PageImpl<>(Collections.emptyList(), pageable, 0);
+        }
+
+        List<TradeTransactionDto> content = new ArrayList<>();
+        long total;
+
+        synchronized (levels) {
+            total = levels.size();
+            for (Map.Entry<DepthKey, Long> level : levels.tailMap(DepthKey.of(tradeState, size, price), false).entrySet()) {
+                if (content.size() >= pageable.getPageSize()) {
+                    break;
+                }
+                content.add(new TradeTransactionDto(level.getKey().size, Math.abs(level.getKey().price), level.getValue()));
+            }
+        }
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    void clear() {
+        asks.clear();
+        bids.clear();
+    }
+
+    private ConcurrentMap<Long, TreeMap<DepthKey, Long>> side(TradeState tradeState) {
+        return tradeState == TradeState.SELL ? asks : bids;
+    }
+
+    // 구매 입찰은 가격을 음수로 저장해 높은 가격이 먼저 오도록 정렬
+    private static class DepthKey implements Comparable<DepthKey> {
+        private final int size;
+        private final int price;
+
+        DepthKey(int size, int price) {
+            this.size = size;
+            this.price = price;
+        }
+
+        static DepthKey of(TradeState tradeState, int size, int price) {
+            return new DepthKey(size, tradeState == TradeState.SELL ? price : -price);
+        }
+
+        @Override
+        public int compareTo(DepthKey o) {
+            return size != o.size ? Integer.compare(size, o.size) : Integer.compare(price, o.price);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.study.shoestrade.service.trade.book;
+
+import com.study.shoestrade.common.transaction.TransactionHooks;
+import com.study.shoestrade.domain.member.Member;
+import com.study.shoestrade.domain.product.ProductSize;
+import com.study.shoestrade.domain.trade.Trade;
+import com.study.shoestrade.domain.trade.TradeState;
+import com.study.shoestrade.domain.trade.TradeType;
+import com.study.shoestrade.dto.trade.OpenTradeDto;
+import com.study.shoestrade.repository.trade.TradeRepository;
+import com.study.shoestrade.service.member.MailService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 입찰 등록 시 반대편 호가창과 바로 체결
+ * 가격 우선, 시간 우선으로 체결하고 체결가는 먼저 등록된 입찰의 가격
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MatchingEngine {
+
+    private final OrderBook orderBook;
+    private final TradeRepository tradeRepository;
+    private final MailService mailService;
+
+    private final LongAdder matchCount = new LongAdder();
+
+    /**
+     * 새 입찰과 체결 가능한 입찰이 있으면 체결
+     * 체결된 입찰은 READY 상태가 되고, 새 입찰은 저장하지 않음
+     *
+     * @param member      입찰 회원
+     * @param productSize 입찰 사이즈
+     * @param tradeType   입찰 타입(판매, 구매)
+     * @param price       입찰 가격
+     * @return 체결된 입찰, 체결되지 않았으면 empty
+     */
+    public Optional<Trade> match(Member member, ProductSize productSize, TradeType tradeType, int price) {
+        TradeState restingState = tradeType == TradeType.SELL ? TradeState.PURCHASE : TradeState.SELL;
+
+        while (true) {
+            Optional<OpenTradeDto> reserved = orderBook.reserveCrossing(productSize.getId(), restingState, price, member.getId());
+            if (reserved.isEmpty()) {
+                return Optional.empty();
+            }
+
+            OpenTradeDto order = reserved.get();
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime deadline = LocalDateTime.of(now.toLocalDate().plusDays(2), LocalTime.MAX.minusSeconds(1));
+
+            // 호가창에는 남아있지만 이미 처리되었거나 만료된 입찰 (즉시 판매, 결제와 동시에 요청해도 한 명만 성공)
+            if (claim(order.getTradeId(), member, tradeType, deadline, now) == 0) {
+                orderBook.release(order);
+                continue;
+            }
+
+            TransactionHooks.afterCommit(() -> orderBook.release(order));
+            TransactionHooks.afterRollback(() -> orderBook.restore(order));
+
+            Trade resting = tradeRepository.findById(order.getTradeId()).orElseThrow();
+            fill(resting, member, tradeType, deadline);
+            matchCount.increment();
+            return Optional.of(resting);
+        }
+    }
+
+    /**
+     * 지금까지 체결된 수
+     *
+     * @return 체결 수
+     */
+    public long getMatchCount() {
+        return matchCount.sum();
+    }
+
+    private int claim(Long tradeId, Member member, TradeType tradeType, LocalDateTime deadline, LocalDateTime now) {
+        if (tradeType == TradeType.SELL) {
+            return tradeRepository.claimPurchase(tradeId, member, deadline, now);
+        }
+        return tradeRepository.matchSell(tradeId, member, deadline, now);
+    }
+
+    // 조건부 update 로 변경된 값을 영속성 컨텍스트의 엔티티에도 반영
+    private void fill(Trade trade, Member member, TradeType tradeType, LocalDateTime deadline) {
+        if (tradeType == TradeType.SELL) {
+            trade.changeSeller(member);
+        } else {
+            trade.changePurchaser(member);
+        }
+        trade.changeState(TradeState.READY);
+        trade.changeClaimDueDate(deadline);
+
+        log.info("trade {} matched at {}", trade.getId(), trade.getPrice());
+        mailService.sendClaimMail(trade.getPurchaser().getEmail(), deadline);
+    }
+}
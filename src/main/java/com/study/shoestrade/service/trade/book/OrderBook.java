@@ -0,0 +1,210 @@
+package com.study.shoestrade.service.trade.book;
+
+import com.study.shoestrade.common.transaction.TransactionHooks;
+import com.study.shoestrade.domain.trade.Trade;
+import com.study.shoestrade.domain.trade.TradeState;
+import com.study.shoestrade.dto.trade.OpenTradeDto;
+import com.study.shoestrade.dto.trade.response.TradeLoadDto;
+import com.study.shoestrade.dto.trade.response.TradeTransactionDto;
+import com.study.shoestrade.event.trade.LowestAskDroppedEvent;
+import com.study.shoestrade.repository.trade.TradeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+
+/**
+ * 상품 사이즈별 판매, 구매 입찰 호가창
+ * 시작 시 trade 테이블에서 다시 만들고, 입찰 등록/수정/삭제/체결 시 커밋 이후 반영
+ * 가격별 입찰 수량이 바뀌면 DepthChangedEvent, 새 판매 입찰이나 가격 수정으로 즉시 구매가가 낮아지면 LowestAskDroppedEvent 발행
+ */
+@Slf4j
+@Component
+public class OrderBook {
+
+    private final TradeRepository tradeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 상품 사이즈 id -> 호가창
+    private final ConcurrentMap<Long, SizeBook> sizeBooks = new ConcurrentHashMap<>();
+    // 상품 id -> 상품 사이즈 id
+    private final ConcurrentMap<Long, Set<Long>> productSizes = new ConcurrentHashMap<>();
+    // 입찰 id -> 상품 사이즈 id
+    private final ConcurrentMap<Long, Long> tradeSizes = new ConcurrentHashMap<>();
+    // 상품별 (사이즈, 가격) 단위 입찰 수량
+    private final DepthTable depthTable;
+
+    public OrderBook(TradeRepository tradeRepository, ApplicationEventPublisher eventPublisher) {
+        this.tradeRepository = tradeRepository;
+        this.eventPublisher = eventPublisher;
+        this.depthTable = new DepthTable(eventPublisher);
+    }
+
+    /**
+     * trade 테이블의 대기 중인 입찰로 호가창 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<OpenTradeDto> openTrades = tradeRepository.findOpenTrades();
+
+        sizeBooks.clear();
+        productSizes.clear();
+        tradeSizes.clear();
+        depthTable.clear();
+        openTrades.forEach(this::apply);
+
+        log.info("order book rebuilt : {} open trades", openTrades.size());
+    }
+
+    /**
+     * 입찰 등록
+     *
+     * @param trade 등록된 입찰
+     */
+    public void add(Trade trade) {
+        OpenTradeDto order = OpenTradeDto.create(trade);
+        TransactionHooks.afterCommit(() -> apply(order, this::publishLowestAskDropped));
+    }
+
+    /**
+     * 입찰 가격 수정
+     *
+     * @param tradeId 입찰 id
+     * @param price   수정된 가격
+     */
+    public void reprice(Long tradeId, int price) {
+        TransactionHooks.afterCommit(() -> {
+            SizeBook book = findBook(tradeId);
+            if (book != null) {
+                book.reprice(tradeId, price, this::publishLowestAskDropped);
+            }
+        });
+    }
+
+    /**
+     * 입찰 삭제 또는 체결로 호가창에서 제거
+     *
+     * @param tradeId 입찰 id
+     */
+    public void remove(Long tradeId) {
+        TransactionHooks.afterCommit(() -> {
+            Long productSizeId = tradeSizes.remove(tradeId);
+            if (productSizeId != null) {
+                sizeBooks.get(productSizeId).remove(tradeId);
+            }
+        });
+    }
+
+    /**
+     * 새 입찰과 체결 가능한 최우선 입찰을 호가창에서 꺼냄
+     * 같은 사이즈에 동시에 들어온 입찰끼리 같은 입찰을 꺼내지 않도록 즉시 반영
+     *
+     * @param productSizeId 상품 사이즈 id
+     * @param tradeState    꺼낼 입찰 상태(판매, 구매)
+     * @param price         새 입찰 가격
+     * @param memberId      새 입찰 회원 id
+     * @return 체결할 입찰
+     */
+    public Optional<OpenTradeDto> reserveCrossing(Long productSizeId, TradeState tradeState, int price, Long memberId) {
+        SizeBook book = sizeBooks.get(productSizeId);
+        return book == null ? Optional.empty() : Optional.ofNullable(book.reserveCrossing(tradeState, price, memberId));
+    }
+
+    /**
+     * 꺼낸 입찰의 체결 확정
+     *
+     * @param order 체결된 입찰
+     */
+    public void release(OpenTradeDto order) {
+        tradeSizes.remove(order.getTradeId());
+        sizeBooks.get(order.getProductSizeId()).release(order.getTradeId());
+    }
+
+    /**
+     * 꺼낸 입찰을 원래 순서로 복구
+     *
+     * @param order 체결이 취소된 입찰
+     */
+    public void restore(OpenTradeDto order) {
+        tradeSizes.put(order.getTradeId(), order.getProductSizeId());
+        sizeBooks.get(order.getProductSizeId()).restore(order);
+    }
+
+    /**
+     * 즉시 거래가
+     *
+     * @param productId  상품 id
+     * @param tradeState 입찰 상태(판매, 구매)
+     * @return 사이즈별 최우선 입찰
+     */
+    public List<TradeLoadDto> findInstantTrade(Long productId, TradeState tradeState) {
+        List<TradeLoadDto> result = new ArrayList<>();
+
+        productSizes.getOrDefault(productId, Collections.emptySet()).forEach(productSizeId -> {
+            OpenTradeDto best = sizeBooks.get(productSizeId).best(tradeState);
+            if (best != null) {
+                result.add(new TradeLoadDto(best.getTradeId(), best.getSize(), best.getPrice()));
+            }
+        });
+
+        result.sort(Comparator.comparingInt(TradeLoadDto::getSize));
+        return result;
+    }
+
+    /**
+     * 입찰 내역
+     * 입찰 수와 관계없이 (사이즈, 가격) 단위로 미리 집계된 수량을 페이지만큼 읽음
+     *
+     * @param productId  상품 id
+     * @param tradeState 입찰 상태(판매, 구매)
+     * @param pageable   페이지 정보
+     * @return 사이즈, 가격별 입찰 수량
+     */
+    public Page<TradeTransactionDto> findTransactionTrade(Long productId, TradeState tradeState, Pageable pageable) {
+        return depthTable.find(productId, tradeState, pageable);
+    }
+
+    /**
+     * 커서 다음 입찰 내역
+     *
+     * @param productId  상품 id
+     * @param tradeState 입찰 상태(판매, 구매)
+     * @param size       이전 페이지 마지막 사이즈
+     * @param price      이전 페이지 마지막 가격
+     * @param pageable   페이지 크기
+     * @return 사이즈, 가격별 입찰 수량
+     */
+    public Page<TradeTransactionDto> findTransactionTradeAfter(Long productId, TradeState tradeState, int size, int price, Pageable pageable) {
+        return depthTable.findAfter(productId, tradeState, size, price, pageable);
+    }
+
+    private void apply(OpenTradeDto order) {
+        apply(order, dropped -> {
+        });
+    }
+
+    private void apply(OpenTradeDto order, Consumer<OpenTradeDto> lowestAskDropped) {
+        productSizes.computeIfAbsent(order.getProductId(), id -> ConcurrentHashMap.newKeySet())
+                .add(order.getProductSizeId());
+        sizeBooks.computeIfAbsent(order.getProductSizeId(), id -> new SizeBook(depthTable))
+                .add(order, lowestAskDropped);
+        tradeSizes.put(order.getTradeId(), order.getProductSizeId());
+    }
+
+    private void publishLowestAskDropped(OpenTradeDto order) {
+        eventPublisher.publishEvent(new LowestAskDroppedEvent(order.getProductId(), order.getProductSizeId(), order.getSize(), order.getPrice()));
+    }
+
+    private SizeBook findBook(Long tradeId) {
+        Long productSizeId = tradeSizes.get(tradeId);
+        return productSizeId == null ? null : sizeBooks.get(productSizeId);
+    }
+}
@@ -0,0 +1,150 @@
+package com.study.shoestrade.service.trade.book;
+
+import com.study.shoestrade.domain.trade.TradeState;
+import com.study.shoestrade.dto.trade.OpenTradeDto;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * 사이즈 하나의 호가창
+ * 가격 우선, 같은 가격이면 먼저 등록된 입찰 우선
+ */
+class SizeBook {
+
+    // 판매 입찰 : 낮은 가격 우선
+    private final TreeMap<Integer, TreeMap<Long, OpenTradeDto>> asks = new TreeMap<>();
+    // 구매 입찰 : 높은 가격 우선
+    private final TreeMap<Integer, TreeMap<Long, OpenTradeDto>> bids = new TreeMap<>(Comparator.reverseOrder());
+
+    private final Map<Long, OpenTradeDto> orders = new HashMap<>();
+    // 입찰 id -> 등록 순서
+    private final Map<Long, Long> sequences = new HashMap<>();
+    // 체결 중인 입찰 (트랜잭션이 롤백되면 원래 순서로 복구)
+    private final Map<Long, Long> reserved = new HashMap<>();
+
+    private long nextSequence;
+
+    private final DepthTable depthTable;
+
+    SizeBook(DepthTable depthTable) {
+        this.depthTable = depthTable;
+    }
+
+    synchronized void add(OpenTradeDto order) {
+        add(order, nextSequence++);
+    }
+
+    /**
+     * 입찰 등록 후 즉시 구매가가 내려갔으면 알림
+     * 등록 전후의 즉시 구매가 비교와 알림을 같은 잠금 안에서 처리해 동시에 등록된 입찰끼리 이전 가격을 같이 보지 않음
+     *
+     * @param order              등록할 입찰
+     * @param lowestAskDropped   내려간 즉시 구매가 입찰을 받을 콜백
+     */
+    synchronized void add(OpenTradeDto order, Consumer<OpenTradeDto> lowestAskDropped) {
+        OpenTradeDto before = best(TradeState.SELL);
+        add(order);
+        notifyIfDropped(before, lowestAskDropped);
+    }
+
+    synchronized OpenTradeDto remove(Long tradeId) {
+        OpenTradeDto order = orders.remove(tradeId);
+        if (order == null) {
+            return null;
+        }
+
+        Long sequence = sequences.remove(tradeId);
+        TreeMap<Integer, TreeMap<Long, OpenTradeDto>> side = side(order.getTradeState());
+        TreeMap<Long, OpenTradeDto> level = side.get(order.getPrice());
+        level.remove(sequence);
+        if (level.isEmpty()) {
+            side.remove(order.getPrice());
+        }
+        depthTable.change(order, level.size());
+        return order;
+    }
+
+    // 가격 수정 시 시간 우선 순위는 뒤로 밀림 (수정 후 즉시 구매가가 내려갔으면 알림)
+    synchronized void reprice(Long tradeId, int price, Consumer<OpenTradeDto> lowestAskDropped) {
+        OpenTradeDto before = best(TradeState.SELL);
+        OpenTradeDto order = remove(tradeId);
+        if (order != null) {
+            add(order.withPrice(price));
+            notifyIfDropped(before, lowestAskDropped);
+        }
+    }
+
+    synchronized OpenTradeDto best(TradeState tradeState) {
+        Map.Entry<Integer, TreeMap<Long, OpenTradeDto>> top = side(tradeState).firstEntry();
+        return top == null ? null : top.getValue().firstEntry().getValue();
+    }
+
+    /**
+     * 주어진 가격과 체결 가능한 최우선 입찰을 호가창에서 꺼내 체결 중으로 표시
+     *
+     * @param tradeState 꺼낼 입찰 상태(판매, 구매)
+     * @param price      새 입찰 가격
+     * @param memberId   새 입찰 회원 id (자신의 입찰과는 체결하지 않음)
+     * @return 체결할 입찰, 없으면 null
+     */
+    synchronized OpenTradeDto reserveCrossing(TradeState tradeState, int price, Long memberId) {
+        for (Map.Entry<Integer, TreeMap<Long, OpenTradeDto>> level : side(tradeState).entrySet()) {
+            if (!crosses(tradeState, level.getKey(), price)) {
+                return null;
+            }
+
+            for (OpenTradeDto order : level.getValue().values()) {
+                if (!order.getMemberId().equals(memberId)) {
+                    Long sequence = sequences.get(order.getTradeId());
+                    remove(order.getTradeId());
+                    reserved.put(order.getTradeId(), sequence);
+                    return order;
+                }
+            }
+        }
+        return null;
+    }
+
+    // 체결 확정
+    synchronized void release(Long tradeId) {
+        reserved.remove(tradeId);
+    }
+
+    // 체결 취소 시 원래 순서로 복구
+    synchronized void restore(OpenTradeDto order) {
+        Long sequence = reserved.remove(order.getTradeId());
+        if (sequence != null) {
+            add(order, sequence);
+        }
+    }
+
+    private void add(OpenTradeDto order, long sequence) {
+        remove(order.getTradeId());
+        orders.put(order.getTradeId(), order);
+        sequences.put(order.getTradeId(), sequence);
+        TreeMap<Long, OpenTradeDto> level = side(order.getTradeState())
+                .computeIfAbsent(order.getPrice(), p -> new TreeMap<>());
+        level.put(sequence, order);
+        depthTable.change(order, level.size());
+    }
+
+    private void notifyIfDropped(OpenTradeDto before, Consumer<OpenTradeDto> lowestAskDropped) {
+        OpenTradeDto after = best(TradeState.SELL);
+        if (after != null && (before == null || after.getPrice() < before.getPrice())) {
+            lowestAskDropped.accept(after);
+        }
+    }
+
+    // 판매 입찰은 새 구매 입찰 가격 이하, 구매 입찰은 새 판매 입찰 가격 이상이면 체결
+    private boolean crosses(TradeState tradeState, int restingPrice, int price) {
+        return tradeState == TradeState.SELL ? restingPrice <= price : restingPrice >= price;
+    }
+
+    private TreeMap<Integer, TreeMap<Long, OpenTradeDto>> side(TradeState tradeState) {
+        if (tradeState == TradeState.SELL) return asks;
+        if (tradeState == TradeState.PURCHASE) return bids;
+
+        throw new IllegalArgumentException(String.valueOf(tradeState));
+    }
+}
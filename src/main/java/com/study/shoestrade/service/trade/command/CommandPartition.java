@@ -0,0 +1,81 @@
+package com.study.shoestrade.service.trade.command;
+
+import com.study.shoestrade.dto.trade.response.TradeCommandQueueStatsDto;
+import com.study.shoestrade.exception.trade.TradeCommandRejectedException;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 명령을 하나의 스레드에서 들어온 순서대로 실행하는 파티션
+ */
+class CommandPartition {
+
+    private final int index;
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    CommandPartition(int index, int capacity) {
+        this.index = index;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(capacity), runnable -> {
+                    Thread thread = new Thread(runnable, "trade-command-" + index);
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    <T> CompletableFuture<T> submit(Callable<T> command) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        long enqueued = System.nanoTime();
+
+        try {
+            executor.execute(() -> {
+                long started = System.nanoTime();
+                try {
+                    future.complete(command.call());
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    long latency = System.nanoTime() - enqueued;
+                    completed.increment();
+                    totalWaitNanos.add(started - enqueued);
+                    totalLatencyNanos.add(latency);
+                    maxLatencyNanos.accumulateAndGet(latency, Math::max);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            future.completeExceptionally(new TradeCommandRejectedException("partition = " + index, e));
+        }
+        return future;
+    }
+
+    TradeCommandQueueStatsDto stats() {
+        long count = completed.sum();
+        return TradeCommandQueueStatsDto.builder()
+                .partition(index)
+                .queueDepth(executor.getQueue().size())
+                .completed(count)
+                .rejected(rejected.sum())
+                .avgWaitMillis(count == 0 ? 0 : totalWaitNanos.sum() / 1_000_000.0 / count)
+                .avgLatencyMillis(count == 0 ? 0 : totalLatencyNanos.sum() / 1_000_000.0 / count)
+                .maxLatencyMillis(maxLatencyNanos.get() / 1_000_000.0)
+                .build();
+    }
+
+    void shutdown() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.study.shoestrade.service.trade.command;
+
+import com.study.shoestrade.dto.trade.response.TradeCommandQueueStatsDto;
+import com.study.shoestrade.repository.product.ProductSizeRepository;
+import com.study.shoestrade.repository.trade.TradeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * 상품별 거래 명령 대기열 (trade.command-queue.enabled=true 일 때만 사용)
+ * 상품 id 해시로 나눈 파티션마다 하나의 스레드가 명령을 순서대로 실행하므로
+ * 같은 상품의 입찰 등록/수정/삭제/체결이 서로 행 잠금을 기다리지 않음
+ * 사용하지 않으면 호출한 스레드에서 바로 실행
+ */
+@Slf4j
+@Component
+public class TradeCommandQueue {
+
+    private final TradeRepository tradeRepository;
+    private final ProductSizeRepository productSizeRepository;
+
+    private final boolean enabled;
+    private final List<CommandPartition> partitions;
+
+    // 상품 사이즈 id -> 상품 id (사이즈의 상품은 바뀌지 않음)
+    private final ConcurrentMap<Long, Long> sizeProducts = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TradeCommandQueue(TradeRepository tradeRepository, ProductSizeRepository productSizeRepository,
+                             @Value("${trade.command-queue.enabled:false}") boolean enabled,
+                             @Value("${trade.command-queue.partitions:8}") int partitionCount,
+                             @Value("${trade.command-queue.capacity:10000}") int capacity) {
+        this.tradeRepository = tradeRepository;
+        this.productSizeRepository = productSizeRepository;
+        this.enabled = enabled;
+
+        List<CommandPartition> list = new ArrayList<>();
+        for (int i = 0; enabled && i < partitionCount; i++) {
+            list.add(new CommandPartition(i, capacity));
+        }
+        this.partitions = Collections.unmodifiableList(list);
+
+        if (enabled) {
+            log.info("trade command queue enabled : {} partitions", partitionCount);
+        }
+    }
+
+    /**
+     * 상품의 파티션에서 명령 실행
+     *
+     * @param productId 상품 id (null 이면 호출한 스레드에서 실행)
+     * @param command   실행할 명령
+     * @return 명령 결과
+     */
+    public <T> CompletableFuture<T> submit(Long productId, Callable<T> command) {
+        if (!enabled || productId == null) {
+            return run(command);
+        }
+        return partitions.get(partitionOf(productId)).submit(command);
+    }
+
+    /**
+     * 입찰이 속한 상품의 파티션에서 명령 실행
+     *
+     * @param tradeId 입찰 id
+     * @param command 실행할 명령
+     * @return 명령 결과
+     */
+    public <T> CompletableFuture<T> submitByTrade(Long tradeId, Callable<T> command) {
+        if (!enabled || tradeId == null) {
+            return run(command);
+        }
+        return submit(tradeRepository.findProductIdById(tradeId).orElse(null), command);
+    }
+
+    /**
+     * 상품 사이즈가 속한 상품의 파티션에서 명령 실행
+     *
+     * @param productSizeId 상품 사이즈 id
+     * @param command       실행할 명령
+     * @return 명령 결과
+     */
+    public <T> CompletableFuture<T> submitByProductSize(Long productSizeId, Callable<T> command) {
+        if (!enabled || productSizeId == null) {
+            return run(command);
+        }
+
+        Long productId = sizeProducts.get(productSizeId);
+        if (productId == null) {
+            productId = productSizeRepository.findProductIdById(productSizeId).orElse(null);
+            if (productId != null) {
+                sizeProducts.put(productSizeId, productId);
+            }
+        }
+        return submit(productId, command);
+    }
+
+    /**
+     * 파티션별 대기열 길이, 처리 시간
+     *
+     * @return 파티션별 통계
+     */
+    public List<TradeCommandQueueStatsDto> findStats() {
+        return partitions.stream()
+                .map(CommandPartition::stats)
+                .collect(Collectors.toList());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        partitions.forEach(CommandPartition::shutdown);
+    }
+
+    private int partitionOf(Long productId) {
+        int hash = productId.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), partitions.size());
+    }
+
+    private <T> CompletableFuture<T> run(Callable<T> command) {
+        try {
+            return CompletableFuture.completedFuture(command.call());
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.study.shoestrade.service.trade.ticker;
+
+import com.study.shoestrade.domain.trade.TradeState;
+import com.study.shoestrade.dto.trade.response.DepthDeltaDto;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 상품 하나의 시세 구독 채널
+ * 다음 전송까지 들어온 가격별 수량 변경은 (상태, 사이즈, 가격) 단위로 마지막 값만 유지
+ */
+class TickerChannel {
+
+    private final List<TickerSubscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final Map<String, DepthDeltaDto> deltas = new LinkedHashMap<>();
+    private boolean dirty;
+
+    private volatile Integer lastPrice;
+    private volatile LocalDateTime lastTradeDate;
+
+    TickerChannel(Integer lastPrice, LocalDateTime lastTradeDate) {
+        this.lastPrice = lastPrice;
+        this.lastTradeDate = lastTradeDate;
+    }
+
+    List<TickerSubscriber> getSubscribers() {
+        return subscribers;
+    }
+
+    Integer getLastPrice() {
+        return lastPrice;
+    }
+
+    LocalDateTime getLastTradeDate() {
+        return lastTradeDate;
+    }
+
+    synchronized void addDelta(TradeState tradeState, int size, int price, long quantity) {
+        deltas.put(tradeState + ":" + size + ":" + price, new DepthDeltaDto(tradeState, size, price, quantity));
+        dirty = true;
+    }
+
+    synchronized void trade(int price, LocalDateTime tradeDate) {
+        lastPrice = price;
+        lastTradeDate = tradeDate;
+        dirty = true;
+    }
+
+    /**
+     * 이전 전송 이후 변경분을 꺼냄
+     *
+     * @return 변경분, 변경이 없으면 null
+     */
+    synchronized List<DepthDeltaDto> drain() {
+        if (!dirty) {
+            return null;
+        }
+
+        List<DepthDeltaDto> result = new ArrayList<>(deltas.values());
+        deltas.clear();
+        dirty = false;
+        return result;
+    }
+}
@@ -0,0 +1,152 @@
+package com.study.shoestrade.service.trade.ticker;
+
+import com.study.shoestrade.domain.trade.TradeState;
+import com.study.shoestrade.dto.trade.DoneTradeDto;
+import com.study.shoestrade.dto.trade.response.DepthDeltaDto;
+import com.study.shoestrade.dto.trade.response.TickerDto;
+import com.study.shoestrade.event.trade.DepthChangedEvent;
+import com.study.shoestrade.event.trade.TradeCompletedEvent;
+import com.study.shoestrade.repository.trade.TradeRepository;
+import com.study.shoestrade.service.trade.book.OrderBook;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+/**
+ * 상품별 실시간 시세 (SSE)
+ * 호가창, 거래 완료 이벤트를 상품별로 모아 주기마다 한 번만 계산하고 모든 구독자에게 전송
+ */
+@Component
+public class TickerService {
+
+    private static final long TIMEOUT = TimeUnit.MINUTES.toMillis(30);
+    private static final int SEND_QUEUE_SIZE = 1024;
+    private static final int FULL_DEPTH_SIZE = 1000;
+
+    private final OrderBook orderBook;
+    private final TradeRepository tradeRepository;
+
+    // 상품 id -> 구독 채널 (한 번 구독된 상품은 구독자가 없어도 유지)
+    private final ConcurrentMap<Long, TickerChannel> channels = new ConcurrentHashMap<>();
+    // 구독자에게 메시지를 보내는 스레드 (대기열이 차면 구독자별로 최신 메시지만 남김)
+    private final Executor sender;
+
+    @Autowired
+    public TickerService(OrderBook orderBook, TradeRepository tradeRepository) {
+        this(orderBook, tradeRepository, new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(SEND_QUEUE_SIZE), runnable -> {
+                    Thread thread = new Thread(runnable, "ticker-sender");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    public TickerService(OrderBook orderBook, TradeRepository tradeRepository, Executor sender) {
+        this.orderBook = orderBook;
+        this.tradeRepository = tradeRepository;
+        this.sender = sender;
+    }
+
+    /**
+     * 상품 시세 구독
+     * 구독 직후 전체 호가를 보내고, 이후에는 변경분만 전송
+     *
+     * @param productId 상품 id
+     * @return SSE 연결
+     */
+    public SseEmitter subscribe(Long productId) {
+        SseEmitter emitter = new SseEmitter(TIMEOUT);
+        TickerChannel channel = channels.computeIfAbsent(productId, this::openChannel);
+        TickerSubscriber subscriber = new TickerSubscriber(emitter, sender,
+                () -> snapshot(productId, channel), () -> channel.getSubscribers().removeIf(other -> other.getEmitter() == emitter));
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+
+        channel.getSubscribers().add(subscriber);
+        subscriber.offer(snapshot(productId, channel));
+        return emitter;
+    }
+
+    @EventListener
+    public void onDepthChanged(DepthChangedEvent event) {
+        TickerChannel channel = channels.get(event.getProductId());
+        if (channel != null) {
+            channel.addDelta(event.getTradeState(), event.getSize(), event.getPrice(), event.getQuantity());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTradeCompleted(TradeCompletedEvent event) {
+        TickerChannel channel = channels.get(event.getProductId());
+        if (channel != null) {
+            channel.trade(event.getPrice(), event.getTradeCompletionDate());
+        }
+    }
+
+    /**
+     * 변경된 상품마다 시세를 한 번 계산해 구독자에게 전송
+     */
+    @Scheduled(fixedDelay = 200)
+    public void publish() {
+        channels.forEach((productId, channel) -> {
+            List<DepthDeltaDto> deltas = channel.drain();
+            if (deltas == null || channel.getSubscribers().isEmpty()) {
+                channel.getSubscribers().forEach(TickerSubscriber::retry);
+                return;
+            }
+
+            TickerDto message = ticker(productId, channel, false, deltas);
+            channel.getSubscribers().forEach(subscriber -> subscriber.offer(message));
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        channels.values().forEach(channel -> channel.getSubscribers().forEach(subscriber -> subscriber.getEmitter().complete()));
+        if (sender instanceof ExecutorService) {
+            ((ExecutorService) sender).shutdownNow();
+        }
+    }
+
+    private TickerChannel openChannel(Long productId) {
+        List<DoneTradeDto> last = tradeRepository.findDoneTradeFirst(productId, PageRequest.of(0, 1));
+        return last.isEmpty()
+                ? new TickerChannel(null, null)
+                : new TickerChannel(last.get(0).getPrice(), last.get(0).getTradeCompletionDate());
+    }
+
+    private TickerDto snapshot(Long productId, TickerChannel channel) {
+        List<DepthDeltaDto> depth = new ArrayList<>();
+        for (TradeState tradeState : List.of(TradeState.SELL, TradeState.PURCHASE)) {
+            depth.addAll(orderBook.findTransactionTrade(productId, tradeState, PageRequest.of(0, FULL_DEPTH_SIZE))
+                    .stream()
+                    .map(level -> new DepthDeltaDto(tradeState, level.getSize(), level.getPrice(), level.getQuantity()))
+                    .collect(Collectors.toList()));
+        }
+        return ticker(productId, channel, true, depth);
+    }
+
+    private TickerDto ticker(Long productId, TickerChannel channel, boolean snapshot, List<DepthDeltaDto> depth) {
+        return TickerDto.builder()
+                .productId(productId)
+                .bestAsks(orderBook.findInstantTrade(productId, TradeState.SELL))
+                .bestBids(orderBook.findInstantTrade(productId, TradeState.PURCHASE))
+                .lastPrice(channel.getLastPrice())
+                .lastTradeDate(channel.getLastTradeDate())
+                .snapshot(snapshot)
+                .depth(depth)
+                .build();
+    }
+}
@@ -0,0 +1,97 @@
+package com.study.shoestrade.service.trade.ticker;
+
+import com.study.shoestrade.dto.trade.response.TickerDto;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 시세 구독자 하나
+ * 보내지 못한 메시지는 최대 하나만 가지고, 느린 구독자는 밀린 변경분 대신 전체 호가를 한 번에 받음
+ */
+class TickerSubscriber {
+
+    private final SseEmitter emitter;
+    private final Executor executor;
+    private final Supplier<TickerDto> snapshot;
+    private final Runnable onClose;
+
+    private final AtomicReference<TickerDto> pending = new AtomicReference<>();
+    private final AtomicBoolean sending = new AtomicBoolean();
+    // 보내지 못하고 덮어쓴 메시지가 있으면 다음에 전체 호가 전송
+    private volatile boolean lagged;
+    private volatile boolean closed;
+
+    TickerSubscriber(SseEmitter emitter, Executor executor, Supplier<TickerDto> snapshot, Runnable onClose) {
+        this.emitter = emitter;
+        this.executor = executor;
+        this.snapshot = snapshot;
+        this.onClose = onClose;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    void offer(TickerDto message) {
+        if (pending.getAndSet(message) != null) {
+            lagged = true;
+        }
+        schedule();
+    }
+
+    // 전송 스레드가 부족해 남아있던 메시지 재전송
+    void retry() {
+        if (pending.get() != null) {
+            schedule();
+        }
+    }
+
+    void close() {
+        if (!closed) {
+            closed = true;
+            pending.set(null);
+            onClose.run();
+        }
+    }
+
+    private void schedule() {
+        if (closed || !sending.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            sending.set(false);
+            lagged = true;
+        }
+    }
+
+    private void drain() {
+        try {
+            TickerDto message;
+            while (!closed && (message = pending.getAndSet(null)) != null) {
+                if (lagged) {
+                    lagged = false;
+                    message = snapshot.get();
+                }
+                emitter.send(SseEmitter.event().name("ticker").data(message));
+            }
+        } catch (IOException | IllegalStateException e) {
+            close();
+        } finally {
+            sending.set(false);
+        }
+
+        // 전송을 마치는 사이 들어온 메시지
+        if (pending.get() != null) {
+            schedule();
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package com.study.shoestrade.repository;
 
 import com.study.shoestrade.domain.member.Member;
+import com.study.shoestrade.domain.product.Product;
 import com.study.shoestrade.domain.product.ProductSize;
 import com.study.shoestrade.domain.trade.Trade;
 import com.study.shoestrade.domain.trade.TradeState;
 import com.study.shoestrade.domain.trade.TradeType;
+import com.study.shoestrade.dto.trade.DoneTradeDto;
 import com.study.shoestrade.repository.brand.BrandRepository;
+import com.study.shoestrade.repository.member.MemberRepository;
 import com.study.shoestrade.repository.product.ProductRepository;
 import com.study.shoestrade.repository.product.ProductSizeRepository;
 import com.study.shoestrade.repository.trade.TradeRepository;
@@ -14,6 +17,22 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -35,6 +54,12 @@ class TradeRepositoryTest {
     @Autowired
     BrandRepository brandRepository;
 
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
     Member member = Member.builder()
             .email("0tkk@naver.com")
             .password("1234")
@@ -61,4 +86,113 @@ class TradeRepositoryTest {
         // then
         assertThat(findTrade).isEqualTo(trade);
     }
-}
\ No newline at end of file
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("여러 스레드가 같은 구매 입찰을 동시에 판매 체결해도 한 명만 성공한다.")
+    public void 구매_입찰_동시_체결() throws InterruptedException {
+        // given
+        int threadCount = 32;
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        ProductSize productSize = tx.execute(status -> productSizeRepository.save(ProductSize.builder().size(255).build()));
+        Member purchaser = tx.execute(status -> memberRepository.save(Member.builder().email("claim-purchaser@test.com").password("1234").build()));
+        List<Member> sellers = tx.execute(status -> IntStream.range(0, threadCount)
+                .mapToObj(i -> memberRepository.save(Member.builder().email("claim-seller" + i + "@test.com").password("1234").build()))
+                .collect(Collectors.toList()));
+        Trade trade = tx.execute(status -> tradeRepository.save(Trade.builder()
+                .price(10000)
+                .productSize(productSize)
+                .purchaser(purchaser)
+                .tradeState(TradeState.PURCHASE)
+                .tradeType(TradeType.PURCHASE)
+                .build()));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        AtomicInteger winners = new AtomicInteger();
+        AtomicInteger losers = new AtomicInteger();
+        LocalDateTime deadline = LocalDateTime.now().plusDays(2);
+
+        for (int i = 0; i < threadCount; i++) {
+            Member seller = sellers.get(i);
+            executorService.submit(() -> {
+                try {
+                    ready.await();
+                    Integer updated = tx.execute(status -> tradeRepository.claimPurchase(trade.getId(), seller, deadline, LocalDateTime.now()));
+                    (updated != null && updated == 1 ? winners : losers).incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        try {
+            // when
+            ready.countDown();
+            done.await(30, TimeUnit.SECONDS);
+
+            // then
+            assertThat(winners.get()).isEqualTo(1);
+            assertThat(losers.get()).isEqualTo(threadCount - 1);
+
+            Trade claimed = tx.execute(status -> {
+                Trade result = tradeRepository.findById(trade.getId()).orElseThrow();
+                result.getSeller().getId();
+                return result;
+            });
+            assertThat(claimed.getTradeState()).isEqualTo(TradeState.READY);
+            assertThat(sellers).extracting(Member::getId).contains(claimed.getSeller().getId());
+        } finally {
+            executorService.shutdown();
+            tx.executeWithoutResult(status -> {
+                tradeRepository.deleteById(trade.getId());
+                memberRepository.deleteAll(sellers);
+                memberRepository.delete(purchaser);
+                productSizeRepository.deleteById(productSize.getId());
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("여러 사이즈의 체결 내역을 최근 체결 순으로 합쳐 커서 이후 페이지를 조회한다.")
+    public void 체결_내역_커서_조회() {
+        // given
+        Product product = productRepository.save(Product.builder()
+                .korName("상품명1")
+                .code("상품코드1")
+                .imageList(new ArrayList<>())
+                .build());
+        ProductSize size250 = productSizeRepository.save(ProductSize.builder().size(250).product(product).build());
+        ProductSize size260 = productSizeRepository.save(ProductSize.builder().size(260).product(product).build());
+
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        Trade first = saveDoneTrade(size250, now.minusMinutes(3));
+        Trade second = saveDoneTrade(size260, now.minusMinutes(2));
+        Trade third = saveDoneTrade(size250, now.minusMinutes(1));
+        Trade fourth = saveDoneTrade(size260, now);
+
+        // when
+        List<DoneTradeDto> firstPage = tradeRepository.findDoneTradeFirst(product.getId(), PageRequest.of(0, 2));
+        DoneTradeDto cursor = firstPage.get(firstPage.size() - 1);
+        List<DoneTradeDto> nextPage = tradeRepository.findDoneTradeAfter(product.getId(), cursor.getTradeCompletionDate(), cursor.getTradeId(), PageRequest.of(0, 2));
+
+        // then
+        assertThat(firstPage).extracting(DoneTradeDto::getTradeId).containsExactly(fourth.getId(), third.getId());
+        assertThat(nextPage).extracting(DoneTradeDto::getTradeId).containsExactly(second.getId(), first.getId());
+        assertThat(nextPage).extracting(DoneTradeDto::getSize).containsExactly(260, 250);
+    }
+
+    private Trade saveDoneTrade(ProductSize productSize, LocalDateTime tradeCompletionDate) {
+        return tradeRepository.save(Trade.builder()
+                .price(10000)
+                .productSize(productSize)
+                .tradeState(TradeState.DONE)
+                .tradeType(TradeType.SELL)
+                .tradeCompletionDate(tradeCompletionDate)
+                .build());
+    }
+}
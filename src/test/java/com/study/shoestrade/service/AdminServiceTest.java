@@ -6,11 +6,14 @@ import com.study.shoestrade.domain.member.Member;
 import com.study.shoestrade.domain.member.Token;
 import com.study.shoestrade.domain.payment.Payment;
 import com.study.shoestrade.domain.payment.PaymentStatus;
+import com.study.shoestrade.domain.product.Product;
+import com.study.shoestrade.domain.product.ProductSize;
 import com.study.shoestrade.domain.trade.Trade;
 import com.study.shoestrade.domain.trade.TradeState;
 import com.study.shoestrade.domain.trade.TradeType;
 import com.study.shoestrade.dto.admin.PageMemberDto;
 import com.study.shoestrade.dto.member.response.MemberDetailDto;
+import com.study.shoestrade.event.trade.TradeCompletedEvent;
 import com.study.shoestrade.exception.payment.PaymentNotFoundException;
 import com.study.shoestrade.exception.payment.PaymentUnpaidException;
 import com.study.shoestrade.exception.trade.TradeNotCompletedException;
@@ -21,6 +24,7 @@ import com.study.shoestrade.repository.trade.TradeRepository;
 import com.study.shoestrade.service.admin.AdminService;
 import com.study.shoestrade.service.policy.grade.GradePolicy;
 import com.study.shoestrade.service.policy.point.PointPolicy;
+import com.study.shoestrade.service.trade.PriceChartService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,6 +32,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -44,6 +49,7 @@ import static com.study.shoestrade.domain.member.Role.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 
 @ExtendWith(MockitoExtension.class)
 class AdminServiceTest {
@@ -62,8 +68,13 @@ class AdminServiceTest {
     PointPolicy pointPolicy;
     @Mock
     GradePolicy gradePolicy;
+    @Mock
+    PriceChartService priceChartService;
+    @Mock
+    ApplicationEventPublisher eventPublisher;
 
     List<Member> members;
+    ProductSize productSize;
 
     @BeforeEach
     public void init(){
@@ -108,6 +119,8 @@ class AdminServiceTest {
         members.add(member1);
         members.add(member2);
         members.add(member3);
+
+        productSize = ProductSize.builder().id(10L).size(250).product(Product.builder().id(1L).build()).build();
     }
 
     @Test
@@ -232,6 +245,7 @@ class AdminServiceTest {
                 .tradeState(TradeState.COMPLETE)
                 .seller(members.get(0))
                 .purchaser(members.get(1))
+                .productSize(productSize)
                 .build();
 
         Payment payment = Payment.builder()
@@ -254,6 +268,8 @@ class AdminServiceTest {
         assertThat(members.get(1).getTradeCount()).isEqualTo(6);
         assertThat(trade.getTradeCompletionDate()).isNotNull();
         assertThat(trade.getTradeState()).isEqualTo(TradeState.DONE);
+        then(priceChartService).should().addTrade(trade);
+        then(eventPublisher).should().publishEvent(any(TradeCompletedEvent.class));
     }
 
     @Test
@@ -267,6 +283,7 @@ class AdminServiceTest {
                 .tradeState(TradeState.COMPLETE)
                 .seller(members.get(0))
                 .purchaser(members.get(1))
+                .productSize(productSize)
                 .build();
 
         Payment payment = Payment.builder()
@@ -346,6 +363,7 @@ class AdminServiceTest {
                 .tradeState(TradeState.COMPLETE)
                 .seller(members.get(0))
                 .purchaser(members.get(1))
+                .productSize(productSize)
                 .build();
 
         // mocking
@@ -368,6 +386,7 @@ class AdminServiceTest {
                 .tradeState(TradeState.COMPLETE)
                 .seller(members.get(0))
                 .purchaser(members.get(1))
+                .productSize(productSize)
                 .build();
 
         Payment payment = Payment.builder()
@@ -0,0 +1,76 @@
+package com.study.shoestrade.service;
+
+import com.study.shoestrade.domain.product.Brand;
+import com.study.shoestrade.dto.brand.BrandDto;
+import com.study.shoestrade.repository.brand.BrandRepository;
+import com.study.shoestrade.service.brand.BrandCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class BrandCatalogTest {
+
+    @InjectMocks
+    BrandCatalog brandCatalog;
+
+    @Mock
+    BrandRepository brandRepository;
+
+    @BeforeEach
+    public void init() {
+        given(brandRepository.findAll()).willReturn(List.of(
+                Brand.builder().id(3L).korName("뉴발란스").engName("New Balance").build(),
+                Brand.builder().id(1L).korName("나이키").engName("Nike").build(),
+                Brand.builder().id(2L).korName("아디다스").engName("adidas").build()));
+        brandCatalog.rebuild();
+    }
+
+    @Test
+    @DisplayName("브랜드 검색은 DB 조회 없이 대소문자 구분 없이 id 순으로 페이지를 나눈다.")
+    public void 브랜드_검색() {
+        // given
+        // when
+        Page<BrandDto> all = brandCatalog.search("", PageRequest.of(1, 2));
+        Page<BrandDto> found = brandCatalog.search("n", PageRequest.of(0, 10));
+
+        // then
+        assertThat(all.getTotalElements()).isEqualTo(3);
+        assertThat(all.getContent()).extracting(BrandDto::getId).containsExactly(3L);
+        assertThat(found.getContent()).extracting(BrandDto::getId).containsExactly(1L, 3L);
+        then(brandRepository).should(times(1)).findAll();
+        then(brandRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    @DisplayName("브랜드를 추가, 변경, 삭제하면 새 목록으로 교체되고 이전 검색 결과는 바뀌지 않는다.")
+    public void 브랜드_변경() {
+        // given
+        Page<BrandDto> before = brandCatalog.search("", PageRequest.of(0, 10));
+
+        // when
+        brandCatalog.put(BrandDto.builder().id(4L).korName("컨버스").engName("Converse").build());
+        brandCatalog.put(BrandDto.builder().id(1L).korName("나이키").engName("NIKE").build());
+        brandCatalog.remove(2L);
+
+        // then
+        assertThat(before.getContent()).extracting(BrandDto::getId).containsExactly(1L, 2L, 3L);
+        assertThat(brandCatalog.search("", PageRequest.of(0, 10)).getContent())
+                .extracting(BrandDto::getId).containsExactly(1L, 3L, 4L);
+        assertThat(brandCatalog.findById(1L)).get().extracting(BrandDto::getEngName).isEqualTo("NIKE");
+        assertThat(brandCatalog.findById(2L)).isEmpty();
+    }
+}
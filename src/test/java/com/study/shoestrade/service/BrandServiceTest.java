@@ -3,7 +3,15 @@ package com.study.shoestrade.service;
 import com.study.shoestrade.domain.product.Brand;
 import com.study.shoestrade.dto.brand.BrandDto;
 import com.study.shoestrade.repository.brand.BrandRepository;
+import com.study.shoestrade.repository.jdbc.JdbcRepository;
+import com.study.shoestrade.service.brand.BrandCatalog;
 import com.study.shoestrade.service.brand.BrandServiceImpl;
+import com.study.shoestrade.service.product.search.ProductCountCache;
+import com.study.shoestrade.service.product.search.ProductFacetIndex;
+import com.study.shoestrade.service.product.search.ProductNameIndex;
+import com.study.shoestrade.service.product.search.ProductTrendingRanking;
+import com.study.shoestrade.service.product.search.ProductTypeahead;
+import com.study.shoestrade.service.product.cache.ProductDetailCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -32,6 +40,30 @@ class BrandServiceTest {
     @Mock
     private BrandRepository brandRepository;
 
+    @Mock
+    private BrandCatalog brandCatalog;
+
+    @Mock
+    private ProductNameIndex productNameIndex;
+
+    @Mock
+    private ProductCountCache productCountCache;
+
+    @Mock
+    private ProductDetailCache productDetailCache;
+
+    @Mock
+    private ProductFacetIndex productFacetIndex;
+
+    @Mock
+    private ProductTypeahead productTypeahead;
+
+    @Mock
+    private ProductTrendingRanking productTrendingRanking;
+
+    @Mock
+    private JdbcRepository jdbcRepository;
+
     Brand brand1 = Brand.builder()
             .id(1L)
             .korName("나이키")
@@ -100,7 +132,7 @@ class BrandServiceTest {
         Page<Brand> page = new PageImpl<>(list);
         PageRequest pageRequest = PageRequest.of(0, 3);
 
-        given(brandRepository.findByNameContains(any(), any())).willReturn(page);
+        given(brandCatalog.search(any(), any())).willReturn(page.map(BrandDto::create));
         // when
         Page<BrandDto> findPage = brandService.findByBrandName("나이키", pageRequest);
 
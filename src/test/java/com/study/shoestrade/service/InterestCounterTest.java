@@ -0,0 +1,110 @@
+package com.study.shoestrade.service;
+
+import com.study.shoestrade.repository.jdbc.JdbcRepository;
+import com.study.shoestrade.service.interest.InterestCounter;
+import com.study.shoestrade.service.product.cache.ProductDetailCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InterestCounterTest {
+
+    @Mock
+    JdbcRepository jdbcRepository;
+
+    @Mock
+    ProductDetailCache productDetailCache;
+
+    InterestCounter interestCounter;
+
+    @BeforeEach
+    public void init() {
+        interestCounter = new InterestCounter(jdbcRepository, productDetailCache);
+    }
+
+    @Test
+    @DisplayName("저장하지 않은 증감분을 DB 값에 더해서 반환한다.")
+    public void 증감분_반영() {
+        // when
+        interestCounter.add(1L, 3);
+        interestCounter.add(1L, -1);
+        interestCounter.add(2L, 1);
+
+        // then
+        assertThat(interestCounter.pending(1L)).isEqualTo(2L);
+        assertThat(interestCounter.merge(1L, 10)).isEqualTo(12);
+        assertThat(interestCounter.merge(3L, 10)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("변경된 상품의 증감분만 한 번에 저장하고 저장한 상품의 상세 정보 캐시를 무효화한다.")
+    public void 저장() {
+        // given
+        interestCounter.add(1L, 3);
+        interestCounter.add(2L, 1);
+        interestCounter.add(2L, -1);
+
+        // when
+        interestCounter.flush();
+
+        // then
+        then(jdbcRepository).should().addAllInterest(Map.of(1L, 3L));
+        then(productDetailCache).should().invalidate(1L);
+        assertThat(interestCounter.pending(1L)).isZero();
+
+        // 저장한 뒤 들어온 증감분만 다음에 저장
+        interestCounter.add(1L, 2);
+        interestCounter.flush();
+        then(jdbcRepository).should().addAllInterest(Map.of(1L, 2L));
+
+        // 변경이 없으면 저장하지 않음
+        interestCounter.flush();
+        then(jdbcRepository).should(times(2)).addAllInterest(any());
+    }
+
+    @Test
+    @DisplayName("저장에 실패하면 증감분을 남겨 두고 다음에 다시 저장한다.")
+    public void 저장_실패() {
+        // given
+        interestCounter.add(1L, 3);
+        willThrow(new IllegalStateException("db")).given(jdbcRepository).addAllInterest(Map.of(1L, 3L));
+
+        // when
+        interestCounter.flush();
+
+        // then
+        assertThat(interestCounter.pending(1L)).isEqualTo(3L);
+        then(productDetailCache).should(never()).invalidate(any());
+    }
+
+    @Test
+    @DisplayName("저장 중인 증감분은 조회 시 더하지 않아 DB 에 먼저 반영되어도 두 번 더해지지 않는다.")
+    public void 저장_중_조회() {
+        // given
+        interestCounter.add(1L, 3);
+        AtomicLong pendingWhileWriting = new AtomicLong();
+        willAnswer(invocation -> {
+            interestCounter.add(1L, 1);
+            pendingWhileWriting.set(interestCounter.pending(1L));
+            return null;
+        }).given(jdbcRepository).addAllInterest(Map.of(1L, 3L));
+
+        // when
+        interestCounter.flush();
+
+        // then
+        assertThat(pendingWhileWriting.get()).isEqualTo(1L);
+        assertThat(interestCounter.pending(1L)).isEqualTo(1L);
+    }
+}
@@ -7,12 +7,20 @@ import com.study.shoestrade.domain.product.Product;
 import com.study.shoestrade.domain.product.ProductSize;
 import com.study.shoestrade.dto.interest.request.InterestProductRequestDto;
 import com.study.shoestrade.dto.interest.response.InterestProductResponseDto;
+import com.study.shoestrade.dto.interest.response.MyInterest;
+import com.study.shoestrade.dto.interest.response.MyInterestSliceDto;
 import com.study.shoestrade.repository.interest.InterestProductRepository;
+import com.study.shoestrade.repository.interest.PriceAlertRepository;
+import com.study.shoestrade.repository.interest.WishlistItemRepository;
 import com.study.shoestrade.repository.jdbc.JdbcRepository;
 import com.study.shoestrade.repository.member.MemberRepository;
 import com.study.shoestrade.repository.product.ProductRepository;
 import com.study.shoestrade.repository.product.ProductSizeRepository;
 import com.study.shoestrade.service.interest.InterestService;
+import com.study.shoestrade.service.interest.InterestCounter;
+import com.study.shoestrade.service.interest.alert.PriceAlertWatchers;
+import com.study.shoestrade.service.interest.cache.MemberWishlistCache;
+import com.study.shoestrade.service.product.search.ProductTrendingRanking;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -27,7 +35,9 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 
 @ExtendWith(MockitoExtension.class)
 public class InterestServiceTest {
@@ -45,6 +55,18 @@ public class InterestServiceTest {
     InterestProductRepository interestProductRepository;
     @Mock
     JdbcRepository jdbcRepository;
+    @Mock
+    InterestCounter interestCounter;
+    @Mock
+    WishlistItemRepository wishlistItemRepository;
+    @Mock
+    ProductTrendingRanking productTrendingRanking;
+    @Mock
+    PriceAlertWatchers priceAlertWatchers;
+    @Mock
+    PriceAlertRepository priceAlertRepository;
+    @Mock
+    MemberWishlistCache memberWishlistCache;
 
     Member member;
     Brand brand;
@@ -124,14 +146,47 @@ public class InterestServiceTest {
         // mocking
         given(memberRepository.findByEmail(any())).willReturn(Optional.of(member));
         given(productRepository.findById(any())).willReturn(Optional.of(product));
-        given(interestProductRepository.findPreInterests(any(), any())).willReturn(new ArrayList<>());
-        given(productSizeRepository.findProductSizes(3L, requestDto.getInterests())).willReturn(productSizes);
+        given(productSizeRepository.findIdsByProductId(3L)).willReturn(List.of(100L, 101L, 102L, 103L));
+        given(jdbcRepository.deleteInterests(1L, List.of())).willReturn(0);
+        given(jdbcRepository.saveAllInterestIfAbsent(1L, List.of(100L, 101L, 102L, 103L))).willReturn(4);
 
         // when
         interestService.addWishList("email", product.getId(), requestDto);
 
         // then
-        assertThat(product.getInterest()).isEqualTo(4);
+        then(interestCounter).should().add(3L, 4);
+        then(jdbcRepository).should().syncWishlistItems(1L, 3L);
+        then(priceAlertWatchers).should().add(1L, 103L);
+        then(memberWishlistCache).should().update(eq("email"), eq(List.of()), any());
+        assertThat(product.getInterest()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("요청에 없는 사이즈는 삭제하고 요청된 사이즈는 없을 때만 추가하며, 관심 상품 수는 실제로 바뀐 행 수로 반영한다.")
+    public void 관심_상품_수정() {
+        // given
+        // 101, 102 는 이미 등록되어 있고 100 은 삭제, 103 은 추가, 999 는 다른 상품의 사이즈
+        InterestProductRequestDto requestDto = InterestProductRequestDto.builder()
+                .interests(List.of(101L, 102L, 103L, 999L))
+                .build();
+
+        // mocking
+        given(memberRepository.findByEmail(any())).willReturn(Optional.of(member));
+        given(productRepository.findById(any())).willReturn(Optional.of(product));
+        given(productSizeRepository.findIdsByProductId(3L)).willReturn(List.of(100L, 101L, 102L, 103L));
+        given(jdbcRepository.deleteInterests(1L, List.of(100L))).willReturn(1);
+        given(jdbcRepository.saveAllInterestIfAbsent(1L, List.of(101L, 102L, 103L))).willReturn(1);
+
+        // when
+        interestService.addWishList("email", product.getId(), requestDto);
+
+        // then
+        then(interestCounter).should().add(3L, 0);
+        then(productTrendingRanking).should().addInterest(3L, 0);
+        then(priceAlertWatchers).should().remove(1L, 100L);
+        then(priceAlertWatchers).should().add(1L, 103L);
+        then(memberWishlistCache).should().update("email", List.of(100L), List.of(101L, 102L, 103L));
+        then(jdbcRepository).should().syncWishlistItems(1L, 3L);
     }
 
     @Test
@@ -141,7 +196,7 @@ public class InterestServiceTest {
 
         // mocking
         given(productSizeRepository.findByProduct_Id(3L)).willReturn(productSizes);
-        given(interestProductRepository.findPreInterests("email", 3L)).willReturn(new ArrayList<>());
+        given(memberWishlistCache.get(eq("email"), any())).willReturn(MemberWishlistCache.WishlistSizes.of(new ArrayList<>()));
 
         // when
         InterestProductResponseDto responseDto = interestService.getProductWishList("email", 3L);
@@ -155,25 +210,12 @@ public class InterestServiceTest {
     @DisplayName("관심 상품으로 등록되어 있는 상품은 체크가 true이다.")
     public void 관심_상품_목록_보기2() {
         // given
-        InterestProduct interest1 = InterestProduct.builder()
-                .id(1000L)
-                .member(member)
-                .productSize(productSizes.get(0))
-                .build();
-
-        InterestProduct interest2 = InterestProduct.builder()
-                .id(1001L)
-                .member(member)
-                .productSize(productSizes.get(1))
-                .build();
-
-        List<InterestProduct> interests = new ArrayList<>();
-        interests.add(interest1);
-        interests.add(interest2);
+        // 다른 상품의 관심 사이즈(200)도 함께 캐시됨
+        MemberWishlistCache.WishlistSizes wishlist = MemberWishlistCache.WishlistSizes.of(List.of(101L, 200L, 100L));
 
         // mocking
         given(productSizeRepository.findByProduct_Id(3L)).willReturn(productSizes);
-        given(interestProductRepository.findPreInterests("email", 3L)).willReturn(interests);
+        given(memberWishlistCache.get(eq("email"), any())).willReturn(wishlist);
 
         // when
         InterestProductResponseDto responseDto = interestService.getProductWishList("email", 3L);
@@ -194,8 +236,6 @@ public class InterestServiceTest {
                 .productSize(productSizes.get(0))
                 .build();
 
-        product.addInterest(1);
-
         // mocking
         given(interestProductRepository.findOneInterest("email", 100L)).willReturn(Optional.of(interestProduct));
 
@@ -203,6 +243,36 @@ public class InterestServiceTest {
         interestService.deleteInterestProduct("email", 100L);
         
         // then
-        assertThat(product.getInterest()).isEqualTo(0);
+        then(interestCounter).should().add(3L, -1);
+        then(priceAlertWatchers).should().remove(1L, 100L);
+        then(memberWishlistCache).should().update("email", List.of(100L), List.of());
+        then(interestProductRepository).should().delete(interestProduct);
+        then(jdbcRepository).should().syncWishlistItems(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("마이페이지 관심 상품은 한 건 더 읽어 다음 페이지가 있으면 마지막 관심 상품 id 를 커서로 준다.")
+    public void 관심_상품_커서_조회() {
+        // given
+        List<MyInterest> interests = List.of(
+                new MyInterest(1003L, 3L, 103L, "NIKE", "나이키 덩크", 270, 130000, "dunk.png"),
+                new MyInterest(1002L, 3L, 102L, "NIKE", "나이키 덩크", 265, 0, "dunk.png"),
+                new MyInterest(1001L, 3L, 101L, "NIKE", "나이키 덩크", 260, 125000, "dunk.png"));
+
+        // mocking
+        given(wishlistItemRepository.findMyInterestsAfter(eq("email"), eq(1004L), any())).willReturn(interests);
+        given(wishlistItemRepository.findMyInterestsAfter(eq("email"), eq(1002L), any())).willReturn(interests.subList(2, 3));
+
+        // when
+        MyInterestSliceDto first = interestService.getMyWishList("email", 1004L, 2);
+        MyInterestSliceDto last = interestService.getMyWishList("email", first.getNextCursor(), 2);
+
+        // then
+        assertThat(first.getContent()).extracting(MyInterest::getInterestId).containsExactly(1003L, 1002L);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getNextCursor()).isEqualTo(1002L);
+        assertThat(last.getContent()).extracting(MyInterest::getInterestId).containsExactly(1001L);
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
     }
 }
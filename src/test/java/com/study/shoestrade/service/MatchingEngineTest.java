@@ -0,0 +1,206 @@
+package com.study.shoestrade.service;
+
+import com.study.shoestrade.domain.member.Member;
+import com.study.shoestrade.domain.product.Product;
+import com.study.shoestrade.domain.product.ProductSize;
+import com.study.shoestrade.domain.trade.Trade;
+import com.study.shoestrade.domain.trade.TradeState;
+import com.study.shoestrade.domain.trade.TradeType;
+import com.study.shoestrade.repository.trade.TradeRepository;
+import com.study.shoestrade.service.member.MailService;
+import com.study.shoestrade.service.trade.book.MatchingEngine;
+import com.study.shoestrade.service.trade.book.OrderBook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class MatchingEngineTest {
+
+    @Mock
+    TradeRepository tradeRepository;
+    @Mock
+    MailService mailService;
+
+    OrderBook orderBook;
+    MatchingEngine matchingEngine;
+
+    Member purchaser, seller;
+    ProductSize productSize;
+    Map<Long, Trade> trades;
+    Set<Long> claimed;
+
+    @BeforeEach
+    public void init() {
+        orderBook = new OrderBook(tradeRepository, event -> {
+        });
+        matchingEngine = new MatchingEngine(orderBook, tradeRepository, mailService);
+
+        purchaser = Member.builder().id(1L).email("purchaser").build();
+        seller = Member.builder().id(2L).email("seller").build();
+        productSize = ProductSize.builder().id(10L).size(250).product(Product.builder().id(1L).build()).build();
+        trades = new ConcurrentHashMap<>();
+        claimed = ConcurrentHashMap.newKeySet();
+
+        lenient().when(tradeRepository.findById(any())).thenAnswer(invocation -> Optional.ofNullable(trades.get(invocation.<Long>getArgument(0))));
+        lenient().when(tradeRepository.claimPurchase(any(), any(), any(), any())).thenAnswer(invocation -> claim(invocation.getArgument(0)));
+        lenient().when(tradeRepository.matchSell(any(), any(), any(), any())).thenAnswer(invocation -> claim(invocation.getArgument(0)));
+    }
+
+    @Test
+    @DisplayName("판매 입찰 가격 이상인 구매 입찰 중 가장 높은 가격의 입찰과 체결된다.")
+    public void 가격_우선_체결() {
+        // given
+        purchase(1L, 100000);
+        purchase(2L, 120000);
+        purchase(3L, 120000);
+
+        // when
+        Optional<Trade> matched = matchingEngine.match(seller, productSize, TradeType.SELL, 110000);
+
+        // then
+        assertThat(matched).isPresent();
+        assertThat(matched.get().getId()).isEqualTo(2L);
+        assertThat(matched.get().getTradeState()).isEqualTo(TradeState.READY);
+        assertThat(matched.get().getSeller()).isEqualTo(seller);
+        assertThat(matched.get().getPrice()).isEqualTo(120000);
+    }
+
+    @Test
+    @DisplayName("판매 입찰 가격보다 낮은 구매 입찰이나 자신의 입찰과는 체결되지 않는다.")
+    public void 체결_불가() {
+        // given
+        purchase(1L, 100000);
+
+        // when
+        // then
+        assertThat(matchingEngine.match(seller, productSize, TradeType.SELL, 110000)).isEmpty();
+        assertThat(matchingEngine.match(purchaser, productSize, TradeType.SELL, 90000)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 사이즈에 동시에 판매 입찰이 들어와도 하나의 구매 입찰은 한 번만 체결된다.")
+    public void 동시_체결() throws InterruptedException {
+        // given
+        int restingCount = 2000;
+        int threadCount = 8;
+        int ordersPerThread = 500;
+
+        for (long id = 1; id <= restingCount; id++) {
+            purchase(id, 100000);
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        AtomicInteger matched = new AtomicInteger();
+        List<Long> matchedIds = new CopyOnWriteArrayList<>();
+
+        for (int t = 0; t < threadCount; t++) {
+            executorService.submit(() -> {
+                try {
+                    ready.await();
+                    for (int i = 0; i < ordersPerThread; i++) {
+                        matchingEngine.match(seller, productSize, TradeType.SELL, 100000)
+                                .ifPresent(trade -> {
+                                    matched.incrementAndGet();
+                                    matchedIds.add(trade.getId());
+                                });
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // when
+        ready.countDown();
+        boolean finished = done.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertThat(finished).isTrue();
+        assertThat(matched.get()).isEqualTo(restingCount);
+        assertThat(new ArrayList<>(matchedIds)).doesNotHaveDuplicates();
+        assertThat(matchingEngine.getMatchCount()).isEqualTo(restingCount);
+        assertThat(orderBook.findInstantTrade(1L, TradeState.PURCHASE)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("즉시 판매와 자동 체결이 같은 구매 입찰에 동시에 요청되어도 한 번만 체결된다.")
+    public void 즉시_판매_자동_체결_동시_요청() throws Exception {
+        // given
+        int restingCount = 1000;
+        for (long id = 1; id <= restingCount; id++) {
+            purchase(id, 100000);
+        }
+
+        Member manualSeller = Member.builder().id(3L).email("manualSeller").build();
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Long> claimedIds = new CopyOnWriteArrayList<>();
+
+        Future<?> manual = executorService.submit(() -> {
+            ready.await();
+            for (long id = 1; id <= restingCount; id++) {
+                if (tradeRepository.claimPurchase(id, manualSeller, null, LocalDateTime.now()) == 1) {
+                    claimedIds.add(id);
+                }
+            }
+            return null;
+        });
+        Future<?> matching = executorService.submit(() -> {
+            ready.await();
+            for (int i = 0; i < restingCount; i++) {
+                matchingEngine.match(seller, productSize, TradeType.SELL, 100000)
+                        .ifPresent(trade -> claimedIds.add(trade.getId()));
+            }
+            return null;
+        });
+
+        // when
+        ready.countDown();
+        manual.get(30, TimeUnit.SECONDS);
+        matching.get(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertThat(new ArrayList<>(claimedIds)).hasSize(restingCount).doesNotHaveDuplicates();
+    }
+
+    // 조건부 update 처럼 입찰 하나는 한 번만 변경
+    private int claim(Long id) {
+        return trades.containsKey(id) && claimed.add(id) ? 1 : 0;
+    }
+
+    private void purchase(Long id, int price) {
+        Trade trade = Trade.builder()
+                .id(id)
+                .price(price)
+                .productSize(productSize)
+                .purchaser(purchaser)
+                .tradeType(TradeType.PURCHASE)
+                .tradeState(TradeState.PURCHASE)
+                .build();
+        trades.put(id, trade);
+        orderBook.add(trade);
+    }
+}
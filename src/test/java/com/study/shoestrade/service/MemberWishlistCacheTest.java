@@ -0,0 +1,63 @@
+package com.study.shoestrade.service;
+
+import com.study.shoestrade.service.interest.cache.MemberWishlistCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberWishlistCacheTest {
+
+    @Test
+    @DisplayName("처음 조회할 때만 DB 에서 읽고, 등록/삭제는 캐시에 있는 회원에게 바로 반영된다.")
+    public void 관심_사이즈_캐시() {
+        // given
+        MemberWishlistCache cache = new MemberWishlistCache(1 << 20, 100);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        cache.get("email", () -> {
+            loads.incrementAndGet();
+            return List.of(102L, 100L);
+        });
+        cache.update("email", List.of(100L), List.of(101L));
+        cache.update("other", List.of(), List.of(200L));
+        MemberWishlistCache.WishlistSizes result = cache.get("email", () -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+
+        // then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(result.contains(100L)).isFalse();
+        assertThat(result.contains(101L)).isTrue();
+        assertThat(result.contains(102L)).isTrue();
+        assertThat(result.size()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("관심 사이즈가 너무 많은 회원은 캐시하지 않고, 최대 크기를 넘으면 오래 조회하지 않은 회원부터 제거한다.")
+    public void 관심_사이즈_캐시_크기() {
+        // given
+        // 회원 한 명 = 160 + 이메일(2자) * 2 + 사이즈 수 * 8
+        MemberWishlistCache cache = new MemberWishlistCache(2 * (160 + 4 + 16), 2);
+
+        // when
+        cache.get("m1", () -> List.of(1L, 2L));
+        cache.get("m2", () -> List.of(3L, 4L));
+        cache.get("m1", List::of);
+        cache.get("m3", () -> List.of(5L, 6L));
+        MemberWishlistCache.WishlistSizes many = cache.get("m4", () -> List.of(7L, 8L, 9L));
+
+        // then
+        assertThat(many.contains(9L)).isTrue();
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.weightBytes()).isEqualTo(2 * (160 + 4 + 16));
+        assertThat(cache.get("m1", List::of).contains(1L)).isTrue();
+        assertThat(cache.get("m2", List::of).size()).isEqualTo(0);
+    }
+}
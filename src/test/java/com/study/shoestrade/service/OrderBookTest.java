@@ -0,0 +1,288 @@
+package com.study.shoestrade.service;
+
+import com.study.shoestrade.domain.member.Member;
+import com.study.shoestrade.domain.product.Product;
+import com.study.shoestrade.domain.product.ProductSize;
+import com.study.shoestrade.domain.trade.Trade;
+import com.study.shoestrade.domain.trade.TradeState;
+import com.study.shoestrade.domain.trade.TradeType;
+import com.study.shoestrade.dto.trade.OpenTradeDto;
+import com.study.shoestrade.dto.trade.response.TradeLoadDto;
+import com.study.shoestrade.dto.trade.response.TradeTransactionDto;
+import com.study.shoestrade.event.trade.LowestAskDroppedEvent;
+import com.study.shoestrade.repository.trade.TradeRepository;
+import com.study.shoestrade.service.trade.book.OrderBook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.atLeastOnce;
+
+@ExtendWith(MockitoExtension.class)
+class OrderBookTest {
+
+    @InjectMocks
+    OrderBook orderBook;
+
+    @Mock
+    TradeRepository tradeRepository;
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    Member member;
+    Product product;
+    ProductSize size250, size255;
+
+    @BeforeEach
+    public void init() {
+        member = Member.builder().id(1L).email("member").build();
+        product = Product.builder().id(1L).build();
+        size250 = ProductSize.builder().id(10L).size(250).product(product).build();
+        size255 = ProductSize.builder().id(11L).size(255).product(product).build();
+    }
+
+    @Test
+    @DisplayName("즉시 구매가는 사이즈별로 가장 낮은 판매 입찰이다.")
+    public void 즉시_구매가() {
+        // given
+        orderBook.add(trade(1L, size250, TradeState.SELL, 120000));
+        orderBook.add(trade(2L, size250, TradeState.SELL, 110000));
+        orderBook.add(trade(3L, size255, TradeState.SELL, 130000));
+
+        // when
+        List<TradeLoadDto> result = orderBook.findInstantTrade(product.getId(), TradeState.SELL);
+
+        // then
+        assertThat(result).extracting(TradeLoadDto::getId).containsExactly(2L, 3L);
+        assertThat(result).extracting(TradeLoadDto::getSize).containsExactly(250, 255);
+    }
+
+    @Test
+    @DisplayName("즉시 판매가는 가장 높은 구매 입찰이고, 같은 가격이면 먼저 등록된 입찰이다.")
+    public void 즉시_판매가() {
+        // given
+        orderBook.add(trade(1L, size250, TradeState.PURCHASE, 100000));
+        orderBook.add(trade(2L, size250, TradeState.PURCHASE, 100000));
+        orderBook.add(trade(3L, size250, TradeState.PURCHASE, 90000));
+
+        // when
+        List<TradeLoadDto> result = orderBook.findInstantTrade(product.getId(), TradeState.PURCHASE);
+
+        // then
+        assertThat(result).extracting(TradeLoadDto::getId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("가격을 수정한 입찰은 같은 가격의 입찰 중 가장 뒤로 밀린다.")
+    public void 입찰_수정() {
+        // given
+        orderBook.add(trade(1L, size250, TradeState.SELL, 100000));
+        orderBook.add(trade(2L, size250, TradeState.SELL, 110000));
+
+        // when
+        orderBook.reprice(1L, 120000);
+        orderBook.reprice(1L, 110000);
+
+        // then
+        assertThat(orderBook.findInstantTrade(product.getId(), TradeState.SELL))
+                .extracting(TradeLoadDto::getId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("새 판매 입찰이나 가격 수정으로 사이즈의 즉시 구매가가 낮아질 때만 이벤트를 발행한다.")
+    public void 즉시_구매가_하락() {
+        // given
+        orderBook.add(trade(1L, size250, TradeState.SELL, 120000));
+        orderBook.add(trade(2L, size250, TradeState.SELL, 130000));
+        orderBook.add(trade(3L, size250, TradeState.SELL, 110000));
+        orderBook.add(trade(4L, size250, TradeState.PURCHASE, 100000));
+
+        // when
+        orderBook.reprice(2L, 105000);
+        orderBook.reprice(1L, 125000);
+        orderBook.reprice(4L, 104000);
+
+        // then
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        then(eventPublisher).should(atLeastOnce()).publishEvent(events.capture());
+        assertThat(events.getAllValues()).filteredOn(LowestAskDroppedEvent.class::isInstance)
+                .extracting(event -> ((LowestAskDroppedEvent) event).getPrice())
+                .containsExactly(120000, 110000, 105000);
+    }
+
+    @Test
+    @DisplayName("삭제되거나 체결된 입찰은 호가창에서 제거된다.")
+    public void 입찰_제거() {
+        // given
+        orderBook.add(trade(1L, size250, TradeState.SELL, 100000));
+        orderBook.add(trade(2L, size250, TradeState.SELL, 110000));
+
+        // when
+        orderBook.remove(1L);
+        orderBook.remove(2L);
+
+        // then
+        assertThat(orderBook.findInstantTrade(product.getId(), TradeState.SELL)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("trade 테이블의 대기 중인 입찰로 호가창을 다시 만든다.")
+    public void 호가창_생성() {
+        // given
+        orderBook.add(trade(9L, size255, TradeState.SELL, 100000));
+        given(tradeRepository.findOpenTrades()).willReturn(List.of(
+                new OpenTradeDto(1L, product.getId(), size250.getId(), member.getId(), 250, 100000, TradeState.SELL),
+                new OpenTradeDto(2L, product.getId(), size250.getId(), member.getId(), 250, 150000, TradeState.PURCHASE)));
+
+        // when
+        orderBook.rebuild();
+
+        // then
+        assertThat(orderBook.findInstantTrade(product.getId(), TradeState.SELL))
+                .extracting(TradeLoadDto::getId).containsExactly(1L);
+        assertThat(orderBook.findInstantTrade(product.getId(), TradeState.PURCHASE))
+                .extracting(TradeLoadDto::getId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("입찰 내역은 사이즈, 가격별 수량이고 등록/수정/삭제/체결 시 바로 갱신된다.")
+    public void 입찰_내역() {
+        // given
+        orderBook.add(trade(1L, size250, TradeState.PURCHASE, 100000));
+        orderBook.add(trade(2L, size250, TradeState.PURCHASE, 100000));
+        orderBook.add(trade(3L, size250, TradeState.PURCHASE, 120000));
+        orderBook.add(trade(4L, size255, TradeState.PURCHASE, 90000));
+        orderBook.add(trade(5L, size255, TradeState.PURCHASE, 90000));
+
+        // when
+        orderBook.reprice(3L, 100000);
+        orderBook.remove(4L);
+        orderBook.reserveCrossing(size255.getId(), TradeState.PURCHASE, 90000, 2L);
+        Page<TradeTransactionDto> result = orderBook.findTransactionTrade(product.getId(), TradeState.PURCHASE, PageRequest.of(0, 10));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        assertThat(result.getContent()).containsExactly(new TradeTransactionDto(250, 100000, 3L));
+        assertThat(orderBook.findTransactionTrade(product.getId(), TradeState.SELL, PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("입찰 내역은 사이즈 오름차순, 같은 사이즈는 우선 순위가 높은 가격부터 페이지 단위로 조회된다.")
+    public void 입찰_내역_페이지() {
+        // given
+        orderBook.add(trade(1L, size255, TradeState.SELL, 100000));
+        orderBook.add(trade(2L, size250, TradeState.SELL, 120000));
+        orderBook.add(trade(3L, size250, TradeState.SELL, 110000));
+
+        // when
+        Page<TradeTransactionDto> first = orderBook.findTransactionTrade(product.getId(), TradeState.SELL, PageRequest.of(0, 2));
+        Page<TradeTransactionDto> second = orderBook.findTransactionTrade(product.getId(), TradeState.SELL, PageRequest.of(1, 2));
+
+        // then
+        assertThat(first.getTotalElements()).isEqualTo(3);
+        assertThat(first.getContent()).extracting(TradeTransactionDto::getPrice).containsExactly(110000, 120000);
+        assertThat(second.getContent()).extracting(TradeTransactionDto::getSize).containsExactly(255);
+    }
+
+    @Test
+    @DisplayName("입찰 내역 다음 페이지는 이전 페이지 마지막 사이즈, 가격 다음부터 조회된다.")
+    public void 입찰_내역_커서() {
+        // given
+        orderBook.add(trade(1L, size255, TradeState.PURCHASE, 100000));
+        orderBook.add(trade(2L, size250, TradeState.PURCHASE, 120000));
+        orderBook.add(trade(3L, size250, TradeState.PURCHASE, 110000));
+
+        // when
+        Page<TradeTransactionDto> first = orderBook.findTransactionTrade(product.getId(), TradeState.PURCHASE, PageRequest.of(0, 2));
+        TradeTransactionDto last = first.getContent().get(first.getContent().size() - 1);
+        Page<TradeTransactionDto> next = orderBook.findTransactionTradeAfter(product.getId(), TradeState.PURCHASE, last.getSize(), last.getPrice(), PageRequest.of(0, 2));
+
+        // then
+        assertThat(first.getContent()).extracting(TradeTransactionDto::getPrice).containsExactly(120000, 110000);
+        assertThat(next.getContent()).extracting(TradeTransactionDto::getSize).containsExactly(255);
+        assertThat(next.getContent()).extracting(TradeTransactionDto::getPrice).containsExactly(100000);
+    }
+
+    @Test
+    @DisplayName("같은 사이즈에 판매 입찰이 동시에 등록되어도 즉시 구매가 하락 이벤트는 가격이 계속 낮아지는 순서로만 발행된다.")
+    public void 즉시_구매가_하락_동시_등록() throws InterruptedException {
+        // given
+        List<Integer> dropped = Collections.synchronizedList(new ArrayList<>());
+        OrderBook book = new OrderBook(tradeRepository, event -> {
+            if (event instanceof LowestAskDroppedEvent) {
+                dropped.add(((LowestAskDroppedEvent) event).getPrice());
+            }
+        });
+
+        int threadCount = 8;
+        int ordersPerThread = 500;
+        List<Integer> prices = IntStream.range(0, threadCount * ordersPerThread)
+                .map(i -> 100000 + i * 10)
+                .boxed()
+                .collect(Collectors.toList());
+        Collections.shuffle(prices);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        for (int t = 0; t < threadCount; t++) {
+            int from = t * ordersPerThread;
+            executorService.submit(() -> {
+                try {
+                    ready.await();
+                    for (int i = from; i < from + ordersPerThread; i++) {
+                        book.add(trade((long) i + 1, size250, TradeState.SELL, prices.get(i)));
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // when
+        ready.countDown();
+        boolean finished = done.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertThat(finished).isTrue();
+        assertThat(dropped).isSortedAccordingTo(Comparator.reverseOrder()).doesNotHaveDuplicates();
+        assertThat(dropped.get(dropped.size() - 1)).isEqualTo(100000);
+    }
+
+    private Trade trade(Long id, ProductSize productSize, TradeState tradeState, int price) {
+        return Trade.builder()
+                .id(id)
+                .productSize(productSize)
+                .price(price)
+                .tradeState(tradeState)
+                .tradeType(tradeState == TradeState.SELL ? TradeType.SELL : TradeType.PURCHASE)
+                .seller(tradeState == TradeState.SELL ? member : null)
+                .purchaser(tradeState == TradeState.PURCHASE ? member : null)
+                .build();
+    }
+}
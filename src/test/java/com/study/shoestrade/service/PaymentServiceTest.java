@@ -14,11 +14,13 @@ import com.study.shoestrade.dto.payment.request.PaymentVerifyRequestDto;
 import com.study.shoestrade.exception.payment.InsufficientPointException;
 import com.study.shoestrade.exception.payment.MyTradeException;
 import com.study.shoestrade.exception.payment.PaymentPriceNotMatchedException;
+import com.study.shoestrade.exception.trade.TradeAlreadyClaimedException;
 import com.study.shoestrade.exception.trade.TradeEmptyResultDataAccessException;
 import com.study.shoestrade.repository.member.MemberRepository;
 import com.study.shoestrade.repository.payment.PaymentRepository;
 import com.study.shoestrade.repository.trade.TradeRepository;
 import com.study.shoestrade.service.payment.PaymentService;
+import com.study.shoestrade.service.trade.book.OrderBook;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -34,6 +36,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 class PaymentServiceTest {
@@ -47,6 +51,8 @@ class PaymentServiceTest {
     TradeRepository tradeRepository;
     @Mock
     PaymentRepository paymentRepository;
+    @Mock
+    OrderBook orderBook;
 
     Member member1, member2;
     Trade sell;
@@ -93,6 +99,7 @@ class PaymentServiceTest {
         // mocking
         given(memberRepository.findByEmail(any())).willReturn(Optional.of(member1));
         given(tradeRepository.findById(any())).willReturn(Optional.of(sell));
+        given(tradeRepository.claimSell(any(), any(), any())).willReturn(1);
 
         // when
         paymentService.createPayment(member1.getEmail(), requestDto);
@@ -116,6 +123,7 @@ class PaymentServiceTest {
         // mocking
         given(memberRepository.findByEmail(any())).willReturn(Optional.of(member1));
         given(tradeRepository.findById(any())).willReturn(Optional.of(sell));
+        given(tradeRepository.claimSell(any(), any(), any())).willReturn(1);
 
         // when
         paymentService.createPayment(member1.getEmail(), requestDto);
@@ -124,6 +132,30 @@ class PaymentServiceTest {
         assertThat(sell.getTradeState()).isEqualTo(TradeState.READY);
     }
 
+    @Test
+    @DisplayName("다른 회원이 먼저 결제를 요청한 판매 입찰이면 예외가 발생한다.")
+    public void 결제_정보_생성_실패_동시_요청() {
+        // given
+        PaymentRequestDto requestDto = PaymentRequestDto.builder()
+                .method(PaymentMethod.CARD)
+                .name("name")
+                .price(100000)
+                .point(0)
+                .tradeId(100L)
+                .build();
+
+        // mocking
+        given(memberRepository.findByEmail(any())).willReturn(Optional.of(member1));
+        given(tradeRepository.findById(any())).willReturn(Optional.of(sell));
+        given(tradeRepository.claimSell(any(), any(), any())).willReturn(0);
+
+        // when
+        // then
+        assertThatThrownBy(() -> paymentService.createPayment(member1.getEmail(), requestDto))
+                .isInstanceOf(TradeAlreadyClaimedException.class);
+        then(paymentRepository).should(never()).save(any());
+    }
+
     @Test
     @DisplayName("trade id가 존재하지 않으면 TradeEmptyResultDataAccessException 예외가 발생한다.")
     public void 결제_정보_생성_실패1() {
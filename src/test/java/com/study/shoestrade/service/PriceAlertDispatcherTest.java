@@ -0,0 +1,84 @@
+package com.study.shoestrade.service;
+
+import com.study.shoestrade.event.trade.LowestAskDroppedEvent;
+import com.study.shoestrade.repository.interest.InterestProductRepository;
+import com.study.shoestrade.repository.jdbc.JdbcRepository;
+import com.study.shoestrade.service.interest.alert.PriceAlertDispatcher;
+import com.study.shoestrade.service.interest.alert.PriceAlertWatchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class PriceAlertDispatcherTest {
+
+    @Mock
+    InterestProductRepository interestProductRepository;
+    @Mock
+    JdbcRepository jdbcRepository;
+
+    PriceAlertWatchers priceAlertWatchers;
+
+    @BeforeEach
+    public void init() {
+        priceAlertWatchers = new PriceAlertWatchers(interestProductRepository);
+        priceAlertWatchers.add(5L, 10L);
+        priceAlertWatchers.add(1L, 10L);
+        priceAlertWatchers.add(3L, 10L);
+        priceAlertWatchers.add(2L, 12L);
+    }
+
+    @Test
+    @DisplayName("관심 회원을 id 순으로 나눠 저장하고, 이미 알린 가격 이상으로는 다시 알리지 않는다.")
+    public void 가격_하락_알림() {
+        // given
+        PriceAlertDispatcher dispatcher = new PriceAlertDispatcher(priceAlertWatchers, jdbcRepository, Runnable::run, 100, 3600000, 2);
+
+        // when
+        dispatcher.onLowestAskDropped(new LowestAskDroppedEvent(1L, 10L, 250, 100000));
+        dispatcher.onLowestAskDropped(new LowestAskDroppedEvent(1L, 10L, 250, 100000));
+        dispatcher.onLowestAskDropped(new LowestAskDroppedEvent(1L, 10L, 250, 90000));
+        dispatcher.onLowestAskDropped(new LowestAskDroppedEvent(1L, 11L, 255, 80000));
+
+        // then
+        then(jdbcRepository).should().saveAllPriceAlert(10L, 100000, 1L, 3L);
+        then(jdbcRepository).should().saveAllPriceAlert(10L, 100000, 5L, 5L);
+        then(jdbcRepository).should().saveAllPriceAlert(10L, 90000, 1L, 3L);
+        then(jdbcRepository).should().saveAllPriceAlert(10L, 90000, 5L, 5L);
+        then(jdbcRepository).should(never()).saveAllPriceAlert(eq(11L), anyInt(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("전송 전에 같은 사이즈가 여러 번 낮아지면 마지막 가격만 한 번 알리고, 대기 목록이 차면 새 사이즈는 버린다.")
+    public void 가격_하락_알림_대기() {
+        // given
+        List<Runnable> tasks = new ArrayList<>();
+        PriceAlertDispatcher dispatcher = new PriceAlertDispatcher(priceAlertWatchers, jdbcRepository, tasks::add, 1, 3600000, 1000);
+
+        // when
+        dispatcher.onLowestAskDropped(new LowestAskDroppedEvent(1L, 10L, 250, 100000));
+        dispatcher.onLowestAskDropped(new LowestAskDroppedEvent(1L, 10L, 250, 95000));
+        dispatcher.onLowestAskDropped(new LowestAskDroppedEvent(1L, 12L, 260, 70000));
+        assertThat(tasks).hasSize(1);
+        tasks.get(0).run();
+
+        // then
+        then(jdbcRepository).should(times(1)).saveAllPriceAlert(eq(10L), anyInt(), anyLong(), anyLong());
+        then(jdbcRepository).should().saveAllPriceAlert(10L, 95000, 1L, 5L);
+        then(jdbcRepository).should(never()).saveAllPriceAlert(eq(12L), anyInt(), anyLong(), anyLong());
+    }
+}
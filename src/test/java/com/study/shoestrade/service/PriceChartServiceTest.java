@@ -0,0 +1,109 @@
+package com.study.shoestrade.service;
+
+import com.study.shoestrade.domain.product.Product;
+import com.study.shoestrade.domain.product.ProductSize;
+import com.study.shoestrade.domain.trade.CandleResolution;
+import com.study.shoestrade.domain.trade.PriceCandle;
+import com.study.shoestrade.domain.trade.Trade;
+import com.study.shoestrade.domain.trade.TradeState;
+import com.study.shoestrade.exception.trade.WrongResolutionException;
+import com.study.shoestrade.repository.jdbc.JdbcRepository;
+import com.study.shoestrade.repository.product.ProductRepository;
+import com.study.shoestrade.repository.trade.PriceCandleRepository;
+import com.study.shoestrade.service.trade.PriceChartService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class PriceChartServiceTest {
+
+    @InjectMocks
+    PriceChartService priceChartService;
+
+    @Mock
+    PriceCandleRepository priceCandleRepository;
+    @Mock
+    ProductRepository productRepository;
+    @Mock
+    JdbcRepository jdbcRepository;
+
+    @Captor
+    ArgumentCaptor<List<PriceCandle>> candleCaptor;
+
+    @Test
+    @DisplayName("완료된 거래는 상품 전체와 사이즈의 1시간, 1일, 1주 봉에 누적된다.")
+    public void 봉_누적() {
+        // given
+        Product product = Product.builder().id(1L).build();
+        ProductSize productSize = ProductSize.builder().id(10L).size(250).product(product).build();
+        // 2022-03-24 (목)
+        LocalDateTime tradeDate = LocalDateTime.of(2022, 3, 24, 13, 45, 10);
+        Trade trade = Trade.builder()
+                .id(1L)
+                .price(150000)
+                .productSize(productSize)
+                .tradeState(TradeState.DONE)
+                .tradeCompletionDate(tradeDate)
+                .build();
+
+        // when
+        priceChartService.addTrade(trade);
+
+        // then
+        then(jdbcRepository).should().upsertAllCandle(candleCaptor.capture());
+        List<PriceCandle> candles = candleCaptor.getValue();
+
+        assertThat(candles).hasSize(6);
+        assertThat(candles).extracting(PriceCandle::getProductSizeId).containsOnly(PriceCandle.ALL_SIZE, 10L);
+        assertThat(candles).extracting(PriceCandle::getClosePrice).containsOnly(150000);
+        assertThat(candles).filteredOn(candle -> candle.getResolution() == CandleResolution.HOUR)
+                .extracting(PriceCandle::getBucketStart).containsOnly(LocalDateTime.of(2022, 3, 24, 13, 0));
+        assertThat(candles).filteredOn(candle -> candle.getResolution() == CandleResolution.DAY)
+                .extracting(PriceCandle::getBucketStart).containsOnly(LocalDateTime.of(2022, 3, 24, 0, 0));
+        assertThat(candles).filteredOn(candle -> candle.getResolution() == CandleResolution.WEEK)
+                .extracting(PriceCandle::getBucketStart).containsOnly(LocalDateTime.of(2022, 3, 21, 0, 0));
+    }
+
+    @Test
+    @DisplayName("기간을 지정하지 않으면 최근 200개 봉 범위의 전체 사이즈 차트를 조회한다.")
+    public void 차트_조회() {
+        // given
+        LocalDateTime to = LocalDateTime.of(2022, 3, 24, 13, 45);
+        given(productRepository.findById(any())).willReturn(Optional.of(Product.builder().id(1L).build()));
+
+        // when
+        priceChartService.findChart(1L, null, "1h", null, to);
+
+        // then
+        then(priceCandleRepository).should().findCandles(1L, PriceCandle.ALL_SIZE, CandleResolution.HOUR,
+                LocalDateTime.of(2022, 3, 16, 6, 0), to);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 봉 단위로 조회하면 예외가 발생한다.")
+    public void 차트_조회_실패() {
+        // given
+        given(productRepository.findById(any())).willReturn(Optional.of(Product.builder().id(1L).build()));
+
+        // when
+        // then
+        assertThatThrownBy(() -> priceChartService.findChart(1L, null, "5m", null, null))
+                .isInstanceOf(WrongResolutionException.class);
+    }
+}
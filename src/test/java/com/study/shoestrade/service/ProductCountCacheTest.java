@@ -0,0 +1,64 @@
+package com.study.shoestrade.service;
+
+import com.study.shoestrade.service.product.search.ProductCountCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductCountCacheTest {
+
+    ProductCountCache productCountCache = new ProductCountCache();
+
+    @Test
+    @DisplayName("대소문자, 브랜드 순서만 다른 검색 조건은 같은 개수를 사용한다.")
+    public void 개수_캐시() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        long first = productCountCache.get("Nike", List.of(1L, 2L), () -> {
+            loads.incrementAndGet();
+            return 10;
+        });
+        long second = productCountCache.get("nike", List.of(2L, 1L), () -> {
+            loads.incrementAndGet();
+            return 20;
+        });
+
+        // then
+        assertThat(first).isEqualTo(10);
+        assertThat(second).isEqualTo(10);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("상품이 바뀌어 무효화되면 개수를 다시 조회한다.")
+    public void 개수_무효화() {
+        // given
+        productCountCache.get("", List.of(), () -> 10);
+
+        // when
+        productCountCache.invalidate();
+
+        // then
+        assertThat(productCountCache.get("", List.of(), () -> 11)).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("개수를 조회하는 동안 무효화되면 조회한 개수는 저장하지 않는다.")
+    public void 조회_중_무효화() {
+        // given
+        productCountCache.get("", List.of(), () -> {
+            productCountCache.invalidate();
+            return 10;
+        });
+
+        // when
+        // then
+        assertThat(productCountCache.get("", List.of(), () -> 11)).isEqualTo(11);
+    }
+}
@@ -0,0 +1,144 @@
+package com.study.shoestrade.service;
+
+import com.study.shoestrade.dto.product.response.ProductDetailCacheStatsDto;
+import com.study.shoestrade.dto.product.response.ProductDetailDto;
+import com.study.shoestrade.exception.product.ProductEmptyResultDataAccessException;
+import com.study.shoestrade.service.product.cache.ProductDetailCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductDetailCacheTest {
+
+    @Test
+    @DisplayName("한 번 조회한 상품은 무효화되기 전까지 캐시에서 반환한다.")
+    public void 캐시_적중() {
+        // given
+        ProductDetailCache productDetailCache = new ProductDetailCache(1 << 20);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            productDetailCache.get(1L, () -> detail(1L, loads.incrementAndGet()));
+        }
+        productDetailCache.invalidate(1L);
+        ProductDetailDto reloaded = productDetailCache.get(1L, () -> detail(1L, loads.incrementAndGet()));
+
+        // then
+        ProductDetailCacheStatsDto stats = productDetailCache.stats();
+        assertThat(reloaded.getLastedPrice()).isEqualTo(2);
+        assertThat(stats.getHits()).isEqualTo(2);
+        assertThat(stats.getMisses()).isEqualTo(2);
+        assertThat(stats.getLoads()).isEqualTo(2);
+        assertThat(stats.getInvalidations()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 상품을 동시에 조회하면 DB 조회는 한 번만 실행한다.")
+    public void 동시_조회() throws Exception {
+        // given
+        ProductDetailCache productDetailCache = new ProductDetailCache(1 << 20);
+        int threadCount = 16;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+        // when
+        List<Future<ProductDetailDto>> results = new ArrayList<>();
+        results.add(executorService.submit(() -> productDetailCache.get(1L, () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return detail(1L, 100000);
+        })));
+        loading.await(10, TimeUnit.SECONDS);
+        for (int i = 1; i < threadCount; i++) {
+            results.add(executorService.submit(() -> productDetailCache.get(1L, () -> detail(1L, loads.incrementAndGet()))));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        for (Future<ProductDetailDto> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS).getLastedPrice()).isEqualTo(100000);
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("조회 중에 무효화된 상품은 저장하지 않는다.")
+    public void 조회_중_무효화() {
+        // given
+        ProductDetailCache productDetailCache = new ProductDetailCache(1 << 20);
+
+        // when
+        productDetailCache.get(1L, () -> {
+            productDetailCache.invalidate(1L);
+            return detail(1L, 1);
+        });
+
+        // then
+        assertThat(productDetailCache.get(1L, () -> detail(1L, 2)).getLastedPrice()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("없는 상품은 저장하지 않고 예외를 그대로 전달한다.")
+    public void 조회_실패() {
+        // given
+        ProductDetailCache productDetailCache = new ProductDetailCache(1 << 20);
+
+        // when
+        // then
+        assertThatThrownBy(() -> productDetailCache.get(1L, () -> {
+            throw new ProductEmptyResultDataAccessException("1", 1);
+        })).isInstanceOf(ProductEmptyResultDataAccessException.class);
+        assertThat(productDetailCache.stats().getSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("추정 크기 합이 최대 크기를 넘으면 오래 조회하지 않은 상품부터 제거한다.")
+    public void 크기_초과_제거() {
+        // given
+        ProductDetailCache productDetailCache = new ProductDetailCache(1000);
+
+        // when
+        for (long id = 1; id <= 10; id++) {
+            long productId = id;
+            productDetailCache.get(productId, () -> detail(productId, 1));
+        }
+
+        // then
+        ProductDetailCacheStatsDto stats = productDetailCache.stats();
+        assertThat(stats.getWeightBytes()).isLessThanOrEqualTo(1000);
+        assertThat(stats.getEvictions()).isEqualTo(10 - stats.getSize());
+        assertThat(stats.getEvictions()).isPositive();
+    }
+
+    private static ProductDetailDto detail(Long id, int lastedPrice) {
+        return ProductDetailDto.builder()
+                .id(id)
+                .korName("나이키 에어맥스 97")
+                .engName("Nike Air Max 97")
+                .brandName("Nike")
+                .imageList(List.of("image1.png", "image2.png"))
+                .lastedPrice(lastedPrice)
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.study.shoestrade.service;
+
+import com.study.shoestrade.domain.trade.TradeState;
+import com.study.shoestrade.dto.product.ProductFacetDto;
+import com.study.shoestrade.dto.product.request.ProductFacetSearchDto;
+import com.study.shoestrade.dto.trade.response.TradeLoadDto;
+import com.study.shoestrade.event.trade.DepthChangedEvent;
+import com.study.shoestrade.repository.product.ProductRepository;
+import com.study.shoestrade.service.product.search.ProductFacetIndex;
+import com.study.shoestrade.service.trade.book.OrderBook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductFacetIndexTest {
+
+    @InjectMocks
+    ProductFacetIndex productFacetIndex;
+
+    @Mock
+    ProductRepository productRepository;
+    @Mock
+    OrderBook orderBook;
+
+    @BeforeEach
+    public void init() {
+        given(productRepository.findAllFacets()).willReturn(List.of(
+                new ProductFacetDto(1L, 1L, 139000),
+                new ProductFacetDto(2L, 1L, 219000),
+                new ProductFacetDto(3L, 2L, 159000),
+                new ProductFacetDto(4L, 2L, 99000)));
+        lenient().when(orderBook.findInstantTrade(any(), any())).thenReturn(List.of());
+        given(orderBook.findInstantTrade(1L, TradeState.SELL)).willReturn(List.of(
+                new TradeLoadDto(11L, 250, 180000), new TradeLoadDto(12L, 260, 175000)));
+        given(orderBook.findInstantTrade(2L, TradeState.SELL)).willReturn(List.of(new TradeLoadDto(21L, 250, 300000)));
+        given(orderBook.findInstantTrade(3L, TradeState.SELL)).willReturn(List.of(new TradeLoadDto(31L, 255, 179999)));
+
+        productFacetIndex.rebuild();
+        productFacetIndex.flush();
+    }
+
+    @Test
+    @DisplayName("여러 필터를 모두 만족하는 상품과 필터별 상품 수를 반환한다.")
+    public void 필터_검색() {
+        // given
+        ProductFacetSearchDto searchDto = ProductFacetSearchDto.builder()
+                .brandIdList(List.of(1L))
+                .sizeList(List.of(250))
+                .maxLowestAsk(200000)
+                .build();
+
+        // when
+        ProductFacetIndex.Result result = productFacetIndex.search(searchDto, null);
+
+        // then
+        assertThat(result.getProductIds()).containsExactly(1L);
+        // 브랜드 수는 사이즈, 가격 조건만, 사이즈 수는 브랜드, 가격 조건만 적용
+        assertThat(result.getBrandCounts()).isEqualTo(Map.of(1L, 1));
+        assertThat(result.getSizeCounts()).isEqualTo(Map.of(250, 1, 260, 1));
+    }
+
+    @Test
+    @DisplayName("가격 범위는 구간 경계의 실제 가격까지 비교하고 이름 검색 결과와 교집합을 구한다.")
+    public void 가격_범위() {
+        // given
+        ProductFacetSearchDto asks = ProductFacetSearchDto.builder().minLowestAsk(175000).maxLowestAsk(179999).build();
+        ProductFacetSearchDto releasePrices = ProductFacetSearchDto.builder().minReleasePrice(99000).maxReleasePrice(159000).build();
+
+        // when
+        // then
+        assertThat(productFacetIndex.search(asks, null).getProductIds()).containsExactly(1L, 3L);
+        assertThat(productFacetIndex.search(releasePrices, null).getProductIds()).containsExactly(1L, 3L, 4L);
+        assertThat(productFacetIndex.search(releasePrices, Set.of(3L, 2L)).getProductIds()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("판매 호가가 바뀐 상품만 주기마다 사이즈와 즉시 구매가를 다시 읽는다.")
+    public void 호가_변경() {
+        // given
+        clearInvocations(orderBook);
+        given(orderBook.findInstantTrade(4L, TradeState.SELL)).willReturn(List.of(new TradeLoadDto(41L, 270, 120000)));
+
+        // when
+        productFacetIndex.onDepthChanged(new DepthChangedEvent(4L, TradeState.SELL, 270, 120000, 1));
+        productFacetIndex.onDepthChanged(new DepthChangedEvent(2L, TradeState.PURCHASE, 250, 100000, 1));
+        productFacetIndex.flush();
+
+        // then
+        then(orderBook).should(times(1)).findInstantTrade(4L, TradeState.SELL);
+        then(orderBook).shouldHaveNoMoreInteractions();
+        assertThat(productFacetIndex.search(ProductFacetSearchDto.builder().sizeList(List.of(270)).build(), null)
+                .getProductIds()).containsExactly(4L);
+    }
+}
@@ -0,0 +1,100 @@
+package com.study.shoestrade.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.shoestrade.dto.product.response.ProductImportErrorDto;
+import com.study.shoestrade.dto.product.response.ProductImportStatusDto;
+import com.study.shoestrade.exception.product.WrongImportFormatException;
+import com.study.shoestrade.service.product.importer.ProductImportRow;
+import com.study.shoestrade.service.product.importer.ProductImportService;
+import com.study.shoestrade.service.product.importer.ProductImportWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class ProductImportServiceTest {
+
+    @Mock
+    ProductImportWriter productImportWriter;
+
+    @Captor
+    ArgumentCaptor<List<ProductImportRow>> chunkCaptor;
+
+    ProductImportService productImportService;
+
+    @BeforeEach
+    public void init() {
+        productImportService = new ProductImportService(productImportWriter, new ObjectMapper(), Runnable::run, 2);
+    }
+
+    @Test
+    @DisplayName("CSV 상품을 묶음 단위로 저장하고 읽지 못한 상품과 파일 안의 중복 상품은 실패로 기록한다.")
+    public void CSV_일괄_등록() {
+        // given
+        String csv = "korName,engName,code,color,releasePrice,brandId,imageList\n" +
+                "에어 맥스 1,Air Max 1,c1,white,139000,1,a.png|b.png\n" +
+                "\"에어 맥스 90, 화이트\",Air Max 90,c2,white,149000,1,\n" +
+                "에어 맥스 95,Air Max 95,c3,black,가격,1,\n" +
+                "에어 맥스 1,Air Max 1 OG,c4,red,159000,1,\n" +
+                "에어 맥스 97,Air Max 97,c5,silver,219000,2,c.png\n";
+        given(productImportWriter.writeChunk(any())).willReturn(List.of(),
+                List.of(new ProductImportErrorDto(5, "에어 맥스 97", "이미 등록된 상품 이름입니다.")));
+
+        // when
+        ProductImportStatusDto status = productImportService.startImport(
+                new MockMultipartFile("file", "2022-fw.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        then(productImportWriter).should(times(2)).writeChunk(chunkCaptor.capture());
+        assertThat(chunkCaptor.getAllValues().get(0)).extracting(ProductImportRow::getKorName)
+                .containsExactly("에어 맥스 1", "에어 맥스 90, 화이트");
+        assertThat(chunkCaptor.getAllValues().get(0).get(0).getProduct().getImageList()).containsExactly("a.png", "b.png");
+        assertThat(chunkCaptor.getAllValues().get(1)).extracting(ProductImportRow::getRow).containsExactly(5L);
+
+        assertThat(status.getState()).isEqualTo("DONE");
+        assertThat(status.getProcessedRows()).isEqualTo(5);
+        assertThat(status.getImportedRows()).isEqualTo(2);
+        assertThat(status.getFailedRows()).isEqualTo(3);
+        assertThat(status.getErrors()).extracting(ProductImportErrorDto::getRow).containsExactlyInAnyOrder(3L, 4L, 5L);
+        assertThat(productImportService.findImport(status.getJobId())).isEqualTo(status);
+    }
+
+    @Test
+    @DisplayName("JSON 배열의 상품을 한 건씩 읽어 저장하고, 배열이 아니면 작업이 실패한다.")
+    public void JSON_일괄_등록() {
+        // given
+        String json = "[{\"korName\": \"덩크 로우\", \"engName\": \"Dunk Low\", \"releasePrice\": 119000, \"brandId\": 1, \"imageList\": [\"d.png\"]}," +
+                " {\"korName\": \"조던 1\", \"engName\": \"Jordan 1\", \"releasePrice\": \"비쌈\", \"brandId\": 1}]";
+        given(productImportWriter.writeChunk(any())).willReturn(List.of());
+
+        // when
+        ProductImportStatusDto status = productImportService.startImport(
+                new MockMultipartFile("file", "products.JSON", "application/json", json.getBytes(StandardCharsets.UTF_8)));
+        ProductImportStatusDto broken = productImportService.startImport(
+                new MockMultipartFile("file", "broken.json", "application/json", "{}".getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertThat(status.getImportedRows()).isEqualTo(1);
+        assertThat(status.getErrors()).extracting(ProductImportErrorDto::getRow).containsExactly(2L);
+        assertThat(broken.getState()).isEqualTo("FAILED");
+        assertThatThrownBy(() -> productImportService.startImport(
+                new MockMultipartFile("file", "products.xlsx", null, new byte[0])))
+                .isInstanceOf(WrongImportFormatException.class);
+    }
+}
@@ -0,0 +1,119 @@
+package com.study.shoestrade.service;
+
+import com.study.shoestrade.domain.product.Product;
+import com.study.shoestrade.domain.product.ProductImage;
+import com.study.shoestrade.domain.product.ProductSize;
+import com.study.shoestrade.dto.brand.BrandDto;
+import com.study.shoestrade.dto.product.ProductNameDto;
+import com.study.shoestrade.dto.product.request.ProductSaveDto;
+import com.study.shoestrade.dto.product.response.ProductImportErrorDto;
+import com.study.shoestrade.repository.jdbc.JdbcRepository;
+import com.study.shoestrade.repository.product.ProductRepository;
+import com.study.shoestrade.service.brand.BrandCatalog;
+import com.study.shoestrade.service.product.cache.ProductThumbnailCache;
+import com.study.shoestrade.service.product.importer.ProductImportRow;
+import com.study.shoestrade.service.product.importer.ProductImportWriter;
+import com.study.shoestrade.service.product.search.ProductCountCache;
+import com.study.shoestrade.service.product.search.ProductFacetIndex;
+import com.study.shoestrade.service.product.search.ProductNameIndex;
+import com.study.shoestrade.service.product.search.ProductTrendingRanking;
+import com.study.shoestrade.service.product.search.ProductTypeahead;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class ProductImportWriterTest {
+
+    @InjectMocks
+    ProductImportWriter productImportWriter;
+
+    @Mock
+    ProductRepository productRepository;
+    @Mock
+    JdbcRepository jdbcRepository;
+    @Mock
+    BrandCatalog brandCatalog;
+    @Mock
+    ProductNameIndex productNameIndex;
+    @Mock
+    ProductCountCache productCountCache;
+    @Mock
+    ProductFacetIndex productFacetIndex;
+
+    @Mock
+    ProductTypeahead productTypeahead;
+
+    @Mock
+    ProductTrendingRanking productTrendingRanking;
+    @Mock
+    ProductThumbnailCache productThumbnailCache;
+
+    @Captor
+    ArgumentCaptor<List<Product>> productCaptor;
+    @Captor
+    ArgumentCaptor<List<ProductSize>> sizeCaptor;
+    @Captor
+    ArgumentCaptor<List<ProductImage>> imageCaptor;
+
+    @Test
+    @DisplayName("이름 중복은 쿼리 한 번으로 검사하고 나머지 상품과 사이즈 17개, 이미지를 한 번에 저장한다.")
+    public void 묶음_저장() {
+        // given
+        given(brandCatalog.findById(1L)).willReturn(Optional.of(BrandDto.builder().id(1L).build()));
+        given(brandCatalog.findById(9L)).willReturn(Optional.empty());
+        given(productRepository.findAllNamesIn(any(), any())).willReturn(List.of(new ProductNameDto(7L, "조던 1", "Jordan 1")));
+        given(jdbcRepository.saveAllProduct(any())).willReturn(List.of(101L, 102L));
+
+        List<ProductImportRow> rows = List.of(
+                row(1, "덩크 로우", "Dunk Low", 1L, "d1.png", "d2.png"),
+                row(2, "조던 1", "Jordan 1 Retro", 1L),
+                row(3, "에어 포스 1", "Air Force 1", 1L),
+                row(4, "슈퍼스타", "Superstar", 9L));
+
+        // when
+        List<ProductImportErrorDto> errors = productImportWriter.writeChunk(rows);
+
+        // then
+        assertThat(errors).extracting(ProductImportErrorDto::getRow).containsExactlyInAnyOrder(2L, 4L);
+        then(productRepository).should(times(1)).findAllNamesIn(any(), any());
+
+        then(jdbcRepository).should().saveAllProduct(productCaptor.capture());
+        assertThat(productCaptor.getValue()).extracting(Product::getKorName).containsExactly("덩크 로우", "에어 포스 1");
+
+        then(jdbcRepository).should().saveAllSize(sizeCaptor.capture());
+        assertThat(sizeCaptor.getValue()).hasSize(34);
+        assertThat(sizeCaptor.getValue()).extracting(ProductSize::getSize).contains(220, 300);
+
+        then(jdbcRepository).should().saveAllImage(imageCaptor.capture());
+        assertThat(imageCaptor.getValue()).extracting(image -> image.getProduct().getId()).containsExactly(101L, 101L);
+
+        then(productNameIndex).should().put(102L, "에어 포스 1", "Air Force 1");
+        then(productThumbnailCache).should().put(101L, "d1.png");
+    }
+
+    private ProductImportRow row(long row, String korName, String engName, Long brandId, String... images) {
+        return ProductImportRow.of(row, ProductSaveDto.builder()
+                .korName(korName)
+                .engName(engName)
+                .releasePrice(100000)
+                .brandId(brandId)
+                .imageList(new ArrayList<>(List.of(images)))
+                .build());
+    }
+}
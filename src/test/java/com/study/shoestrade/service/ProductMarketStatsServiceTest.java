@@ -0,0 +1,94 @@
+package com.study.shoestrade.service;
+
+import com.study.shoestrade.domain.product.ProductMarketStats;
+import com.study.shoestrade.domain.trade.TradeState;
+import com.study.shoestrade.dto.trade.response.TradeLoadDto;
+import com.study.shoestrade.event.trade.DepthChangedEvent;
+import com.study.shoestrade.event.trade.TradeCompletedEvent;
+import com.study.shoestrade.repository.jdbc.JdbcRepository;
+import com.study.shoestrade.service.product.ProductMarketStatsService;
+import com.study.shoestrade.service.product.cache.ProductDetailCache;
+import com.study.shoestrade.service.trade.book.OrderBook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class ProductMarketStatsServiceTest {
+
+    @InjectMocks
+    ProductMarketStatsService productMarketStatsService;
+
+    @Mock
+    JdbcRepository jdbcRepository;
+    @Mock
+    OrderBook orderBook;
+    @Mock
+    ProductDetailCache productDetailCache;
+
+    @Captor
+    ArgumentCaptor<List<ProductMarketStats>> statsCaptor;
+
+    @Test
+    @DisplayName("거래가 완료되면 상품의 완료 거래 수와 최근 거래가를 누적한다.")
+    public void 거래_완료_누적() {
+        // given
+        LocalDateTime tradeDate = LocalDateTime.of(2022, 3, 24, 13, 45);
+
+        // when
+        productMarketStatsService.onTradeCompleted(new TradeCompletedEvent(1L, 2L, 10L, 150000, tradeDate));
+
+        // then
+        then(jdbcRepository).should().addDoneTrade(2L, 150000, tradeDate);
+        then(productDetailCache).should().invalidate(2L);
+    }
+
+    @Test
+    @DisplayName("호가창이 여러 번 바뀌어도 상품별로 한 번만 계산하고 즉시 구매가, 즉시 판매가가 바뀐 상품만 저장한다.")
+    public void 즉시_거래가_저장() {
+        // given
+        given(orderBook.findInstantTrade(1L, TradeState.SELL)).willReturn(List.of(
+                new TradeLoadDto(1L, 250, 120000), new TradeLoadDto(2L, 255, 110000)));
+        given(orderBook.findInstantTrade(1L, TradeState.PURCHASE)).willReturn(List.of(new TradeLoadDto(3L, 250, 90000)));
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            productMarketStatsService.onDepthChanged(new DepthChangedEvent(1L, TradeState.SELL, 250, 120000, i));
+        }
+        productMarketStatsService.flush();
+        productMarketStatsService.onDepthChanged(new DepthChangedEvent(1L, TradeState.SELL, 260, 130000, 1));
+        productMarketStatsService.flush();
+
+        // then
+        then(orderBook).should(times(2)).findInstantTrade(1L, TradeState.SELL);
+        then(jdbcRepository).should(times(1)).upsertAllBestPrice(statsCaptor.capture());
+        assertThat(statsCaptor.getValue()).hasSize(1);
+        assertThat(statsCaptor.getValue().get(0).getLowestAsk()).isEqualTo(110000);
+        assertThat(statsCaptor.getValue().get(0).getHighestBid()).isEqualTo(90000);
+    }
+
+    @Test
+    @DisplayName("호가창이 바뀐 상품이 없으면 저장하지 않는다.")
+    public void 변경_없음() {
+        // when
+        productMarketStatsService.flush();
+
+        // then
+        then(jdbcRepository).should(never()).upsertAllBestPrice(any());
+    }
+}
@@ -0,0 +1,71 @@
+package com.study.shoestrade.service;
+
+import com.study.shoestrade.dto.product.ProductNameDto;
+import com.study.shoestrade.repository.product.ProductRepository;
+import com.study.shoestrade.service.product.search.ProductNameIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ProductNameIndexTest {
+
+    @Mock
+    ProductRepository productRepository;
+
+    ProductNameIndex productNameIndex;
+
+    @BeforeEach
+    public void init() {
+        given(productRepository.findAllNames()).willReturn(List.of(
+                new ProductNameDto(1L, "나이키 에어맥스 97", "Nike Air Max 97"),
+                new ProductNameDto(2L, "나이키 에어포스 1", "Nike Air Force 1"),
+                new ProductNameDto(3L, "아디다스 이지 부스트", "Adidas Yeezy Boost")));
+
+        productNameIndex = new ProductNameIndex(productRepository);
+        productNameIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("한글, 영어 이름에 검색어가 포함된 상품을 대소문자 구분 없이 찾는다.")
+    public void 이름_검색() {
+        // when
+        // then
+        assertThat(productNameIndex.isReady()).isTrue();
+        assertThat(productNameIndex.search("에어")).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(productNameIndex.search("AIR MAX")).containsExactly(1L);
+        assertThat(productNameIndex.search("boost")).containsExactly(3L);
+        assertThat(productNameIndex.search("지")).containsExactly(3L);
+        assertThat(productNameIndex.search("에어조던")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색어의 n-gram 이 여러 상품에 나뉘어 있으면 찾지 않는다.")
+    public void 이름_검색_교집합() {
+        // when
+        // then
+        assertThat(productNameIndex.search("맥스 97")).containsExactly(1L);
+        assertThat(productNameIndex.search("에어포스 97")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상품 이름이 바뀌거나 삭제되면 색인에 반영된다.")
+    public void 색인_변경() {
+        // when
+        productNameIndex.put(2L, "나이키 덩크 로우", "Nike Dunk Low");
+        productNameIndex.remove(3L);
+
+        // then
+        assertThat(productNameIndex.search("에어")).containsExactly(1L);
+        assertThat(productNameIndex.search("dunk")).containsExactly(2L);
+        assertThat(productNameIndex.search("yeezy")).isEmpty();
+    }
+}
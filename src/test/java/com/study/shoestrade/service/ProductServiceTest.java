@@ -3,21 +3,35 @@ package com.study.shoestrade.service;
 import com.study.shoestrade.domain.product.Brand;
 import com.study.shoestrade.domain.product.Product;
 import com.study.shoestrade.domain.product.ProductImage;
+import com.study.shoestrade.dto.brand.BrandDto;
 import com.study.shoestrade.dto.product.ProductImageAddDto;
+import com.study.shoestrade.dto.product.request.ProductFacetSearchDto;
 import com.study.shoestrade.dto.product.request.ProductSaveDto;
 import com.study.shoestrade.dto.product.request.ProductSearchDto;
 import com.study.shoestrade.dto.product.response.ProductDetailDto;
+import com.study.shoestrade.dto.product.response.ProductFacetResultDto;
 import com.study.shoestrade.dto.product.response.ProductLoadDto;
 import com.study.shoestrade.repository.brand.BrandRepository;
 import com.study.shoestrade.repository.jdbc.JdbcRepository;
 import com.study.shoestrade.repository.product.ProductImageRepository;
 import com.study.shoestrade.repository.product.ProductRepository;
+import com.study.shoestrade.service.brand.BrandCatalog;
 import com.study.shoestrade.service.product.ProductServiceImpl;
+import com.study.shoestrade.service.product.search.ProductCountCache;
+import com.study.shoestrade.service.product.search.ProductFacetIndex;
+import com.study.shoestrade.service.product.search.ProductNameIndex;
+import com.study.shoestrade.service.interest.InterestCounter;
+import com.study.shoestrade.service.product.search.ProductTrendingRanking;
+import com.study.shoestrade.service.product.search.ProductTypeahead;
+import com.study.shoestrade.service.product.cache.ProductDetailCache;
+import com.study.shoestrade.service.product.cache.ProductThumbnailCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -27,12 +41,19 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 class ProductServiceTest {
@@ -46,12 +67,39 @@ class ProductServiceTest {
     @Mock
     private BrandRepository brandRepository;
 
+    @Mock
+    private BrandCatalog brandCatalog;
+
     @Mock
     private ProductImageRepository productImageRepository;
 
     @Mock
     private JdbcRepository jdbcRepository;
 
+    @Mock
+    private ProductNameIndex productNameIndex;
+
+    @Mock
+    private ProductCountCache productCountCache;
+
+    @Spy
+    private ProductDetailCache productDetailCache = new ProductDetailCache(1 << 20);
+
+    @Mock
+    private ProductThumbnailCache productThumbnailCache;
+
+    @Mock
+    private ProductFacetIndex productFacetIndex;
+
+    @Mock
+    private ProductTypeahead productTypeahead;
+
+    @Mock
+    private ProductTrendingRanking productTrendingRanking;
+
+    @Mock
+    private InterestCounter interestCounter;
+
     @Test
     @DisplayName("상품_등록_테스트")
     void 상품_등록() {
@@ -71,7 +119,8 @@ class ProductServiceTest {
         Product product = productDto.toEntity(brand);
 
         given(productRepository.save(any())).willReturn(product);
-        given(brandRepository.findById(any())).willReturn(Optional.ofNullable(brand));
+        given(brandCatalog.findById(any())).willReturn(Optional.of(BrandDto.create(brand)));
+        given(brandRepository.getById(any())).willReturn(brand);
         willDoNothing().given(jdbcRepository).saveAllImage(any());
         willDoNothing().given(jdbcRepository).saveAllSize(any());
 
@@ -106,13 +155,19 @@ class ProductServiceTest {
 
 
         given(productRepository.findById(any())).willReturn(Optional.ofNullable(product));
-        given(brandRepository.findById(any())).willReturn(Optional.ofNullable(brand));
+        given(brandCatalog.findById(any())).willReturn(Optional.of(BrandDto.create(Brand.builder()
+                .korName("브랜드1")
+                .engName("brand1")
+                .id(2L)
+                .build())));
+        given(brandRepository.getById(any())).willReturn(brand);
 
         // when
         productService.updateProduct(1L, updateDto);
 
         // then
         assertThat(product.getKorName()).isEqualTo(updateDto.getKorName());
+        then(jdbcRepository).should().updateWishlistProduct(1L, "변경 후 상품명", 2L, "brand1");
     }
 
     @Test
@@ -139,7 +194,7 @@ class ProductServiceTest {
         PageImpl<ProductLoadDto> page = new PageImpl<>(list);
         PageRequest pageRequest = PageRequest.of(0, 3);
 
-        given(productRepository.findProduct(any(), any(), any())).willReturn(page);
+        given(productRepository.findProduct(any(), any(), any(), any())).willReturn(page);
 
         // when
         ProductSearchDto productSearchDto = ProductSearchDto.builder()
@@ -158,6 +213,107 @@ class ProductServiceTest {
         assertThat(findPages.getSize()).isEqualTo(result.getSize());
     }
 
+    @Test
+    @DisplayName("이름 색인이 만들어져 있으면 색인으로 찾은 상품 id 안에서 검색한다.")
+    void 상품_검색_색인() {
+        // given
+        PageRequest pageRequest = PageRequest.of(0, 3);
+        ProductSearchDto productSearchDto = ProductSearchDto.builder()
+                .name("에어")
+                .brandIdList(new ArrayList<>(List.of(1L)))
+                .build();
+
+        given(productNameIndex.isReady()).willReturn(true);
+        given(productNameIndex.search("에어")).willReturn(Set.of(1L, 2L));
+        given(productRepository.findProductInIds(eq(Set.of(1L, 2L)), eq(productSearchDto.getBrandIdList()), eq(pageRequest), any()))
+                .willReturn(new PageImpl<>(new ArrayList<>()));
+
+        // when
+        productService.findProductByNameInBrand(productSearchDto, pageRequest);
+
+        // then
+        then(productRepository).should(never()).findProduct(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("이름 색인으로 찾은 상품이 너무 많으면 메모리에서 최신 등록 순으로 나눈 한 페이지의 상품만 조회한다.")
+    void 상품_검색_색인_결과_초과() {
+        // given
+        PageRequest pageRequest = PageRequest.of(0, 2);
+        ProductSearchDto productSearchDto = ProductSearchDto.builder()
+                .name("에어")
+                .brandIdList(new ArrayList<>(List.of(1L)))
+                .build();
+        Set<Long> nameMatch = LongStream.rangeClosed(1, 1001).boxed().collect(Collectors.toSet());
+        ProductFacetIndex.Result facetResult = mock(ProductFacetIndex.Result.class);
+
+        given(productNameIndex.isReady()).willReturn(true);
+        given(productNameIndex.search("에어")).willReturn(nameMatch);
+        given(productFacetIndex.search(any(), eq(nameMatch))).willReturn(facetResult);
+        given(facetResult.getProductIds()).willReturn(List.of(4L, 9L, 1001L));
+        given(productRepository.findProductByIds(List.of(1001L, 9L))).willReturn(List.of(
+                ProductLoadDto.builder().id(9L).korName("상품9").build(),
+                ProductLoadDto.builder().id(1001L).korName("상품1001").build()));
+
+        // when
+        Page<ProductLoadDto> result = productService.findProductByNameInBrand(productSearchDto, pageRequest);
+
+        // then
+        assertThat(result.getContent()).extracting(ProductLoadDto::getId).containsExactly(1001L, 9L);
+        assertThat(result.getTotalElements()).isEqualTo(3L);
+        then(productRepository).should(never()).findProduct(any(), any(), any(), any());
+        then(productRepository).should(never()).findProductInIds(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("검색 조건이 없으면 인기 순위의 상품 id 순서대로 한 페이지를 조회한다.")
+    void 상품_검색_인기순() {
+        // given
+        PageRequest pageRequest = PageRequest.of(1, 2);
+        ProductSearchDto productSearchDto = ProductSearchDto.builder()
+                .name("")
+                .brandIdList(new ArrayList<>())
+                .build();
+
+        given(productTrendingRanking.isReady()).willReturn(true);
+        given(productTrendingRanking.findPage(2L, 2)).willReturn(List.of(7L, 3L));
+        given(productRepository.findProductByIds(List.of(7L, 3L))).willReturn(List.of(
+                ProductLoadDto.builder().id(3L).korName("상품3").build(),
+                ProductLoadDto.builder().id(7L).korName("상품7").build()));
+        given(productTrendingRanking.size()).willReturn(10);
+
+        // when
+        Page<ProductLoadDto> result = productService.findProductByNameInBrand(productSearchDto, pageRequest);
+
+        // then
+        assertThat(result.getContent()).extracting(ProductLoadDto::getId).containsExactly(7L, 3L);
+        assertThat(result.getTotalElements()).isEqualTo(10L);
+        then(productRepository).should(never()).findProduct(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("필터 검색은 조건을 만족하는 상품 id 를 최신 등록 순으로 나눈 뒤 해당 페이지의 상품만 조회한다.")
+    void 상품_필터_검색() {
+        // given
+        PageRequest pageRequest = PageRequest.of(1, 2);
+        ProductFacetSearchDto productFacetSearchDto = ProductFacetSearchDto.builder().build();
+        ProductFacetIndex.Result facetResult = mock(ProductFacetIndex.Result.class);
+
+        given(productFacetIndex.search(productFacetSearchDto, null)).willReturn(facetResult);
+        given(facetResult.getProductIds()).willReturn(List.of(1L, 2L, 3L, 5L, 8L));
+        given(productRepository.findProductByIds(List.of(3L, 2L))).willReturn(List.of(
+                ProductLoadDto.builder().id(2L).korName("상품2").build(),
+                ProductLoadDto.builder().id(3L).korName("상품3").build()));
+
+        // when
+        ProductFacetResultDto result = productService.findProductByFacet(productFacetSearchDto, pageRequest);
+
+        // then
+        assertThat(result.getProducts().getContent()).extracting(ProductLoadDto::getId).containsExactly(3L, 2L);
+        assertThat(result.getProducts().getTotalElements()).isEqualTo(5L);
+        then(productRepository).should(never()).findProductInIds(any(), any(), any(), any());
+    }
+
     @Test
     @DisplayName("상품_이미지_등록_테스트")
     void 상품_이미지_등록() {
@@ -194,6 +350,23 @@ class ProductServiceTest {
                 .doesNotThrowAnyException();
     }
 
+    @Test
+    @DisplayName("상품 이미지를 삭제하면 남은 이미지로 대표 이미지를 다시 지정한다.")
+    void 상품_이미지_삭제_대표_이미지() {
+        // given
+        given(productImageRepository.findProductIdById(any())).willReturn(Optional.of(1L));
+
+        // when
+        productService.deleteProductImage(3L);
+
+        // then
+        InOrder inOrder = inOrder(productImageRepository, jdbcRepository, productThumbnailCache);
+        inOrder.verify(productImageRepository).deleteById(3L);
+        inOrder.verify(productImageRepository).flush();
+        inOrder.verify(jdbcRepository).updateThumbnail(1L);
+        inOrder.verify(productThumbnailCache).refresh(1L);
+    }
+
     @Test
     @DisplayName("상품_상세_검색_테스트")
     void 상품_상세_검색() {
@@ -213,4 +386,22 @@ class ProductServiceTest {
         // then
         assertThat(findProductDetail).isEqualTo(productDetailDto);
     }
+
+    @Test
+    @DisplayName("저장하지 않은 관심 상품 수 증감분은 캐시의 상세 정보를 바꾸지 않고 복사본에 더한다.")
+    void 상품_상세_검색_관심_수() {
+        // given
+        ProductDetailDto productDetailDto = ProductDetailDto.builder().korName("상품명").engName("engName").id(1L).interest(10).lastedPrice(10000).build();
+
+        given(productRepository.findProductDetail(1L)).willReturn(Optional.of(productDetailDto));
+        given(interestCounter.pending(1L)).willReturn(3L);
+
+        // when
+        ProductDetailDto findProductDetail = productService.findProductDetailById(1L);
+
+        // then
+        assertThat(findProductDetail.getInterest()).isEqualTo(13);
+        assertThat(findProductDetail.getLastedPrice()).isEqualTo(10000);
+        assertThat(productDetailDto.getInterest()).isEqualTo(10);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,70 @@
+package com.study.shoestrade.service;
+
+import com.study.shoestrade.dto.product.ProductThumbnailDto;
+import com.study.shoestrade.repository.jdbc.JdbcRepository;
+import com.study.shoestrade.repository.product.ProductRepository;
+import com.study.shoestrade.service.product.cache.ProductThumbnailCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+
+@ExtendWith(MockitoExtension.class)
+class ProductThumbnailCacheTest {
+
+    @InjectMocks
+    ProductThumbnailCache productThumbnailCache;
+
+    @Mock
+    ProductRepository productRepository;
+    @Mock
+    JdbcRepository jdbcRepository;
+
+    @Test
+    @DisplayName("대표 이미지가 없는 상품을 채운 뒤 전체 상품의 대표 이미지를 불러온다.")
+    public void 캐시_생성() {
+        // given
+        given(productRepository.findAllThumbnails()).willReturn(List.of(
+                new ProductThumbnailDto(1L, "image1.png"),
+                new ProductThumbnailDto(2L, "image2.png")));
+
+        // when
+        productThumbnailCache.rebuild();
+
+        // then
+        InOrder inOrder = inOrder(jdbcRepository, productRepository);
+        inOrder.verify(jdbcRepository).rebuildThumbnail();
+        inOrder.verify(productRepository).findAllThumbnails();
+        assertThat(productThumbnailCache.get(1L)).isEqualTo("image1.png");
+        assertThat(productThumbnailCache.get(2L)).isEqualTo("image2.png");
+        assertThat(productThumbnailCache.get(3L)).isNull();
+    }
+
+    @Test
+    @DisplayName("이미지가 모두 삭제된 상품은 다시 조회하면 대표 이미지가 없어진다.")
+    public void 대표_이미지_갱신() {
+        // given
+        given(productRepository.findAllThumbnails()).willReturn(List.of(new ProductThumbnailDto(1L, "image1.png")));
+        productThumbnailCache.rebuild();
+        given(productRepository.findThumbnailById(1L)).willReturn(Optional.empty());
+        given(productRepository.findThumbnailById(2L)).willReturn(Optional.of("image3.png"));
+
+        // when
+        productThumbnailCache.refresh(1L);
+        productThumbnailCache.refresh(2L);
+
+        // then
+        assertThat(productThumbnailCache.get(1L)).isNull();
+        assertThat(productThumbnailCache.get(2L)).isEqualTo("image3.png");
+    }
+}
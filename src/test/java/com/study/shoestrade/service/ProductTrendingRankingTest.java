@@ -0,0 +1,93 @@
+package com.study.shoestrade.service;
+
+import com.study.shoestrade.dto.product.ProductTrendingDto;
+import com.study.shoestrade.event.trade.TradeCompletedEvent;
+import com.study.shoestrade.repository.jdbc.JdbcRepository;
+import com.study.shoestrade.service.product.search.ProductTrendingRanking;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ProductTrendingRankingTest {
+
+    @Mock
+    JdbcRepository jdbcRepository;
+
+    ProductTrendingRanking productTrendingRanking;
+
+    @BeforeEach
+    public void init() {
+        given(jdbcRepository.findAllTrending(24 * 3600, 10 * 24 * 3600)).willReturn(List.of(
+                new ProductTrendingDto(1L, 3, 0),
+                new ProductTrendingDto(2L, 0, 5.5),
+                new ProductTrendingDto(3L, 1, 1),
+                new ProductTrendingDto(4L, 0, 0)));
+
+        productTrendingRanking = new ProductTrendingRanking(jdbcRepository, 24);
+        productTrendingRanking.rebuild();
+    }
+
+    @Test
+    @DisplayName("거래 점수와 관심 상품 수의 합으로 정렬하고 같으면 최근 상품이 앞에 온다.")
+    public void 인기순_페이지() {
+        // when
+        // then
+        assertThat(productTrendingRanking.isReady()).isTrue();
+        assertThat(productTrendingRanking.size()).isEqualTo(4);
+        assertThat(productTrendingRanking.findPage(0, 10)).containsExactly(2L, 1L, 3L, 4L);
+        assertThat(productTrendingRanking.findPage(1, 2)).containsExactly(1L, 3L);
+        assertThat(productTrendingRanking.findPage(4, 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("거래 완료, 관심 상품 변경 시 해당 상품의 순위만 옮긴다.")
+    public void 점수_변경() {
+        // when
+        productTrendingRanking.onTradeCompleted(new TradeCompletedEvent(1L, 4L, 10L, 100000, LocalDateTime.now()));
+        productTrendingRanking.onTradeCompleted(new TradeCompletedEvent(2L, 4L, 10L, 100000, LocalDateTime.now()));
+        productTrendingRanking.addInterest(4L, 4);
+        productTrendingRanking.addInterest(2L, -1);
+
+        // then
+        assertThat(productTrendingRanking.findPage(0, 10)).containsExactly(4L, 2L, 1L, 3L);
+    }
+
+    @Test
+    @DisplayName("오래된 거래는 반감기마다 절반의 점수만 더한다.")
+    public void 거래_점수_감소() {
+        // when
+        // 이틀 전 거래 (0.25), 하루 전 거래 (0.5) -> 상품 3은 2.75, 상품 1은 3
+        productTrendingRanking.onTradeCompleted(new TradeCompletedEvent(1L, 3L, 10L, 100000, LocalDateTime.now().minusDays(2)));
+        productTrendingRanking.onTradeCompleted(new TradeCompletedEvent(2L, 3L, 10L, 100000, LocalDateTime.now().minusDays(1)));
+        productTrendingRanking.rebase();
+
+        // then
+        assertThat(productTrendingRanking.findPage(0, 10)).containsExactly(2L, 1L, 3L, 4L);
+
+        // 방금 거래 하나 (1) 를 더하면 상품 3이 상품 1보다 앞
+        productTrendingRanking.onTradeCompleted(new TradeCompletedEvent(3L, 3L, 10L, 100000, LocalDateTime.now()));
+        assertThat(productTrendingRanking.findPage(0, 10)).containsExactly(2L, 3L, 1L, 4L);
+    }
+
+    @Test
+    @DisplayName("새 상품은 점수 0으로 추가되고, 삭제된 상품은 거래가 완료되어도 다시 들어오지 않는다.")
+    public void 상품_추가_삭제() {
+        // when
+        productTrendingRanking.put(5L);
+        productTrendingRanking.remove(2L);
+        productTrendingRanking.onTradeCompleted(new TradeCompletedEvent(1L, 2L, 10L, 100000, LocalDateTime.now()));
+
+        // then
+        assertThat(productTrendingRanking.findPage(0, 10)).containsExactly(1L, 3L, 5L, 4L);
+    }
+}
@@ -0,0 +1,104 @@
+package com.study.shoestrade.service;
+
+import com.study.shoestrade.domain.product.Brand;
+import com.study.shoestrade.dto.product.ProductTypeaheadDto;
+import com.study.shoestrade.dto.product.response.TypeaheadDto;
+import com.study.shoestrade.repository.brand.BrandRepository;
+import com.study.shoestrade.repository.product.ProductRepository;
+import com.study.shoestrade.service.product.search.ProductTypeahead;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ProductTypeaheadTest {
+
+    @Mock
+    ProductRepository productRepository;
+
+    @Mock
+    BrandRepository brandRepository;
+
+    ProductTypeahead productTypeahead;
+
+    @BeforeEach
+    public void init() {
+        given(productRepository.findAllTypeahead()).willReturn(List.of(
+                new ProductTypeaheadDto(1L, "나이키 에어맥스 97", "Nike Air Max 97", 1L, 5, 10L),
+                new ProductTypeaheadDto(2L, "나이키 에어포스 1", "Nike Air Force 1", 1L, 30, 20L),
+                new ProductTypeaheadDto(3L, "아디다스 이지 부스트", "Adidas Yeezy Boost", 2L, 1, null)));
+        given(brandRepository.findAll()).willReturn(List.of(
+                Brand.builder().id(1L).korName("나이키").engName("Nike").build(),
+                Brand.builder().id(2L).korName("아디다스").engName("Adidas").build()));
+
+        productTypeahead = new ProductTypeahead(productRepository, brandRepository);
+        productTypeahead.rebuild();
+    }
+
+    @Test
+    @DisplayName("이름의 단어가 검색어로 시작하는 상품, 브랜드를 인기순으로 찾는다.")
+    public void 자동완성() {
+        // when
+        // then
+        assertThat(names(productTypeahead.search("나이", 10))).containsExactly("나이키", "나이키 에어포스 1", "나이키 에어맥스 97");
+        assertThat(names(productTypeahead.search("에어", 10))).containsExactly("나이키 에어포스 1", "나이키 에어맥스 97");
+        assertThat(names(productTypeahead.search("AIR m", 10))).containsExactly("나이키 에어맥스 97");
+        assertThat(names(productTypeahead.search("부스트", 10))).containsExactly("아디다스 이지 부스트");
+        assertThat(productTypeahead.search("조던", 10)).isEmpty();
+        assertThat(productTypeahead.search(" ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("초성, 입력 중인 글자로도 찾는다.")
+    public void 자동완성_초성() {
+        // when
+        // then
+        assertThat(names(productTypeahead.search("ㄴㅇㅋ", 10))).containsExactly("나이키", "나이키 에어포스 1", "나이키 에어맥스 97");
+        assertThat(names(productTypeahead.search("ㅇㅇㅍ", 10))).containsExactly("나이키 에어포스 1");
+        assertThat(names(productTypeahead.search("에어맥ㅅ", 10))).containsExactly("나이키 에어맥스 97");
+        assertThat(names(productTypeahead.search("앋", 10))).containsExactly("아디다스", "아디다스 이지 부스트");
+        assertThat(names(productTypeahead.search("아딛", 10))).containsExactly("아디다스", "아디다스 이지 부스트");
+        assertThat(productTypeahead.search("앗", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("결과 수를 제한하고 브랜드는 소속 상품 인기도의 합으로 순위를 정한다.")
+    public void 자동완성_결과_수() {
+        // when
+        List<TypeaheadDto> result = productTypeahead.search("n", 1);
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getType()).isEqualTo(ProductTypeahead.BRAND);
+        assertThat(result.get(0).getId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("상품, 브랜드 이름이 바뀌거나 삭제되면 인기도를 유지한 채 반영된다.")
+    public void 색인_변경() {
+        // when
+        productTypeahead.putProduct(2L, "나이키 덩크 로우", "Nike Dunk Low");
+        productTypeahead.removeProduct(1L);
+        productTypeahead.putProduct(4L, "나이키 에어 조던 1", "Nike Air Jordan 1");
+        productTypeahead.removeBrand(2L);
+
+        // then
+        assertThat(names(productTypeahead.search("에어", 10))).containsExactly("나이키 에어 조던 1");
+        assertThat(names(productTypeahead.search("ㄷㅋ", 10))).containsExactly("나이키 덩크 로우");
+        assertThat(names(productTypeahead.search("나이키", 10))).containsExactly("나이키", "나이키 덩크 로우", "나이키 에어 조던 1");
+        assertThat(names(productTypeahead.search("아디", 10))).containsExactly("아디다스 이지 부스트");
+    }
+
+    private List<String> names(List<TypeaheadDto> result) {
+        return result.stream().map(TypeaheadDto::getKorName).collect(Collectors.toList());
+    }
+}
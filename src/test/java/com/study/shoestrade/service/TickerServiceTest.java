@@ -0,0 +1,96 @@
+package com.study.shoestrade.service;
+
+import com.study.shoestrade.domain.trade.TradeState;
+import com.study.shoestrade.event.trade.DepthChangedEvent;
+import com.study.shoestrade.repository.trade.TradeRepository;
+import com.study.shoestrade.service.trade.book.OrderBook;
+import com.study.shoestrade.service.trade.ticker.TickerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TickerServiceTest {
+
+    @Mock
+    OrderBook orderBook;
+    @Mock
+    TradeRepository tradeRepository;
+
+    Queue<Runnable> sendQueue;
+
+    @BeforeEach
+    public void init() {
+        sendQueue = new ArrayDeque<>();
+        given(orderBook.findTransactionTrade(any(), any(), any())).willReturn(Page.empty());
+    }
+
+    @Test
+    @DisplayName("같은 상품의 구독자가 여러 명이어도 시세는 한 번만 계산된다.")
+    public void 시세_한번_계산() {
+        // given
+        TickerService tickerService = new TickerService(orderBook, tradeRepository, Runnable::run);
+        for (int i = 0; i < 3; i++) {
+            tickerService.subscribe(1L);
+        }
+        tickerService.onDepthChanged(new DepthChangedEvent(1L, TradeState.SELL, 250, 100000, 2));
+        clearInvocations(orderBook);
+
+        // when
+        tickerService.publish();
+
+        // then
+        then(orderBook).should(times(1)).findInstantTrade(1L, TradeState.SELL);
+        then(orderBook).should(never()).findTransactionTrade(any(), any(), any());
+        then(tradeRepository).should(times(1)).findDoneTradeFirst(any(), any());
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 시세를 계산하지 않는다.")
+    public void 변경_없음() {
+        // given
+        TickerService tickerService = new TickerService(orderBook, tradeRepository, Runnable::run);
+        tickerService.subscribe(1L);
+        clearInvocations(orderBook);
+
+        // when
+        tickerService.publish();
+
+        // then
+        verifyNoInteractions(orderBook);
+    }
+
+    @Test
+    @DisplayName("메시지를 받지 못한 느린 구독자는 밀린 변경분 대신 최신 전체 호가 하나만 받는다.")
+    public void 느린_구독자() {
+        // given
+        TickerService tickerService = new TickerService(orderBook, tradeRepository, sendQueue::add);
+        tickerService.subscribe(1L);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            tickerService.onDepthChanged(new DepthChangedEvent(1L, TradeState.SELL, 250, 100000 + i, 1));
+            tickerService.publish();
+        }
+
+        // then
+        assertThat(sendQueue).hasSize(1);
+        clearInvocations(orderBook);
+        sendQueue.poll().run();
+        then(orderBook).should(times(2)).findTransactionTrade(any(), any(), any());
+        assertThat(sendQueue).isEmpty();
+    }
+}
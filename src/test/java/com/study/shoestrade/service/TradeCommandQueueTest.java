@@ -0,0 +1,119 @@
+package com.study.shoestrade.service;
+
+import com.study.shoestrade.dto.trade.response.TradeCommandQueueStatsDto;
+import com.study.shoestrade.exception.trade.WrongStateException;
+import com.study.shoestrade.repository.product.ProductSizeRepository;
+import com.study.shoestrade.repository.trade.TradeRepository;
+import com.study.shoestrade.service.trade.command.TradeCommandQueue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class TradeCommandQueueTest {
+
+    @Mock
+    TradeRepository tradeRepository;
+    @Mock
+    ProductSizeRepository productSizeRepository;
+
+    TradeCommandQueue tradeCommandQueue;
+
+    @AfterEach
+    public void shutdown() {
+        if (tradeCommandQueue != null) {
+            tradeCommandQueue.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 상품의 명령은 여러 스레드에서 요청해도 한 스레드에서 요청 순서대로 실행된다.")
+    public void 상품별_순차_실행() throws Exception {
+        // given
+        tradeCommandQueue = new TradeCommandQueue(tradeRepository, productSizeRepository, true, 4, 10000);
+        List<Integer> applied = new ArrayList<>();
+        List<String> threads = new ArrayList<>();
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            int sequence = i;
+            futures.add(tradeCommandQueue.submit(1L, () -> {
+                applied.add(sequence);
+                threads.add(Thread.currentThread().getName());
+                return sequence;
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(applied).hasSize(1000).isSorted();
+        assertThat(threads).containsOnly(threads.get(0));
+        assertThat(futures.get(999).get()).isEqualTo(999);
+        assertThat(tradeCommandQueue.findStats()).hasSize(4)
+                .extracting(TradeCommandQueueStatsDto::getCompleted).contains(1000L);
+    }
+
+    @Test
+    @DisplayName("명령에서 발생한 예외는 CompletableFuture 로 전달된다.")
+    public void 명령_실패() {
+        // given
+        tradeCommandQueue = new TradeCommandQueue(tradeRepository, productSizeRepository, true, 4, 10000);
+
+        // when
+        CompletableFuture<Object> future = tradeCommandQueue.submit(1L, () -> {
+            throw new WrongStateException("SELL");
+        });
+
+        // then
+        assertThatThrownBy(() -> future.get(10, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(WrongStateException.class);
+    }
+
+    @Test
+    @DisplayName("대기열을 사용하지 않으면 호출한 스레드에서 바로 실행하고 상품을 조회하지 않는다.")
+    public void 대기열_미사용() {
+        // given
+        tradeCommandQueue = new TradeCommandQueue(tradeRepository, productSizeRepository, false, 4, 10000);
+
+        // when
+        CompletableFuture<String> future = tradeCommandQueue.submitByTrade(1L, () -> Thread.currentThread().getName());
+
+        // then
+        assertThat(future).isCompletedWithValue(Thread.currentThread().getName());
+        assertThat(tradeCommandQueue.findStats()).isEmpty();
+        then(tradeRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("상품 사이즈로 요청하면 사이즈의 상품 id 를 한 번만 조회한다.")
+    public void 사이즈_상품_조회() throws Exception {
+        // given
+        tradeCommandQueue = new TradeCommandQueue(tradeRepository, productSizeRepository, true, 4, 10000);
+        given(productSizeRepository.findProductIdById(10L)).willReturn(Optional.of(1L));
+
+        // when
+        tradeCommandQueue.submitByProductSize(10L, () -> 1).get(10, TimeUnit.SECONDS);
+        tradeCommandQueue.submitByProductSize(10L, () -> 2).get(10, TimeUnit.SECONDS);
+
+        // then
+        then(productSizeRepository).should(times(1)).findProductIdById(10L);
+    }
+}
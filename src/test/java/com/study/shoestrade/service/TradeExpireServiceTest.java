@@ -0,0 +1,65 @@
+package com.study.shoestrade.service;
+
+import com.study.shoestrade.repository.trade.TradeRepository;
+import com.study.shoestrade.service.trade.TradeExpireService;
+import com.study.shoestrade.service.trade.book.OrderBook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class TradeExpireServiceTest {
+
+    @InjectMocks
+    TradeExpireService tradeExpireService;
+
+    @Mock
+    TradeRepository tradeRepository;
+    @Mock
+    OrderBook orderBook;
+
+    @Test
+    @DisplayName("만료된 입찰을 한 번의 update 로 만료 상태로 바꾸고 호가창에서 제거한다.")
+    public void 입찰_만료() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2022, 3, 24, 0, 0);
+        List<Long> ids = List.of(1L, 2L, 3L);
+        given(tradeRepository.findExpiredTrade(now, PageRequest.of(0, 500))).willReturn(ids);
+        given(tradeRepository.expireTrades(ids, now)).willReturn(3);
+
+        // when
+        int expired = tradeExpireService.expireChunk(now, 500);
+
+        // then
+        assertThat(expired).isEqualTo(3);
+        then(tradeRepository).should().expireTrades(ids, now);
+        ids.forEach(id -> then(orderBook).should().remove(id));
+    }
+
+    @Test
+    @DisplayName("만료된 입찰이 없으면 update 를 실행하지 않는다.")
+    public void 입찰_만료_없음() {
+        // given
+        given(tradeRepository.findExpiredTrade(any(), any())).willReturn(List.of());
+
+        // when
+        int expired = tradeExpireService.expireChunk(LocalDateTime.now(), 500);
+
+        // then
+        assertThat(expired).isZero();
+        then(tradeRepository).should(never()).expireTrades(any(), any());
+    }
+}
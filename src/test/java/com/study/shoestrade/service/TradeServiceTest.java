@@ -6,22 +6,34 @@ import com.study.shoestrade.domain.product.ProductSize;
 import com.study.shoestrade.domain.trade.Trade;
 import com.study.shoestrade.domain.trade.TradeState;
 import com.study.shoestrade.domain.trade.TradeType;
+import com.study.shoestrade.dto.trade.DoneTradeDto;
+import com.study.shoestrade.dto.trade.request.TradeBatchDto;
 import com.study.shoestrade.dto.trade.request.TradeDto;
+import com.study.shoestrade.dto.trade.response.TradeBatchResultDto;
 import com.study.shoestrade.dto.trade.response.TradeDoneDto;
+import com.study.shoestrade.dto.trade.response.TradeDoneSliceDto;
 import com.study.shoestrade.dto.trade.response.TradeTransactionDto;
 import com.study.shoestrade.exception.payment.MyTradeException;
+import com.study.shoestrade.exception.trade.TradeAlreadyClaimedException;
 import com.study.shoestrade.exception.trade.TradeEmptyResultDataAccessException;
+import com.study.shoestrade.exception.trade.WrongCursorException;
+import com.study.shoestrade.exception.trade.WrongTradeBatchException;
 import com.study.shoestrade.exception.trade.WrongTradeTypeException;
+import com.study.shoestrade.repository.jdbc.JdbcRepository;
 import com.study.shoestrade.repository.member.MemberRepository;
 import com.study.shoestrade.repository.product.ProductRepository;
 import com.study.shoestrade.repository.product.ProductSizeRepository;
 import com.study.shoestrade.repository.trade.TradeRepository;
 import com.study.shoestrade.service.member.MailService;
 import com.study.shoestrade.service.trade.TradeServiceImpl;
+import com.study.shoestrade.service.product.cache.ProductThumbnailCache;
+import com.study.shoestrade.service.trade.book.MatchingEngine;
+import com.study.shoestrade.service.trade.book.OrderBook;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -29,14 +41,20 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.BDDMockito.willDoNothing;
 
 @ExtendWith(MockitoExtension.class)
@@ -60,6 +78,18 @@ class TradeServiceTest {
     @Mock
     private MailService mailService;
 
+    @Mock
+    private OrderBook orderBook;
+
+    @Mock
+    private MatchingEngine matchingEngine;
+
+    @Mock
+    private JdbcRepository jdbcRepository;
+
+    @Mock
+    private ProductThumbnailCache productThumbnailCache;
+
     Member member, member2;
     ProductSize productSize;
     TradeDto tradeSaveDto;
@@ -115,6 +145,94 @@ class TradeServiceTest {
         assertThatCode(() -> tradeService.TradeSave(member.getEmail(), tradeSaveDto)).doesNotThrowAnyException();
     }
 
+    @Test
+    @DisplayName("체결 가능한 구매 입찰이 있으면 판매 입찰을 저장하지 않고 바로 체결한다.")
+    public void 입찰_등록_즉시_체결() {
+        // given
+        given(productSizeRepository.findById(any())).willReturn(Optional.ofNullable(productSize));
+        given(memberRepository.findByEmail(any())).willReturn(Optional.ofNullable(member));
+        given(matchingEngine.match(member, productSize, TradeType.SELL, tradeSaveDto.getPrice())).willReturn(Optional.of(purchase));
+
+        // when
+        tradeService.TradeSave(member.getEmail(), tradeSaveDto);
+
+        // then
+        then(tradeRepository).should(never()).save(any());
+        then(orderBook).should(never()).add(any());
+    }
+
+    @Test
+    @DisplayName("입찰 유효 기간을 생략하면 30일, 최대 기간을 넘기면 180일 뒤에 만료된다.")
+    public void 입찰_등록_유효_기간() {
+        // given
+        given(tradeRepository.save(any())).willReturn(sell);
+        given(productSizeRepository.findById(any())).willReturn(Optional.ofNullable(productSize));
+        given(memberRepository.findByEmail(any())).willReturn(Optional.ofNullable(member));
+        TradeDto longTradeDto = TradeDto.builder()
+                .price(1000)
+                .productSizeId(1L)
+                .tradeType(TradeType.SELL)
+                .validDays(365)
+                .build();
+        ArgumentCaptor<Trade> tradeCaptor = ArgumentCaptor.forClass(Trade.class);
+
+        // when
+        tradeService.TradeSave(member.getEmail(), tradeSaveDto);
+        tradeService.TradeSave(member.getEmail(), longTradeDto);
+
+        // then
+        then(tradeRepository).should(times(2)).save(tradeCaptor.capture());
+        assertThat(tradeCaptor.getAllValues()).extracting(trade -> trade.getExpireDate().toLocalDate())
+                .containsExactly(LocalDate.now().plusDays(30), LocalDate.now().plusDays(180));
+    }
+
+    @Test
+    @DisplayName("여러 사이즈의 입찰을 한 번에 등록하면 입찰별로 등록, 체결, 실패 결과를 반환한다.")
+    public void 입찰_일괄_등록() {
+        // given
+        ProductSize productSize2 = ProductSize.builder().id(2L).size(260).build();
+        TradeBatchDto tradeBatchDto = TradeBatchDto.builder()
+                .trades(List.of(
+                        TradeDto.builder().productSizeId(1L).price(1000).tradeType(TradeType.SELL).build(),
+                        TradeDto.builder().productSizeId(2L).price(90000).tradeType(TradeType.SELL).build(),
+                        TradeDto.builder().productSizeId(99L).price(1000).tradeType(TradeType.SELL).build()))
+                .build();
+
+        given(memberRepository.findByEmail(any())).willReturn(Optional.of(member));
+        given(productSizeRepository.findAllById(any())).willReturn(List.of(productSize, productSize2));
+        given(matchingEngine.match(any(), any(), any(), anyInt())).willAnswer(invocation ->
+                invocation.getArgument(1) == productSize2 ? Optional.of(purchase) : Optional.empty());
+        given(jdbcRepository.saveAllTrade(any())).willReturn(List.of(10L));
+
+        // when
+        List<TradeBatchResultDto> results = tradeService.saveTrades(member.getEmail(), tradeBatchDto);
+
+        // then
+        assertThat(results).extracting(TradeBatchResultDto::getStatus).containsExactly(
+                TradeBatchResultDto.Status.CREATED, TradeBatchResultDto.Status.MATCHED, TradeBatchResultDto.Status.FAILED);
+        assertThat(results).extracting(TradeBatchResultDto::getTradeId).containsExactly(10L, purchase.getId(), null);
+        then(productSizeRepository).should(times(1)).findAllById(any());
+        then(jdbcRepository).should(times(1)).saveAllTrade(any());
+        then(orderBook).should(times(1)).add(any());
+    }
+
+    @Test
+    @DisplayName("입찰 목록이 없거나 한 번에 등록할 수 있는 개수를 넘으면 일괄 등록하지 않는다.")
+    public void 입찰_일괄_등록_개수_오류() {
+        // given
+        TradeDto tradeDto = TradeDto.builder().productSizeId(1L).price(1000).tradeType(TradeType.SELL).build();
+        TradeBatchDto emptyBatch = TradeBatchDto.builder().build();
+        TradeBatchDto oversizeBatch = TradeBatchDto.builder()
+                .trades(Collections.nCopies(101, tradeDto))
+                .build();
+
+        // when
+        // then
+        assertThatThrownBy(() -> tradeService.saveTrades(member.getEmail(), emptyBatch)).isInstanceOf(WrongTradeBatchException.class).hasMessage("100");
+        assertThatThrownBy(() -> tradeService.saveTrades(member.getEmail(), oversizeBatch)).isInstanceOf(WrongTradeBatchException.class).hasMessage("100");
+        then(jdbcRepository).should(never()).saveAllTrade(any());
+    }
+
     @Test
     @DisplayName("입찰_수정_테스트")
     public void 입찰_수정() {
@@ -194,6 +312,44 @@ class TradeServiceTest {
         assertThat(resultPage).isEqualTo(page);
     }
 
+    @Test
+    @DisplayName("체결 거래 내역을 커서로 조회하면 마지막 거래 기준으로 다음 페이지를 조회한다.")
+    public void 체결_거래_내역_커서() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        given(productRepository.findById(any())).willReturn(Optional.ofNullable(Product.builder().id(1L).build()));
+        given(tradeRepository.findDoneTradeFirst(any(), any())).willReturn(new ArrayList<>(List.of(
+                new DoneTradeDto(3L, 250, 1000, now),
+                new DoneTradeDto(2L, 255, 2000, now),
+                new DoneTradeDto(1L, 260, 3000, now.minusDays(1)))));
+        given(tradeRepository.findDoneTradeAfter(1L, now, 2L, PageRequest.of(0, 3)))
+                .willReturn(new ArrayList<>(List.of(new DoneTradeDto(1L, 260, 3000, now.minusDays(1)))));
+
+        // when
+        TradeDoneSliceDto first = tradeService.findDoneTrade(1L, null, 2, false);
+        TradeDoneSliceDto second = tradeService.findDoneTrade(1L, first.getNextCursor(), 2, false);
+
+        // then
+        assertThat(first.getContent()).extracting(TradeDoneDto::getPrice).containsExactly(1000, 2000);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getTotalCount()).isNull();
+        assertThat(second.getContent()).extracting(TradeDoneDto::getPrice).containsExactly(3000);
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+        then(tradeRepository).should(never()).countDoneTrade(any());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 체결 거래 내역을 조회하면 예외가 발생한다.")
+    public void 체결_거래_내역_커서_실패() {
+        // given
+        given(productRepository.findById(any())).willReturn(Optional.ofNullable(Product.builder().id(1L).build()));
+
+        // when
+        // then
+        assertThatThrownBy(() -> tradeService.findDoneTrade(1L, "잘못된커서", 2, true)).isInstanceOf(WrongCursorException.class);
+    }
+
 
     @Test
     @DisplayName("입찰_내역_테스트")
@@ -207,11 +363,11 @@ class TradeServiceTest {
         PageRequest pageRequest = PageRequest.of(0, 3);
         Page<TradeTransactionDto> page = new PageImpl<>(new ArrayList<>(List.of(tradeTransactionDto)), pageRequest, 1);
 
-        given(tradeRepository.findTransactionTrade(any(), any(), any())).willReturn(page);
+        given(orderBook.findTransactionTrade(any(), any(), any())).willReturn(page);
         given(productRepository.findById(any())).willReturn(Optional.ofNullable(Product.builder().id(1L).build()));
 
         // when
-        Page<TradeTransactionDto> resultPage = tradeService.findTransactionTrade(1L, "sell", pageRequest);
+        Page<TradeTransactionDto> resultPage = tradeService.findTransactionTrade(1L, "sell", null, null, pageRequest);
 
         // then
         assertThat(resultPage).isEqualTo(page);
@@ -223,6 +379,7 @@ class TradeServiceTest {
         // given, mocking
         given(memberRepository.findByEmail(any())).willReturn(Optional.of(member));
         given(tradeRepository.findById(any())).willReturn(Optional.of(purchase));
+        given(tradeRepository.claimPurchase(any(), any(), any(), any())).willReturn(1);
 
         // when
         tradeService.sellTrade(member.getEmail(), purchase.getId());
@@ -233,6 +390,22 @@ class TradeServiceTest {
         assertThat(purchase.getClaimDueDate()).isNotNull();
     }
 
+    @Test
+    @DisplayName("다른 회원이 먼저 판매 체결한 구매 입찰이면 예외가 발생하고 상태는 바뀌지 않는다.")
+    public void 즉시_판매_체결_실패_동시_요청() {
+        // given, mocking
+        given(memberRepository.findByEmail(any())).willReturn(Optional.of(member));
+        given(tradeRepository.findById(any())).willReturn(Optional.of(purchase));
+        given(tradeRepository.claimPurchase(any(), any(), any(), any())).willReturn(0);
+
+        // when
+        // then
+        assertThatThrownBy(() -> tradeService.sellTrade(member.getEmail(), purchase.getId()))
+                .isInstanceOf(TradeAlreadyClaimedException.class);
+        assertThat(purchase.getTradeState()).isEqualTo(TradeState.PURCHASE);
+        then(mailService).should(never()).sendClaimMail(any(), any());
+    }
+
     @Test
     @DisplayName("요청한 거래의 상태가 PURCHASE가 아니면 WrongTradeTypeException 예외가 발생한다.")
     public void 즉시_판매_체결_실패1() {
@@ -0,0 +1,77 @@
+package com.study.shoestrade.service;
+
+import com.study.shoestrade.domain.trade.TradeState;
+import com.study.shoestrade.dto.trade.response.TradeLoadDto;
+import com.study.shoestrade.event.trade.DepthChangedEvent;
+import com.study.shoestrade.repository.jdbc.JdbcRepository;
+import com.study.shoestrade.service.interest.WishlistItemUpdater;
+import com.study.shoestrade.service.trade.book.OrderBook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class WishlistItemUpdaterTest {
+
+    @InjectMocks
+    WishlistItemUpdater wishlistItemUpdater;
+
+    @Mock
+    JdbcRepository jdbcRepository;
+    @Mock
+    OrderBook orderBook;
+
+    @Captor
+    ArgumentCaptor<Map<Integer, Integer>> lowestAskCaptor;
+
+    @Test
+    @DisplayName("판매 호가가 바뀐 사이즈만 즉시 구매가를 저장하고, 판매 입찰이 없어진 사이즈는 비운다.")
+    public void 즉시_구매가_저장() {
+        // given
+        given(orderBook.findInstantTrade(1L, TradeState.SELL)).willReturn(List.of(
+                new TradeLoadDto(1L, 250, 120000), new TradeLoadDto(2L, 255, 110000)));
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            wishlistItemUpdater.onDepthChanged(new DepthChangedEvent(1L, TradeState.SELL, 250, 120000, i));
+        }
+        wishlistItemUpdater.onDepthChanged(new DepthChangedEvent(1L, TradeState.PURCHASE, 255, 90000, 1));
+        wishlistItemUpdater.flush();
+        wishlistItemUpdater.onDepthChanged(new DepthChangedEvent(1L, TradeState.SELL, 250, 120000, 1));
+        wishlistItemUpdater.onDepthChanged(new DepthChangedEvent(1L, TradeState.SELL, 260, 130000, 0));
+        wishlistItemUpdater.flush();
+
+        // then
+        then(jdbcRepository).should(times(2)).updateAllWishlistLowestAsk(eq(1L), lowestAskCaptor.capture());
+        assertThat(lowestAskCaptor.getAllValues().get(0)).hasSize(1).containsEntry(250, 120000);
+        assertThat(lowestAskCaptor.getAllValues().get(1)).hasSize(1).containsEntry(260, null);
+    }
+
+    @Test
+    @DisplayName("구매 호가만 바뀌면 저장하지 않는다.")
+    public void 변경_없음() {
+        // when
+        wishlistItemUpdater.onDepthChanged(new DepthChangedEvent(1L, TradeState.PURCHASE, 250, 90000, 1));
+        wishlistItemUpdater.flush();
+
+        // then
+        then(orderBook).should(never()).findInstantTrade(any(), any());
+        then(jdbcRepository).should(never()).updateAllWishlistLowestAsk(any(), any());
+    }
+}